@@ -0,0 +1,190 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import io.vertx.core.Future;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.prebid.server.auction.categorymapping.CategoryMappingService;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidRequestCacheInfo;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.CategoryMappingResult;
+import org.prebid.server.auction.model.TimeoutContext;
+import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.cache.CacheService;
+import org.prebid.server.cache.model.CacheTtl;
+import org.prebid.server.events.EventsService;
+import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.hooks.execution.HookStageExecutor;
+import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
+import org.prebid.server.hooks.execution.v1.bidder.AllProcessedBidResponsesPayloadImpl;
+import org.prebid.server.hooks.execution.v1.bidder.BidderResponsePayloadImpl;
+import org.prebid.server.identity.NoneIdGenerator;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
+import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestTargeting;
+import org.prebid.server.proto.openrtb.ext.response.BidType;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.VideoStoredDataResult;
+import org.prebid.server.vast.VastModifier;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Auction response assembly by {@link BidResponseCreator}: bids update, winning bids selection
+ * and targeting keywords for every bidder's bid on every imp, without bids caching.
+ * <p>
+ * Hooks, category mapping and stored video data lookup are stubbed to complete immediately.
+ */
+@State(Scope.Benchmark)
+public class BidResponseCreatorBenchmark {
+
+    private static final JacksonMapper MAPPER = BenchmarkFixtures.MAPPER;
+
+    @Param({"1", "5"})
+    public int bidderCount;
+
+    @Param({"1", "10"})
+    public int impCount;
+
+    private BidResponseCreator bidResponseCreator;
+    private BidRequest bidRequest;
+    private List<AuctionParticipation> auctionParticipations;
+    private TimeoutFactory timeoutFactory;
+
+    @Setup
+    public void setUp() {
+        final Clock clock = Clock.systemUTC();
+        timeoutFactory = new TimeoutFactory(clock);
+
+        bidRequest = givenBidRequest();
+        auctionParticipations = givenAuctionParticipations();
+        bidResponseCreator = givenBidResponseCreator(clock);
+    }
+
+    @Benchmark
+    public BidResponse create() {
+        return bidResponseCreator.create(givenAuctionContext(), BidRequestCacheInfo.noCache(), Map.of()).result();
+    }
+
+    private BidRequest givenBidRequest() {
+        final ExtRequestTargeting targeting = ExtRequestTargeting.builder()
+                .pricegranularity(MAPPER.mapper().valueToTree(ExtPriceGranularity.of(
+                        2, List.of(ExtGranularityRange.of(BigDecimal.valueOf(20), BigDecimal.valueOf(0.1))))))
+                .includewinners(true)
+                .includebidderkeys(true)
+                .build();
+
+        return BenchmarkFixtures.withImpCount(BenchmarkFixtures.auctionRequest("generic"), impCount).toBuilder()
+                .cur(List.of("USD"))
+                .ext(ExtRequest.of(ExtRequestPrebid.builder().targeting(targeting).build()))
+                .build();
+    }
+
+    private List<AuctionParticipation> givenAuctionParticipations() {
+        final Bid bid = BenchmarkFixtures.bidderResponse("generic").getSeatbid().getFirst().getBid().getFirst();
+
+        return IntStream.range(0, bidderCount)
+                .mapToObj(bidderIndex -> {
+                    final String bidder = "bidder" + bidderIndex;
+                    final List<BidderBid> bids = bidRequest.getImp().stream()
+                            .map(imp -> bid.toBuilder()
+                                    .id(bid.getId() + bidderIndex + imp.getId())
+                                    .impid(imp.getId())
+                                    .price(bid.getPrice().add(BigDecimal.valueOf(bidderIndex)))
+                                    .build())
+                            .map(updatedBid -> BidderBid.of(updatedBid, BidType.banner, "USD"))
+                            .toList();
+
+                    return AuctionParticipation.builder()
+                            .bidder(bidder)
+                            .bidderResponse(BidderResponse.of(bidder, BidderSeatBid.of(bids), 100))
+                            .build();
+                })
+                .toList();
+    }
+
+    private AuctionContext givenAuctionContext() {
+        return AuctionContext.builder()
+                .account(Account.empty("accountId"))
+                .bidRequest(bidRequest)
+                .timeoutContext(TimeoutContext.of(0, timeoutFactory.create(5000L), 0))
+                .debugContext(DebugContext.empty())
+                .debugHttpCalls(new HashMap<>())
+                .debugWarnings(new ArrayList<>())
+                .auctionParticipations(auctionParticipations)
+                .bidRejectionTrackers(new HashMap<>())
+                .prebidErrors(new ArrayList<>())
+                .build();
+    }
+
+    private static BidResponseCreator givenBidResponseCreator(Clock clock) {
+        final CacheService cacheService = stub(CacheService.class);
+        given(cacheService.getEndpointHost()).willReturn("cache.prebid.org");
+        given(cacheService.getEndpointPath()).willReturn("/cache");
+        given(cacheService.getCachedAssetURLTemplate()).willReturn("uuid=");
+
+        final StoredRequestProcessor storedRequestProcessor = stub(StoredRequestProcessor.class);
+        given(storedRequestProcessor.videoStoredDataResult(any(), anyList(), anyList(), any()))
+                .willReturn(Future.succeededFuture(VideoStoredDataResult.empty()));
+
+        final CategoryMappingService categoryMappingService = stub(CategoryMappingService.class);
+        given(categoryMappingService.createCategoryMapping(any(), any(), any()))
+                .willAnswer(inv -> Future.succeededFuture(
+                        CategoryMappingResult.of(Map.of(), Map.of(), inv.getArgument(0), null)));
+
+        final HookStageExecutor hookStageExecutor = stub(HookStageExecutor.class);
+        given(hookStageExecutor.executeProcessedBidderResponseStage(any(), any()))
+                .willAnswer(inv -> Future.succeededFuture(HookStageExecutionResult.of(
+                        false,
+                        BidderResponsePayloadImpl.of(inv.<BidderResponse>getArgument(0).getSeatBid().getBids()))));
+        given(hookStageExecutor.executeAllProcessedBidResponsesStage(any(), any()))
+                .willAnswer(inv -> Future.succeededFuture(HookStageExecutionResult.of(
+                        false,
+                        AllProcessedBidResponsesPayloadImpl.of(inv.getArgument(0)))));
+
+        return new BidResponseCreator(
+                cacheService,
+                stub(BidderCatalog.class),
+                stub(VastModifier.class),
+                stub(EventsService.class),
+                storedRequestProcessor,
+                new WinningBidComparatorFactory(),
+                new NoneIdGenerator(),
+                hookStageExecutor,
+                categoryMappingService,
+                0,
+                clock,
+                MAPPER,
+                CacheTtl.of(null, null));
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return Mockito.mock(type, withSettings().stubOnly());
+    }
+}
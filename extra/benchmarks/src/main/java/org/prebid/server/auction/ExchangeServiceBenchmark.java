@@ -0,0 +1,284 @@
+package org.prebid.server.auction;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.User;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import io.vertx.core.Future;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
+import org.prebid.server.auction.adjustment.BidAdjustmentFactorResolver;
+import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessingResult;
+import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessor;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.BidderPrivacyResult;
+import org.prebid.server.auction.model.BidderRequest;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.StoredResponseResult;
+import org.prebid.server.auction.model.TimeoutContext;
+import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.auction.privacy.enforcement.PrivacyEnforcementService;
+import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.bidder.HttpBidderRequester;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.bidder.model.Price;
+import org.prebid.server.cookie.UidsCookie;
+import org.prebid.server.cookie.proto.Uids;
+import org.prebid.server.currency.CurrencyConversionService;
+import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.floors.PriceFloorAdjuster;
+import org.prebid.server.floors.PriceFloorEnforcer;
+import org.prebid.server.hooks.execution.HookStageExecutor;
+import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
+import org.prebid.server.hooks.execution.v1.auction.AuctionResponsePayloadImpl;
+import org.prebid.server.hooks.execution.v1.bidder.BidderRequestPayloadImpl;
+import org.prebid.server.hooks.execution.v1.bidder.BidderResponsePayloadImpl;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.JsonMerger;
+import org.prebid.server.log.CriteriaLogManager;
+import org.prebid.server.log.HttpInteractionLogger;
+import org.prebid.server.metric.AccountMetricsVerbosityResolver;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.model.CaseInsensitiveMultiMap;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.model.HttpRequestContext;
+import org.prebid.server.model.UpdateResult;
+import org.prebid.server.proto.openrtb.ext.response.BidType;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.spring.config.bidder.model.CompressionType;
+import org.prebid.server.spring.config.bidder.model.Ortb;
+import org.prebid.server.validation.ResponseBidValidator;
+import org.prebid.server.validation.model.ValidationResult;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Whole {@link ExchangeService#holdAuction} flow: splitting the request into per-bidder requests
+ * (imps, user, first party data, floors, etc.) and collecting bidder responses.
+ * <p>
+ * Bidders HTTP calls, privacy enforcement, hooks and response assembly are stubbed to complete immediately,
+ * so results reflect request splitting and responses processing done by {@link ExchangeService} itself
+ * (plus constant stubs overhead, which is the same between the runs being compared).
+ */
+@State(Scope.Benchmark)
+public class ExchangeServiceBenchmark {
+
+    private static final JacksonMapper MAPPER = BenchmarkFixtures.MAPPER;
+
+    @Param({"1", "5"})
+    public int bidderCount;
+
+    @Param({"1", "10"})
+    public int impCount;
+
+    private ExchangeService exchangeService;
+    private BidRequest bidRequest;
+    private TimeoutFactory timeoutFactory;
+    private Clock clock;
+    private ActivityInfrastructure activityInfrastructure;
+
+    @Setup
+    public void setUp() {
+        clock = Clock.systemUTC();
+        timeoutFactory = new TimeoutFactory(clock);
+        activityInfrastructure = stub(ActivityInfrastructure.class);
+        given(activityInfrastructure.isAllowed(any(), any())).willReturn(true);
+
+        bidRequest = givenBidRequest();
+        exchangeService = givenExchangeService(givenBidderSeatBid());
+    }
+
+    @Benchmark
+    public AuctionContext holdAuction() {
+        return exchangeService.holdAuction(givenAuctionContext()).result();
+    }
+
+    private BidRequest givenBidRequest() {
+        final BidRequest auctionRequest = BenchmarkFixtures.auctionRequest("generic");
+        final Imp imp = auctionRequest.getImp().getFirst();
+
+        final ObjectNode impExt = MAPPER.mapper().createObjectNode();
+        final ObjectNode prebid = impExt.putObject("prebid");
+        final ObjectNode bidders = prebid.putObject("bidder");
+        IntStream.range(0, bidderCount).forEach(i -> bidders.set(bidderName(i), imp.getExt().get("generic")));
+
+        return BenchmarkFixtures.withImpCount(
+                auctionRequest.toBuilder()
+                        .imp(List.of(imp.toBuilder().ext(impExt).build()))
+                        .user(User.builder().id("userId").buyeruid("buyerUid").build())
+                        .cur(List.of("USD"))
+                        .build(),
+                impCount);
+    }
+
+    private BidderSeatBid givenBidderSeatBid() {
+        final Bid bid = BenchmarkFixtures.bidderResponse("generic").getSeatbid().getFirst().getBid().getFirst();
+
+        return BidderSeatBid.of(bidRequest.getImp().stream()
+                .map(imp -> BidderBid.of(bid.toBuilder().impid(imp.getId()).build(), BidType.banner, "USD"))
+                .toList());
+    }
+
+    private AuctionContext givenAuctionContext() {
+        return AuctionContext.builder()
+                .httpRequest(HttpRequestContext.builder().headers(CaseInsensitiveMultiMap.empty()).build())
+                .uidsCookie(new UidsCookie(Uids.builder().uids(new HashMap<>()).build(), MAPPER))
+                .bidRequest(bidRequest)
+                .debugWarnings(new ArrayList<>())
+                .prebidErrors(new ArrayList<>())
+                .account(Account.empty("accountId"))
+                .requestTypeMetric(MetricName.openrtb2web)
+                .timeoutContext(TimeoutContext.of(clock.millis(), timeoutFactory.create(5000L), 90))
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                .debugContext(DebugContext.empty())
+                .bidRejectionTrackers(new HashMap<>())
+                .activityInfrastructure(activityInfrastructure)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ExchangeService givenExchangeService(BidderSeatBid bidderSeatBid) {
+        final BidderCatalog bidderCatalog = stub(BidderCatalog.class);
+        given(bidderCatalog.isValidName(anyString())).willReturn(true);
+        given(bidderCatalog.isActive(anyString())).willReturn(true);
+        given(bidderCatalog.bidderByName(anyString())).willReturn(stub(Bidder.class));
+        given(bidderCatalog.bidderInfoByName(anyString())).willReturn(BidderInfo.create(
+                true, null, false, null, null, null, null, null, null, null, 0, false, false,
+                CompressionType.NONE, Ortb.of(false)));
+
+        final StoredResponseProcessor storedResponseProcessor = stub(StoredResponseProcessor.class);
+        given(storedResponseProcessor.getStoredResponseResult(any(), any()))
+                .willAnswer(inv -> Future.succeededFuture(
+                        StoredResponseResult.of(inv.getArgument(0), List.of(), Map.of())));
+        given(storedResponseProcessor.mergeWithBidderResponses(any(), any(), any()))
+                .willAnswer(inv -> inv.getArgument(0));
+        given(storedResponseProcessor.updateStoredBidResponse(any()))
+                .willAnswer(inv -> inv.getArgument(0));
+
+        final PrivacyEnforcementService privacyEnforcementService = stub(PrivacyEnforcementService.class);
+        given(privacyEnforcementService.mask(any(), any(), any()))
+                .willAnswer(inv -> Future.succeededFuture(((Map<String, User>) inv.getArgument(1)).entrySet().stream()
+                        .map(bidderAndUser -> BidderPrivacyResult.builder()
+                                .requestBidder(bidderAndUser.getKey())
+                                .user(bidderAndUser.getValue())
+                                .build())
+                        .toList()));
+
+        final MediaTypeProcessor mediaTypeProcessor = stub(MediaTypeProcessor.class);
+        given(mediaTypeProcessor.process(any(), anyString(), any(), any()))
+                .willAnswer(inv -> MediaTypeProcessingResult.succeeded(inv.getArgument(0), List.of()));
+
+        final UidUpdater uidUpdater = stub(UidUpdater.class);
+        given(uidUpdater.updateUid(any(), any(), any())).willReturn(UpdateResult.unaltered(null));
+
+        final BidRequestOrtbVersionConversionManager ortbVersionConversionManager =
+                stub(BidRequestOrtbVersionConversionManager.class);
+        given(ortbVersionConversionManager.convertFromAuctionSupportedVersion(any(), any()))
+                .willAnswer(inv -> inv.getArgument(0));
+
+        final HttpBidderRequester httpBidderRequester = stub(HttpBidderRequester.class);
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+                .willReturn(Future.succeededFuture(bidderSeatBid));
+
+        final ResponseBidValidator responseBidValidator = stub(ResponseBidValidator.class);
+        given(responseBidValidator.validate(any(), any(), any(), any())).willReturn(ValidationResult.success());
+
+        final BidResponseCreator bidResponseCreator = stub(BidResponseCreator.class);
+        given(bidResponseCreator.create(any(), any(), any()))
+                .willReturn(Future.succeededFuture(BidResponse.builder().id("request_id").build()));
+
+        final HookStageExecutor hookStageExecutor = stub(HookStageExecutor.class);
+        given(hookStageExecutor.executeBidderRequestStage(any(), any()))
+                .willAnswer(inv -> Future.succeededFuture(HookStageExecutionResult.of(
+                        false,
+                        BidderRequestPayloadImpl.of(inv.<BidderRequest>getArgument(0).getBidRequest()))));
+        given(hookStageExecutor.executeRawBidderResponseStage(any(), any()))
+                .willAnswer(inv -> Future.succeededFuture(HookStageExecutionResult.of(
+                        false,
+                        BidderResponsePayloadImpl.of(inv.<BidderResponse>getArgument(0).getSeatBid().getBids()))));
+        given(hookStageExecutor.executeAuctionResponseStage(any(), any()))
+                .willAnswer(inv -> Future.succeededFuture(HookStageExecutionResult.of(
+                        false,
+                        AuctionResponsePayloadImpl.of(inv.getArgument(0)))));
+
+        final PriceFloorAdjuster priceFloorAdjuster = stub(PriceFloorAdjuster.class);
+        given(priceFloorAdjuster.adjustForImp(any(), any(), any(), any(), any()))
+                .willAnswer(inv -> Price.of(
+                        inv.<Imp>getArgument(0).getBidfloorcur(),
+                        inv.<Imp>getArgument(0).getBidfloor()));
+
+        final PriceFloorEnforcer priceFloorEnforcer = stub(PriceFloorEnforcer.class);
+        given(priceFloorEnforcer.enforce(any(), any(), any())).willAnswer(inv -> inv.getArgument(1));
+
+        final Metrics metrics = new Metrics(
+                new MetricRegistry(),
+                CounterType.counter,
+                new AccountMetricsVerbosityResolver(AccountMetricsVerbosityLevel.none, List.of(), List.of()));
+
+        return new ExchangeService(
+                0,
+                bidderCatalog,
+                storedResponseProcessor,
+                privacyEnforcementService,
+                new FpdResolver(MAPPER, new JsonMerger(MAPPER)),
+                SupplyChainResolver.create(null, MAPPER),
+                new DebugResolver(bidderCatalog, null),
+                mediaTypeProcessor,
+                uidUpdater,
+                new TimeoutResolver(50L, 5000L, 30L),
+                timeoutFactory,
+                ortbVersionConversionManager,
+                httpBidderRequester,
+                responseBidValidator,
+                new CurrencyConversionService(null),
+                bidResponseCreator,
+                BidResponsePostProcessor.noOp(),
+                hookStageExecutor,
+                new HttpInteractionLogger(MAPPER),
+                priceFloorAdjuster,
+                priceFloorEnforcer,
+                new DsaEnforcer(MAPPER),
+                new BidAdjustmentFactorResolver(),
+                metrics,
+                clock,
+                MAPPER,
+                new CriteriaLogManager(MAPPER),
+                false);
+    }
+
+    private static String bidderName(int index) {
+        return "bidder" + index;
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return Mockito.mock(type, withSettings().stubOnly());
+    }
+}
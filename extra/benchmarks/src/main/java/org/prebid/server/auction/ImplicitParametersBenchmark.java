@@ -0,0 +1,57 @@
+package org.prebid.server.auction;
+
+import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixListFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.prebid.server.auction.model.IpAddress;
+import org.prebid.server.model.CaseInsensitiveMultiMap;
+
+import java.util.List;
+
+/**
+ * Derivation of domain and IP address from HTTP request, as done by implicit parameters resolving
+ * for every auction before it starts.
+ */
+@State(Scope.Benchmark)
+public class ImplicitParametersBenchmark {
+
+    @Param({"193.168.244.1", "2001:1db8:85a3:a5b7:0000:8a2e:0370:7334"})
+    public String ip;
+
+    private ImplicitParametersExtractor implicitParametersExtractor;
+    private IpAddressHelper ipAddressHelper;
+    private CaseInsensitiveMultiMap headers;
+
+    @Setup
+    public void setUp() {
+        implicitParametersExtractor = new ImplicitParametersExtractor(new PublicSuffixListFactory().build());
+        ipAddressHelper = new IpAddressHelper(64, 56, List.of("::1/128", "2001:0db8::/32", "fc00::/7", "fe80::/10"));
+        headers = CaseInsensitiveMultiMap.builder()
+                .add("X-Forwarded-For", ip + ", 10.0.0.1, 10.0.0.2")
+                .add("X-Real-IP", "10.0.0.3")
+                .build();
+    }
+
+    @Benchmark
+    public String domainFrom() {
+        return implicitParametersExtractor.domainFrom("www.subdomain.example.co.uk");
+    }
+
+    @Benchmark
+    public List<String> ipFrom() {
+        return implicitParametersExtractor.ipFrom(headers, "10.0.0.4");
+    }
+
+    @Benchmark
+    public IpAddress toIpAddress() {
+        return ipAddressHelper.toIpAddress(ip);
+    }
+
+    @Benchmark
+    public String maskIpv4() {
+        return ipAddressHelper.maskIpv4(ip);
+    }
+}
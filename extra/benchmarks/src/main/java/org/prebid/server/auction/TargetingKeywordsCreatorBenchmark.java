@@ -0,0 +1,64 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.response.Bid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
+import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Targeting keywords of the bid, as made by {@link BidResponseCreator} for every bid when targeting is requested.
+ */
+@State(Scope.Benchmark)
+public class TargetingKeywordsCreatorBenchmark {
+
+    private static final ExtPriceGranularity PRICE_GRANULARITY = ExtPriceGranularity.of(
+            2,
+            List.of(ExtGranularityRange.of(BigDecimal.valueOf(5), BigDecimal.valueOf(0.05)),
+                    ExtGranularityRange.of(BigDecimal.valueOf(10), BigDecimal.valueOf(0.1)),
+                    ExtGranularityRange.of(BigDecimal.valueOf(20), BigDecimal.valueOf(0.5))));
+
+    private BidRequest bidRequest;
+    private Bid bid;
+    private TargetingKeywordsCreator targetingKeywordsCreator;
+
+    @Setup
+    public void setUp() {
+        bidRequest = BenchmarkFixtures.auctionRequest("openx");
+        bid = BenchmarkFixtures.bidderResponse("openx").getSeatbid().getFirst().getBid().getFirst();
+        targetingKeywordsCreator = createTargetingKeywordsCreator();
+    }
+
+    @Benchmark
+    public Map<String, String> makeForWinningBid() {
+        return targetingKeywordsCreator.makeFor(bid, "openx", true, "cacheId", "banner", null, null);
+    }
+
+    @Benchmark
+    public Map<String, String> createAndMakeForWinningBid() {
+        return createTargetingKeywordsCreator().makeFor(bid, "openx", true, "cacheId", "banner", null, null);
+    }
+
+    private TargetingKeywordsCreator createTargetingKeywordsCreator() {
+        return TargetingKeywordsCreator.create(
+                PRICE_GRANULARITY,
+                true,
+                true,
+                false,
+                true,
+                false,
+                0,
+                "cache.prebid.org",
+                "/cache",
+                TargetingKeywordsResolver.create(bidRequest, BenchmarkFixtures.MAPPER),
+                null);
+    }
+}
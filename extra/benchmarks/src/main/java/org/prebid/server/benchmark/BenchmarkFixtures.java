@@ -0,0 +1,95 @@
+package org.prebid.server.benchmark;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.response.BidResponse;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Canned OpenRTB fixtures shared with PBS-Core tests, see fixtures resources in module pom.
+ */
+public final class BenchmarkFixtures {
+
+    public static final JacksonMapper MAPPER = new JacksonMapper(ObjectMapperProvider.mapper());
+
+    private static final String FIXTURES_PATH = "/fixtures/";
+
+    private BenchmarkFixtures() {
+    }
+
+    public static String readFixture(String path) {
+        return readResource(FIXTURES_PATH + path);
+    }
+
+    public static <T> T readFixture(String path, Class<T> type) {
+        return MAPPER.decodeValue(readFixture(path), type);
+    }
+
+    /**
+     * Reads classpath resource, e.g. the one shipped with PBS-Core.
+     */
+    public static String readResource(String path) {
+        try (InputStream inputStream = BenchmarkFixtures.class.getResourceAsStream(path)) {
+            return new String(
+                    Objects.requireNonNull(inputStream, "Resource not found: " + path).readAllBytes(),
+                    StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns incoming auction request of it/openrtb2/{bidder} fixtures.
+     */
+    public static BidRequest auctionRequest(String bidder) {
+        return readFixture("it/openrtb2/%1$s/test-auction-%1$s-request.json".formatted(bidder), BidRequest.class);
+    }
+
+    /**
+     * Returns bid response of it/openrtb2/{bidder} fixtures.
+     */
+    public static BidResponse bidderResponse(String bidder) {
+        return readFixture("it/openrtb2/%1$s/test-%1$s-bid-response.json".formatted(bidder), BidResponse.class);
+    }
+
+    /**
+     * Returns auction request of the given bidder as it is passed to the bidder adapter, with imp.ext.{bidder}
+     * moved to imp.ext.bidder.
+     */
+    public static BidRequest bidderRequest(String bidder) {
+        final BidRequest bidRequest = auctionRequest(bidder);
+
+        return bidRequest.toBuilder()
+                .imp(bidRequest.getImp().stream().map(imp -> toBidderImp(imp, bidder)).toList())
+                .build();
+    }
+
+    /**
+     * Returns a request with the imps of the given request duplicated up to the given number.
+     */
+    public static BidRequest withImpCount(BidRequest bidRequest, int impCount) {
+        final Imp imp = bidRequest.getImp().getFirst();
+
+        return bidRequest.toBuilder()
+                .imp(IntStream.range(0, impCount)
+                        .mapToObj(i -> imp.toBuilder().id(imp.getId() + i).build())
+                        .toList())
+                .build();
+    }
+
+    private static Imp toBidderImp(Imp imp, String bidder) {
+        final ObjectNode impExt = MAPPER.mapper().createObjectNode();
+        impExt.set("bidder", imp.getExt().get(bidder));
+
+        return imp.toBuilder().ext(impExt).build();
+    }
+}
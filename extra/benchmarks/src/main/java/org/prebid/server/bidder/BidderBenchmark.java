@@ -0,0 +1,65 @@
+package org.prebid.server.bidder;
+
+import com.iab.openrtb.request.BidRequest;
+import io.vertx.core.MultiMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.bidder.model.BidderCall;
+import org.prebid.server.bidder.model.CompositeBidderResponse;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.bidder.model.HttpResponse;
+import org.prebid.server.bidder.model.Result;
+import org.prebid.server.bidder.openx.OpenxBidder;
+
+import java.util.List;
+
+/**
+ * HTTP requests and bidder response making of representative bidders: generic (plain OpenRTB pass-through)
+ * and openx (request rewritten per imp type with bidder-specific extensions).
+ */
+@State(Scope.Benchmark)
+public class BidderBenchmark {
+
+    private static final String ENDPOINT_URL = "http://localhost:8090/bidder-endpoint";
+
+    @Param({"generic", "openx"})
+    public String bidderName;
+
+    @Param({"1", "10"})
+    public int impCount;
+
+    private Bidder<BidRequest> bidder;
+    private BidRequest bidRequest;
+    private BidderCall<BidRequest> bidderCall;
+
+    @Setup
+    public void setUp() {
+        bidder = switch (bidderName) {
+            case "generic" -> new GenericBidder(ENDPOINT_URL, BenchmarkFixtures.MAPPER);
+            case "openx" -> new OpenxBidder(ENDPOINT_URL, BenchmarkFixtures.MAPPER);
+            default -> throw new IllegalArgumentException("Unknown bidder: " + bidderName);
+        };
+
+        bidRequest = BenchmarkFixtures.withImpCount(BenchmarkFixtures.bidderRequest(bidderName), impCount);
+
+        final HttpRequest<BidRequest> httpRequest = bidder.makeHttpRequests(bidRequest).getValue().getFirst();
+        final String responseBody = BenchmarkFixtures.MAPPER.encodeToString(
+                BenchmarkFixtures.bidderResponse(bidderName));
+        bidderCall = BidderCall.succeededHttp(
+                httpRequest, HttpResponse.of(200, MultiMap.caseInsensitiveMultiMap(), responseBody), null);
+    }
+
+    @Benchmark
+    public Result<List<HttpRequest<BidRequest>>> makeHttpRequests() {
+        return bidder.makeHttpRequests(bidRequest);
+    }
+
+    @Benchmark
+    public CompositeBidderResponse makeBidderResponse() {
+        return bidder.makeBidderResponse(bidderCall, bidRequest);
+    }
+}
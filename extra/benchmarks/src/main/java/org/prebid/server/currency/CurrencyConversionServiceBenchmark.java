@@ -0,0 +1,58 @@
+package org.prebid.server.currency;
+
+import com.iab.openrtb.request.BidRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestCurrency;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Conversion of bid price to the request currency, as done for every bid, with rates taken from request.
+ */
+@State(Scope.Benchmark)
+public class CurrencyConversionServiceBenchmark {
+
+    private static final BigDecimal PRICE = new BigDecimal("3.33");
+
+    /**
+     * Currency pairs: direct rate, reverse rate and conversion through intermediate currency.
+     */
+    @Param({"USD:EUR", "EUR:USD", "GBP:EUR"})
+    public String currencies;
+
+    private CurrencyConversionService currencyConversionService;
+    private BidRequest bidRequest;
+    private String fromCurrency;
+    private String toCurrency;
+
+    @Setup
+    public void setUp() {
+        currencyConversionService = new CurrencyConversionService(null);
+
+        final Map<String, Map<String, BigDecimal>> rates = Map.of(
+                "USD", Map.of("EUR", new BigDecimal("0.92"), "GBP", new BigDecimal("0.79")),
+                "EUR", Map.of("JPY", new BigDecimal("161.37")));
+        bidRequest = BenchmarkFixtures.auctionRequest("generic").toBuilder()
+                .ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .currency(ExtRequestCurrency.of(rates, false))
+                        .build()))
+                .build();
+
+        final String[] pair = currencies.split(":");
+        fromCurrency = pair[0];
+        toCurrency = pair[1];
+    }
+
+    @Benchmark
+    public BigDecimal convertCurrency() {
+        return currencyConversionService.convertCurrency(PRICE, bidRequest, fromCurrency, toCurrency);
+    }
+}
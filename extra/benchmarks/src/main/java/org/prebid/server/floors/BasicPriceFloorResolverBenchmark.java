@@ -0,0 +1,86 @@
+package org.prebid.server.floors;
+
+import com.codahale.metrics.MetricRegistry;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Site;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.currency.CurrencyConversionService;
+import org.prebid.server.floors.model.PriceFloorData;
+import org.prebid.server.floors.model.PriceFloorResult;
+import org.prebid.server.floors.model.PriceFloorRules;
+import org.prebid.server.geolocation.CountryCodeMapper;
+import org.prebid.server.metric.AccountMetricsVerbosityResolver;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Floor resolution for imp against the functional tests floor rules (domain|mediaType|gptSlot schema).
+ */
+@State(Scope.Benchmark)
+public class BasicPriceFloorResolverBenchmark {
+
+    /**
+     * Domain and ad slot: matching exact rule, matching wildcard rule and not matching any rule.
+     */
+    @Param({
+            "example.com:/111/k/categorytop/footer_left/300x250",
+            "example4.com:/111/unknown",
+            "unknown.com:/111/unknown"})
+    public String domainAndSlot;
+
+    private BasicPriceFloorResolver priceFloorResolver;
+    private BidRequest bidRequest;
+    private PriceFloorRules floorRules;
+    private Imp imp;
+    private Format format;
+
+    @Setup
+    public void setUp() {
+        final Metrics metrics = new Metrics(
+                new MetricRegistry(),
+                CounterType.counter,
+                new AccountMetricsVerbosityResolver(AccountMetricsVerbosityLevel.none, List.of(), List.of()));
+        final CountryCodeMapper countryCodeMapper = new CountryCodeMapper(
+                BenchmarkFixtures.readResource("/country-codes.csv"),
+                BenchmarkFixtures.readResource("/mcc-country-codes.csv"));
+
+        priceFloorResolver = new BasicPriceFloorResolver(
+                new CurrencyConversionService(null), countryCodeMapper, metrics, BenchmarkFixtures.MAPPER);
+
+        final String[] domainAndSlotParts = domainAndSlot.split(":");
+        final BidRequest auctionRequest = BenchmarkFixtures.auctionRequest("generic");
+        bidRequest = auctionRequest.toBuilder()
+                .site(Site.builder().domain(domainAndSlotParts[0]).build())
+                .build();
+
+        final Imp auctionImp = auctionRequest.getImp().getFirst();
+        imp = auctionImp.toBuilder()
+                .ext(auctionImp.getExt().deepCopy()
+                        .set("data", BenchmarkFixtures.MAPPER.mapper().createObjectNode()
+                                .set("adserver", BenchmarkFixtures.MAPPER.mapper().createObjectNode()
+                                        .put("adslot", domainAndSlotParts[1]))))
+                .build();
+        format = Format.builder().w(300).h(250).build();
+
+        floorRules = PriceFloorRules.builder()
+                .data(BenchmarkFixtures.readFixture("functional/floor-rules.json", PriceFloorData.class))
+                .build();
+    }
+
+    @Benchmark
+    public PriceFloorResult resolve() {
+        return priceFloorResolver.resolve(bidRequest, floorRules, imp, ImpMediaType.banner, format, new ArrayList<>());
+    }
+}
@@ -0,0 +1,51 @@
+package org.prebid.server.json;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Geo;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+
+/**
+ * Encoding of outgoing bidder request, as done by bidder adapters for every bidder of an auction.
+ * Requests of an auction are copies sharing site, device and user, as made for each bidder.
+ */
+@State(Scope.Benchmark)
+public class BidRequestEncodingBenchmark {
+
+    private BidRequest bidRequest;
+
+    @Setup
+    public void setUp() {
+        bidRequest = BenchmarkFixtures.withImpCount(BenchmarkFixtures.bidderRequest("generic"), 1).toBuilder()
+                .site(Site.builder()
+                        .domain("example.com")
+                        .page("https://example.com/page")
+                        .keywords("sport,news,weather")
+                        .build())
+                .device(Device.builder()
+                        .ua("Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko)")
+                        .ip("193.168.244.1")
+                        .geo(Geo.builder().country("USA").region("CA").city("Los Angeles").build())
+                        .language("en")
+                        .build())
+                .user(User.builder().buyeruid("buyerUid").keywords("sport,news").build())
+                .build();
+    }
+
+    @Benchmark
+    public byte[] encodeToBytes() {
+        return BenchmarkFixtures.MAPPER.encodeToBytes(bidRequest.toBuilder().id("bidderRequestId").build());
+    }
+
+    @Benchmark
+    public byte[] encodeToBytesWithSharedParts() {
+        return BenchmarkFixtures.MAPPER.encodeToBytesWithSharedParts(
+                bidRequest.toBuilder().id("bidderRequestId").build());
+    }
+}
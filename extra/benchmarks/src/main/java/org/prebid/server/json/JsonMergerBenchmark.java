@@ -0,0 +1,49 @@
+package org.prebid.server.json;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Site;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+
+/**
+ * Merge of incoming request with stored request, as done by stored request processing for every auction.
+ */
+@State(Scope.Benchmark)
+public class JsonMergerBenchmark {
+
+    @Param({"0", "100"})
+    public int parsedStoredDataCacheSize;
+
+    private JsonMerger jsonMerger;
+    private BidRequest bidRequest;
+    private BidRequest storedBidRequest;
+    private String storedData;
+
+    @Setup
+    public void setUp() {
+        jsonMerger = new JsonMerger(BenchmarkFixtures.MAPPER, parsedStoredDataCacheSize);
+        bidRequest = BenchmarkFixtures.auctionRequest("generic");
+        storedBidRequest = BidRequest.builder()
+                .site(Site.builder().domain("example.com").page("https://example.com/page").build())
+                .device(Device.builder().ua("userAgent").ip("193.168.244.1").build())
+                .imp(bidRequest.getImp())
+                .tmax(1000L)
+                .build();
+        storedData = BenchmarkFixtures.MAPPER.encodeToString(storedBidRequest);
+    }
+
+    @Benchmark
+    public BidRequest mergeWithStoredData() {
+        return jsonMerger.merge(bidRequest, storedData, "storedRequestId", BidRequest.class);
+    }
+
+    @Benchmark
+    public BidRequest mergeObjects() {
+        return jsonMerger.merge(bidRequest, storedBidRequest, BidRequest.class);
+    }
+}
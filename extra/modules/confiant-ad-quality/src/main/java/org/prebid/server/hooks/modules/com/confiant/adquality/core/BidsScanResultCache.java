@@ -0,0 +1,131 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.core;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import org.apache.commons.collections4.CollectionUtils;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.BidScanResult;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidResponseData;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidsData;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Keeps scan results of creatives for a short time, so auctions with already scanned creatives
+ * can be answered without Redis round trips.
+ * <p>
+ * Creative is identified by bidder, creative id and markup. Markup is kept as its length and SHA-256 digest,
+ * so cache entries stay small regardless of markup size. Bids without creative id or markup are never cached,
+ * as well as results which don't match submitted bids one to one.
+ */
+public class BidsScanResultCache {
+
+    private final Cache<CreativeKey, BidScanResult> cache;
+
+    public BidsScanResultCache(long ttlMs, int size) {
+        cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .maximumSize(size)
+                .build();
+    }
+
+    /**
+     * Returns scan result if all the given bids were scanned before, otherwise null.
+     */
+    public BidsScanResult get(RedisBidsData bids) {
+        final List<Bid> submittedBids = new ArrayList<>();
+        final List<CreativeKey> creativeKeys = creativeKeys(bids, submittedBids);
+        if (creativeKeys == null || creativeKeys.isEmpty()) {
+            return null;
+        }
+
+        final List<BidScanResult> bidScanResults = new ArrayList<>(creativeKeys.size());
+        for (int i = 0; i < creativeKeys.size(); i++) {
+            final BidScanResult cachedResult = cache.getIfPresent(creativeKeys.get(i));
+            if (cachedResult == null) {
+                return null;
+            }
+
+            bidScanResults.add(withImpId(cachedResult, submittedBids.get(i).getImpid()));
+        }
+
+        return BidsScanResult.builder()
+                .bidScanResults(bidScanResults)
+                .debugMessages(Collections.emptyList())
+                .build();
+    }
+
+    public void put(RedisBidsData bids, BidsScanResult scanResult) {
+        final List<CreativeKey> creativeKeys = creativeKeys(bids, new ArrayList<>());
+        final List<BidScanResult> bidScanResults = scanResult.getBidScanResults();
+        if (creativeKeys == null || bidScanResults == null || creativeKeys.size() != bidScanResults.size()) {
+            return;
+        }
+
+        for (int i = 0; i < creativeKeys.size(); i++) {
+            final BidScanResult bidScanResult = bidScanResults.get(i);
+            if (bidScanResult != null && !bidScanResult.isRoSkipped()) {
+                cache.put(creativeKeys.get(i), bidScanResult);
+            }
+        }
+    }
+
+    /**
+     * Returns keys of the submitted bids in the order they are scanned by Redis
+     * or null if any of the bids cannot be cached.
+     */
+    private static List<CreativeKey> creativeKeys(RedisBidsData bids, List<Bid> submittedBids) {
+        final List<CreativeKey> creativeKeys = new ArrayList<>();
+        for (RedisBidResponseData bidResponseData : CollectionUtils.emptyIfNull(bids.getBresps())) {
+            final BidResponse bidResponse = bidResponseData.getBidresponse();
+            final List<SeatBid> seatBids = bidResponse != null ? bidResponse.getSeatbid() : null;
+            for (SeatBid seatBid : CollectionUtils.emptyIfNull(seatBids)) {
+                for (Bid bid : CollectionUtils.emptyIfNull(seatBid.getBid())) {
+                    if (bid.getCrid() == null || bid.getAdm() == null) {
+                        return null;
+                    }
+
+                    creativeKeys.add(CreativeKey.of(bidResponseData.getDspId(), bid.getCrid(), bid.getAdm()));
+                    submittedBids.add(bid);
+                }
+            }
+        }
+
+        return creativeKeys;
+    }
+
+    private static BidScanResult withImpId(BidScanResult cachedResult, String impId) {
+        final BidScanResult bidScanResult = new BidScanResult();
+        bidScanResult.setTagKey(cachedResult.getTagKey());
+        bidScanResult.setImpId(impId);
+        bidScanResult.setIssues(cachedResult.getIssues());
+
+        return bidScanResult;
+    }
+
+    private record CreativeKey(String dspId, String crid, int admLength, String admDigest) {
+
+        static CreativeKey of(String dspId, String crid, String adm) {
+            return new CreativeKey(dspId, crid, adm.length(), digest(adm));
+        }
+
+        private static String digest(String adm) {
+            try {
+                return HexFormat.of().formatHex(
+                        MessageDigest.getInstance("SHA-256").digest(adm.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                // every Java platform is required to support SHA-256
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -14,6 +14,9 @@ import java.util.List;
 
 public class BidsScanner {
 
+    private static final String SUBMIT_BIDS_FUNCTION_KEY = "function_submit_bids";
+    private static final String NO_SCRIPT_ERROR_PREFIX = "NOSCRIPT";
+
     private final RedisParser redisParser;
 
     private final String apiKey;
@@ -24,19 +27,25 @@ public class BidsScanner {
 
     private volatile Boolean isScanDisabled = true;
 
+    private volatile String cachedSubmitBidsSha;
+
     private final ObjectMapper objectMapper;
 
+    private final BidsScanResultCache scanResultCache;
+
     public BidsScanner(
             RedisClient writeRedisNode,
             RedisClient readRedisNode,
             String apiKey,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            BidsScanResultCache scanResultCache) {
 
         this.writeRedisNode = writeRedisNode;
         this.readRedisNode = readRedisNode;
         this.apiKey = apiKey;
         this.objectMapper = objectMapper;
         this.redisParser = new RedisParser(objectMapper);
+        this.scanResultCache = scanResultCache;
     }
 
     public void start(Promise<Void> startFuture) {
@@ -55,61 +64,94 @@ public class BidsScanner {
     }
 
     public Future<BidsScanResult> submitBids(RedisBidsData bids) {
-        final Promise<BidsScanResult> scanResult = Promise.promise();
-
         final RedisAPI readRedisNodeAPI = this.readRedisNode.getRedisAPI();
         final boolean shouldSubmit = !isScanDisabled
                 && readRedisNodeAPI != null && bids.getBresps().size() > 0;
 
-        if (shouldSubmit) {
-            readRedisNodeAPI.get("function_submit_bids", submitHash -> {
-                final Object submitHashResult = submitHash.result();
-                if (submitHashResult != null) {
-                    final List<String> readArgs = List.of(submitHashResult.toString(), "0", toBidsAsJson(bids), apiKey, "true");
-
-                    readRedisNodeAPI.evalsha(readArgs, response -> {
-                        if (response.result() != null) {
-                            final BidsScanResult parserResult = redisParser
-                                    .parseBidsScanResult(response.result().toString());
-                            final boolean isAnyRoSkipped = parserResult.getBidScanResults()
-                                    .stream().anyMatch(BidScanResult::isRoSkipped);
-
-                            if (isAnyRoSkipped) {
-                                reSubmitBidsToWriteNode(readArgs, scanResult);
-                            } else {
-                                scanResult.complete(parserResult);
-                            }
-                        } else {
-                            scanResult.complete(getEmptyScanResult());
+        if (!shouldSubmit) {
+            return Future.succeededFuture(getEmptyScanResult());
+        }
+
+        final BidsScanResult cachedScanResult = scanResultCache != null ? scanResultCache.get(bids) : null;
+        if (cachedScanResult != null) {
+            return Future.succeededFuture(cachedScanResult);
+        }
+
+        return submitBids(readRedisNodeAPI, toBidsAsJson(bids), false)
+                .onSuccess(scanResult -> cacheScanResult(bids, scanResult));
+    }
+
+    private Future<BidsScanResult> submitBids(RedisAPI readRedisNodeAPI, String bidsAsJson, boolean isRetry) {
+        return submitBidsFunctionSha(readRedisNodeAPI).compose(submitBidsSha -> {
+            if (submitBidsSha == null) {
+                return Future.succeededFuture(getEmptyScanResult());
+            }
+
+            final List<String> readArgs = List.of(submitBidsSha, "0", bidsAsJson, apiKey, "true");
+
+            return readRedisNodeAPI.evalsha(readArgs).compose(
+                    response -> {
+                        if (response == null) {
+                            return Future.succeededFuture(getEmptyScanResult());
                         }
+
+                        final BidsScanResult parserResult = redisParser.parseBidsScanResult(response.toString());
+                        final boolean isAnyRoSkipped = parserResult.getBidScanResults()
+                                .stream().anyMatch(BidScanResult::isRoSkipped);
+
+                        return isAnyRoSkipped
+                                ? reSubmitBidsToWriteNode(readArgs)
+                                : Future.succeededFuture(parserResult);
+                    },
+                    error -> {
+                        // script was reloaded on Redis side, so its SHA should be fetched again
+                        if (!isRetry && isNoScriptError(error)) {
+                            cachedSubmitBidsSha = null;
+                            return submitBids(readRedisNodeAPI, bidsAsJson, true);
+                        }
+
+                        return Future.succeededFuture(getEmptyScanResult());
                     });
-                } else {
-                    scanResult.complete(getEmptyScanResult());
-                }
-            });
+        });
+    }
 
-            return scanResult.future();
+    private Future<String> submitBidsFunctionSha(RedisAPI readRedisNodeAPI) {
+        final String submitBidsSha = cachedSubmitBidsSha;
+        if (submitBidsSha != null) {
+            return Future.succeededFuture(submitBidsSha);
         }
 
-        return Future.succeededFuture(getEmptyScanResult());
+        return readRedisNodeAPI.get(SUBMIT_BIDS_FUNCTION_KEY)
+                .map(response -> {
+                    final String sha = response != null ? response.toString() : null;
+                    cachedSubmitBidsSha = sha;
+                    return sha;
+                })
+                .otherwiseEmpty();
+    }
+
+    private static boolean isNoScriptError(Throwable error) {
+        final String message = error != null ? error.getMessage() : null;
+        return message != null && message.startsWith(NO_SCRIPT_ERROR_PREFIX);
     }
 
-    private void reSubmitBidsToWriteNode(List<String> readArgs, Promise<BidsScanResult> scanResult) {
+    private Future<BidsScanResult> reSubmitBidsToWriteNode(List<String> readArgs) {
         final RedisAPI writeRedisAPI = this.writeRedisNode.getRedisAPI();
-        if (writeRedisAPI != null) {
-            final List<String> writeArgs = readArgs.stream().limit(4).toList();
-            writeRedisAPI.evalsha(writeArgs, response -> {
-                if (response.result() != null) {
-                    final BidsScanResult parserResult = redisParser
-                            .parseBidsScanResult(response.result().toString());
-
-                    scanResult.complete(parserResult);
-                } else {
-                    scanResult.complete(getEmptyScanResult());
-                }
-            });
-        } else {
-            scanResult.complete(getEmptyScanResult());
+        if (writeRedisAPI == null) {
+            return Future.succeededFuture(getEmptyScanResult());
+        }
+
+        final List<String> writeArgs = readArgs.stream().limit(4).toList();
+        return writeRedisAPI.evalsha(writeArgs)
+                .map(response -> response != null
+                        ? redisParser.parseBidsScanResult(response.toString())
+                        : getEmptyScanResult())
+                .otherwise(ignored -> getEmptyScanResult());
+    }
+
+    private void cacheScanResult(RedisBidsData bids, BidsScanResult scanResult) {
+        if (scanResultCache != null && !scanResult.getBidScanResults().isEmpty()) {
+            scanResultCache.put(bids, scanResult);
         }
     }
 
@@ -0,0 +1,86 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import org.junit.Test;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.BidScanResult;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidResponseData;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidsData;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class BidsScanResultCacheTest {
+
+    private final RedisParser redisParser = new RedisParser(new ObjectMapper());
+
+    private final BidsScanResultCache target = new BidsScanResultCache(60000L, 100);
+
+    @Test
+    public void getShouldReturnCachedResultsWithImpIdsOfGivenBids() {
+        // given
+        target.put(
+                bidsData(bid("imp-1", "crid-1", "adm-1"), bid("imp-2", "crid-2", "adm-2")),
+                redisParser.parseBidsScanResult("[[[{\"tag_key\": \"key_a\", \"imp_id\": \"imp-1\"}]],"
+                        + "[[{\"tag_key\": \"key_b\", \"imp_id\": \"imp-2\"}]]]"));
+
+        // when
+        final BidsScanResult result = target.get(bidsData(bid("imp-3", "crid-2", "adm-2")));
+
+        // then
+        assertThat(result.getBidScanResults())
+                .extracting(BidScanResult::getTagKey, BidScanResult::getImpId)
+                .containsExactly(tuple("key_b", "imp-3"));
+    }
+
+    @Test
+    public void getShouldReturnNullWhenAnyOfBidsWasNotScanned() {
+        // given
+        target.put(
+                bidsData(bid("imp-1", "crid-1", "adm-1")),
+                redisParser.parseBidsScanResult("[[[{\"tag_key\": \"key_a\", \"imp_id\": \"imp-1\"}]]]"));
+
+        // when and then
+        assertThat(target.get(bidsData(bid("imp-1", "crid-1", "adm-1"), bid("imp-2", "crid-2", "adm-2")))).isNull();
+        assertThat(target.get(bidsData(bid("imp-1", "crid-1", "other-adm")))).isNull();
+        assertThat(target.get(bidsData(bid("imp-1", "crid-1", "adm-9")))).isNull();
+    }
+
+    @Test
+    public void putShouldNotCacheResultsWhichWereNotScannedOrBidsWithoutCreativeId() {
+        // given
+        target.put(
+                bidsData(bid("imp-1", "crid-1", "adm-1"), bid("imp-2", null, "adm-2")),
+                redisParser.parseBidsScanResult("[[[{\"tag_key\": \"key_a\", \"imp_id\": \"imp-1\"}]],"
+                        + "[[{\"tag_key\": \"key_b\", \"imp_id\": \"imp-2\"}]]]"));
+        target.put(
+                bidsData(bid("imp-3", "crid-3", "adm-3")),
+                redisParser.parseBidsScanResult("[[[{\"tag_key\": \"key_c\", \"ro_skipped\": true}]]]"));
+
+        // when and then
+        assertThat(target.get(bidsData(bid("imp-1", "crid-1", "adm-1")))).isNull();
+        assertThat(target.get(bidsData(bid("imp-3", "crid-3", "adm-3")))).isNull();
+    }
+
+    private static RedisBidsData bidsData(Bid... bids) {
+        final List<RedisBidResponseData> bidResponses = Arrays.stream(bids)
+                .map(bid -> RedisBidResponseData.builder()
+                        .dspId("dsp_id")
+                        .bidresponse(BidResponse.builder()
+                                .seatbid(List.of(SeatBid.builder().bid(List.of(bid)).build()))
+                                .build())
+                        .build())
+                .toList();
+
+        return RedisBidsData.builder().bresps(bidResponses).build();
+    }
+
+    private static Bid bid(String impId, String crid, String adm) {
+        return Bid.builder().impid(impId).crid(crid).adm(adm).build();
+    }
+}
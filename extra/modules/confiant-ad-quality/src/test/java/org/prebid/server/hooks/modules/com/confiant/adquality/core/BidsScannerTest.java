@@ -2,7 +2,9 @@ package org.prebid.server.hooks.modules.com.confiant.adquality.core;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.response.Bid;
 import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.redis.client.Command;
@@ -16,14 +18,18 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.BidScanResult;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.GroupByIssues;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidResponseData;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidsData;
 import org.prebid.server.hooks.modules.com.confiant.adquality.util.AdQualityModuleTestUtils;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
@@ -46,7 +52,7 @@ public class BidsScannerTest {
 
     @Before
     public void setUp() {
-        bidsScannerTest = new BidsScanner(writeRedisNode, readRedisNode, "api-key", new ObjectMapper());
+        bidsScannerTest = new BidsScanner(writeRedisNode, readRedisNode, "api-key", new ObjectMapper(), null);
     }
 
     @Test()
@@ -212,6 +218,140 @@ public class BidsScannerTest {
         assertThat(groupByIssues.getWithoutIssues().size()).isEqualTo(0);
     }
 
+    @Test()
+    public void shouldFetchSubmitBidsFunctionShaOnlyOnce() {
+        // given
+        final String redisResponse = "[[[{\"tag_key\": \"key_a\", \"imp_id\": \"imp_a\"}]]]";
+        final List<Command> sentCommands = new ArrayList<>();
+        final RedisAPI redisAPI = getRedisEmulation(sentCommands, command -> Future.succeededFuture(
+                toResponse(command == Command.GET ? "sha" : redisResponse)));
+        bidsScannerTest.enableScan();
+        doReturn(redisAPI).when(readRedisNode).getRedisAPI();
+
+        // when
+        bidsScannerTest.submitBids(getBidsData("crid"));
+        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(getBidsData("crid"));
+
+        // then
+        assertThat(scanResult.result().getBidScanResults()).hasSize(1);
+        assertThat(sentCommands).containsExactly(Command.GET, Command.EVALSHA, Command.EVALSHA);
+    }
+
+    @Test()
+    public void shouldFetchSubmitBidsFunctionShaAgainWhenRedisRespondsWithNoScriptError() {
+        // given
+        final String redisResponse = "[[[{\"tag_key\": \"key_a\", \"imp_id\": \"imp_a\", \"issues\": [{ \"value\": \"ads.deceivenetworks.net\", \"spec_name\": \"malicious_domain\", \"first_adinstance\": \"e91e8da982bb8b7f80100426\"}]}]]]";
+        final List<Command> sentCommands = new ArrayList<>();
+        final RedisAPI redisAPI = getRedisEmulation(sentCommands, command -> {
+            if (command == Command.GET) {
+                return Future.succeededFuture(toResponse("sha"));
+            }
+            return sentCommands.size() == 2
+                    ? Future.failedFuture("NOSCRIPT No matching script. Please use EVAL.")
+                    : Future.succeededFuture(toResponse(redisResponse));
+        });
+        bidsScannerTest.enableScan();
+        doReturn(redisAPI).when(readRedisNode).getRedisAPI();
+
+        // when
+        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(getBidsData("crid"));
+        final GroupByIssues<BidderResponse> groupByIssues = scanResult.result()
+                .toGroupByIssues(List.of(AdQualityModuleTestUtils.getBidderResponse("bidder-a", "imp-a", "imp-id-a")));
+
+        // then
+        assertThat(groupByIssues.getWithIssues()).hasSize(1);
+        assertThat(sentCommands).containsExactly(Command.GET, Command.EVALSHA, Command.GET, Command.EVALSHA);
+    }
+
+    @Test()
+    public void shouldReturnEmptyScanResultWhenRedisRespondsWithOtherError() {
+        // given
+        final List<Command> sentCommands = new ArrayList<>();
+        final RedisAPI redisAPI = getRedisEmulation(sentCommands, command -> command == Command.GET
+                ? Future.succeededFuture(toResponse("sha"))
+                : Future.failedFuture("ERR Error running script"));
+        bidsScannerTest.enableScan();
+        doReturn(redisAPI).when(readRedisNode).getRedisAPI();
+
+        // when
+        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(getBidsData("crid"));
+
+        // then
+        assertThat(scanResult.succeeded()).isTrue();
+        assertThat(scanResult.result().getBidScanResults()).isEmpty();
+        assertThat(sentCommands).containsExactly(Command.GET, Command.EVALSHA);
+    }
+
+    @Test()
+    public void shouldReturnCachedScanResultWithoutRedisCallsWhenCreativesWereScanned() {
+        // given
+        bidsScannerTest = new BidsScanner(
+                writeRedisNode, readRedisNode, "api-key", new ObjectMapper(), new BidsScanResultCache(60000L, 100));
+
+        final String redisResponse = "[[[{\"tag_key\": \"key_a\", \"imp_id\": \"imp_a\", \"issues\": [{ \"value\": \"ads.deceivenetworks.net\", \"spec_name\": \"malicious_domain\", \"first_adinstance\": \"e91e8da982bb8b7f80100426\"}]}]]]";
+        final List<Command> sentCommands = new ArrayList<>();
+        final RedisAPI redisAPI = getRedisEmulation(sentCommands, command -> Future.succeededFuture(
+                toResponse(command == Command.GET ? "sha" : redisResponse)));
+        bidsScannerTest.enableScan();
+        doReturn(redisAPI).when(readRedisNode).getRedisAPI();
+
+        // when
+        bidsScannerTest.submitBids(getBidsData("crid"));
+        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(getBidsData("crid"));
+        bidsScannerTest.submitBids(getBidsData("other-crid"));
+
+        // then
+        assertThat(scanResult.result().getBidScanResults())
+                .extracting(BidScanResult::getTagKey, BidScanResult::getImpId)
+                .containsExactly(tuple("key_a", "imp-id"));
+        assertThat(scanResult.result().getBidScanResults().get(0).getIssues()).hasSize(1);
+        assertThat(sentCommands).containsExactly(Command.GET, Command.EVALSHA, Command.EVALSHA);
+    }
+
+    private static RedisBidsData getBidsData(String crid) {
+        return RedisBidsData.builder()
+                .breq(BidRequest.builder().build())
+                .bresps(List.of(RedisBidResponseData.builder()
+                        .dspId("dsp_id")
+                        .bidresponse(BidResponse.builder()
+                                .seatbid(List.of(SeatBid.builder()
+                                        .bid(List.of(Bid.builder().impid("imp-id").crid(crid).adm("adm").build()))
+                                        .build()))
+                                .build())
+                        .build()))
+                .build();
+    }
+
+    private static RedisAPI getRedisEmulation(List<Command> sentCommands,
+                                              Function<Command, Future<Response>> answers) {
+
+        return new RedisAPI() {
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public Future<Response> send(Command command, String... strings) {
+                sentCommands.add(command);
+                return answers.apply(command);
+            }
+        };
+    }
+
+    private static Response toResponse(String answer) {
+        return new Response() {
+            @Override
+            public ResponseType type() {
+                return null;
+            }
+
+            @Override
+            public String toString() {
+                return answer;
+            }
+        };
+    }
+
     private RedisAPI getRedisEmulationWithAnswer(String sendAnswer) {
         return new RedisAPI() {
             @Override
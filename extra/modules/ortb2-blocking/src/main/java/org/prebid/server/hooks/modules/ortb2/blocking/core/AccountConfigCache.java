@@ -0,0 +1,28 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Values resolved from ortb2-blocking account configs by {@link AccountConfigReader}.
+ * <p>
+ * Configs are compared by identity: module config instance is kept with the cached account and shared by all its
+ * requests, so lookup neither hashes nor compares the whole config. Configs are referenced weakly, so resolved
+ * values go away together with evicted accounts. Cached configs are expected to be never modified.
+ */
+public class AccountConfigCache {
+
+    private final Cache<ObjectNode, AccountConfigReader.ResolvedValues> configToResolvedValues;
+
+    public AccountConfigCache(int cacheSize) {
+        configToResolvedValues = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    AccountConfigReader.ResolvedValues resolvedValuesFor(ObjectNode config) {
+        return configToResolvedValues.get(config, ignored -> new AccountConfigReader.ResolvedValues());
+    }
+}
@@ -2,6 +2,8 @@ package org.prebid.server.hooks.modules.ortb2.blocking.core;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import org.apache.commons.collections4.CollectionUtils;
@@ -25,12 +27,21 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+/**
+ * Reads blocking configuration for the bidder from the account module config.
+ * <p>
+ * Everything that depends only on the account config, bidder and media types (overrides resolution, typed
+ * blocked values, deal exceptions) is resolved once per account config instance and kept in {@link AccountConfigCache}
+ * for subsequent requests. Invalid configuration is not cached and fails on every read.
+ */
 public class AccountConfigReader {
 
     private static final String ATTRIBUTES_FIELD = "attributes";
@@ -64,16 +75,32 @@ public class AccountConfigReader {
     private static final String BANNER_MEDIA_TYPE = "banner";
     private static final String NATIVE_MEDIA_TYPE = "native";
 
+    private static final int RESOLVED_VALUES_CACHE_SIZE = 10_000;
+
+    private static final AttributeType<String> STRING_ATTRIBUTE =
+            new AttributeType<>(String.class, values -> values.strings);
+    private static final AttributeType<Integer> INTEGER_ATTRIBUTE =
+            new AttributeType<>(Integer.class, values -> values.integers);
+
     private final ObjectNode config;
     private final String bidder;
     private final OrtbVersion ortbVersion;
     private final boolean debugEnabled;
+    private final AccountConfigCache accountConfigCache;
+
+    private ResolvedValues resolvedValues;
+
+    private AccountConfigReader(ObjectNode config,
+                                String bidder,
+                                OrtbVersion ortbVersion,
+                                boolean debugEnabled,
+                                AccountConfigCache accountConfigCache) {
 
-    private AccountConfigReader(ObjectNode config, String bidder, OrtbVersion ortbVersion, boolean debugEnabled) {
         this.config = config;
         this.bidder = bidder;
         this.ortbVersion = ortbVersion;
         this.debugEnabled = debugEnabled;
+        this.accountConfigCache = accountConfigCache;
     }
 
     public static AccountConfigReader create(ObjectNode config,
@@ -81,7 +108,16 @@ public class AccountConfigReader {
                                              OrtbVersion ortbVersion,
                                              boolean debugEnabled) {
 
-        return new AccountConfigReader(config, bidder, ortbVersion, debugEnabled);
+        return create(config, bidder, ortbVersion, debugEnabled, null);
+    }
+
+    public static AccountConfigReader create(ObjectNode config,
+                                             String bidder,
+                                             OrtbVersion ortbVersion,
+                                             boolean debugEnabled,
+                                             AccountConfigCache accountConfigCache) {
+
+        return new AccountConfigReader(config, bidder, ortbVersion, debugEnabled, accountConfigCache);
     }
 
     public Result<BlockedAttributes> blockedAttributesFor(BidRequest bidRequest) {
@@ -92,16 +128,16 @@ public class AccountConfigReader {
         final Set<String> requestMediaTypes = mediaTypesFrom(bidRequest);
 
         final Result<List<String>> badv =
-                blockedAttribute(BADV_FIELD, String.class, BLOCKED_ADOMAIN_FIELD, requestMediaTypes);
+                blockedAttribute(BADV_FIELD, STRING_ATTRIBUTE, BLOCKED_ADOMAIN_FIELD, requestMediaTypes);
         final Result<List<String>> bcat =
-                blockedAttribute(BCAT_FIELD, String.class, BLOCKED_ADV_CAT_FIELD, requestMediaTypes);
+                blockedAttribute(BCAT_FIELD, STRING_ATTRIBUTE, BLOCKED_ADV_CAT_FIELD, requestMediaTypes);
         final Result<Integer> cattaxComplement = blockedCattaxComplement(bidRequest);
         final Result<List<String>> bapp =
-                blockedAttribute(BAPP_FIELD, String.class, BLOCKED_APP_FIELD, requestMediaTypes);
+                blockedAttribute(BAPP_FIELD, STRING_ATTRIBUTE, BLOCKED_APP_FIELD, requestMediaTypes);
         final Result<Map<String, List<Integer>>> btype =
-                blockedAttributesForImps(BTYPE_FIELD, Integer.class, BLOCKED_BANNER_TYPE_FIELD, bidRequest);
+                blockedAttributesForImps(BTYPE_FIELD, INTEGER_ATTRIBUTE, BLOCKED_BANNER_TYPE_FIELD, bidRequest);
         final Result<Map<String, List<Integer>>> battr =
-                blockedAttributesForImps(BATTR_FIELD, Integer.class, BLOCKED_BANNER_ATTR_FIELD, bidRequest);
+                blockedAttributesForImps(BATTR_FIELD, INTEGER_ATTRIBUTE, BLOCKED_BANNER_ATTR_FIELD, bidRequest);
 
         return Result.of(
                 toBlockedAttributes(badv, bcat, cattaxComplement, bapp, btype, battr),
@@ -114,14 +150,14 @@ public class AccountConfigReader {
 
         final Result<BidAttributeBlockingConfig<String>> badv = blockingConfigForAttribute(
                 BADV_FIELD,
-                String.class,
+                STRING_ATTRIBUTE,
                 BLOCK_UNKNOWN_ADOMAIN_FIELD,
                 ALLOWED_ADOMAIN_FOR_DEALS_FIELD,
                 bidMediaTypes,
                 dealid);
         final Result<BidAttributeBlockingConfig<String>> bcat = blockingConfigForAttribute(
                 BCAT_FIELD,
-                String.class,
+                STRING_ATTRIBUTE,
                 BLOCK_UNKNOWN_ADV_CAT_FIELD,
                 ALLOWED_ADV_CAT_FOR_DEALS_FIELD,
                 bidMediaTypes,
@@ -129,13 +165,13 @@ public class AccountConfigReader {
         final Result<BidAttributeBlockingConfig<Integer>> cattax = blockingConfigForCattax(bcat.getValue());
         final Result<BidAttributeBlockingConfig<String>> bapp = blockingConfigForAttribute(
                 BAPP_FIELD,
-                String.class,
+                STRING_ATTRIBUTE,
                 ALLOWED_APP_FOR_DEALS_FIELD,
                 bidMediaTypes,
                 dealid);
         final Result<BidAttributeBlockingConfig<Integer>> battr = blockingConfigForAttribute(
                 BATTR_FIELD,
-                Integer.class,
+                INTEGER_ATTRIBUTE,
                 ALLOWED_BANNER_ATTR_FOR_DEALS,
                 bidMediaTypes,
                 dealid);
@@ -154,7 +190,7 @@ public class AccountConfigReader {
     }
 
     private <T> Result<List<T>> blockedAttribute(String attribute,
-                                                 Class<T> attributeType,
+                                                 AttributeType<T> attributeType,
                                                  String fieldName,
                                                  Set<String> actualMediaTypes) {
 
@@ -163,11 +199,17 @@ public class AccountConfigReader {
             return Result.empty();
         }
 
-        final Result<JsonNode> override = overrideFor(attributeConfig, actualMediaTypes, fieldName);
+        return resolved(
+                values -> attributeType.values().apply(values).arrays,
+                overrideKey(attribute, fieldName, actualMediaTypes),
+                () -> {
+                    final Result<JsonNode> override = overrideFor(attributeConfig, actualMediaTypes, fieldName);
 
-        final List<T> result = overrideArrayAttribute(attributeConfig, override.getValue(), attributeType, fieldName);
+                    final List<T> result = overrideArrayAttribute(
+                            attributeConfig, override.getValue(), attributeType.type(), fieldName);
 
-        return Result.of(result, override.getMessages());
+                    return Result.of(result, override.getMessages());
+                });
     }
 
     private Result<Integer> blockedCattaxComplement(BidRequest bidRequest) {
@@ -187,16 +229,16 @@ public class AccountConfigReader {
             return null;
         }
 
-        final JsonNode blockedCattaxComplementNode = config.get(CATEGORY_TAXONOMY_FIELD);
-        if (blockedCattaxComplementNode == null) {
-            return null;
-        }
+        final Result<Integer> blockedCattaxComplement = resolved(
+                values -> values.integerFields,
+                new FieldKey(BCAT_FIELD, CATEGORY_TAXONOMY_FIELD),
+                () -> Result.withValue(typedFieldFrom(config, Integer.class, CATEGORY_TAXONOMY_FIELD)));
 
-        return typedAs(blockedCattaxComplementNode, Integer.class, CATEGORY_TAXONOMY_FIELD);
+        return blockedCattaxComplement.getValue();
     }
 
     private <T> Result<Map<String, List<T>>> blockedAttributesForImps(String attribute,
-                                                                      Class<T> attributeType,
+                                                                      AttributeType<T> attributeType,
                                                                       String fieldName,
                                                                       BidRequest bidRequest) {
 
@@ -219,7 +261,7 @@ public class AccountConfigReader {
     }
 
     private <T> Result<BidAttributeBlockingConfig<T>> blockingConfigForAttribute(String attribute,
-                                                                                 Class<T> attributeType,
+                                                                                 AttributeType<T> attributeType,
                                                                                  String blockUnknownField,
                                                                                  String allowedForDealsField,
                                                                                  Set<String> bidMediaTypes,
@@ -230,35 +272,28 @@ public class AccountConfigReader {
             return Result.empty();
         }
 
-        final Result<JsonNode> enforceBlocksOverrideResult = overrideFor(
-                attributeConfig, bidMediaTypes, ENFORCE_BLOCKS_FIELD);
-        final boolean enforceBlocks = mergeBoolean(
-                attributeConfig, enforceBlocksOverrideResult.getValue(), ENFORCE_BLOCKS_FIELD);
+        final Result<Boolean> enforceBlocksResult = booleanAttribute(
+                attribute, attributeConfig, ENFORCE_BLOCKS_FIELD, bidMediaTypes);
 
         // for attributes that don't support blocking bids with unknown values
-        final Result<JsonNode> blockUnknownOverrideResult = blockUnknownField != null
-                ? overrideFor(attributeConfig, bidMediaTypes, blockUnknownField)
+        final Result<Boolean> blockUnknownResult = blockUnknownField != null
+                ? booleanAttribute(attribute, attributeConfig, blockUnknownField, bidMediaTypes)
                 : Result.empty();
-        final boolean blockUnknown = blockUnknownField != null
-                && mergeBoolean(attributeConfig, blockUnknownOverrideResult.getValue(), blockUnknownField);
+        final boolean blockUnknown = blockUnknownField != null && blockUnknownResult.getValue();
 
         final Set<T> dealExceptions = StringUtils.isNotBlank(dealid)
-                ? mergeDealExceptions(
-                attributeConfig,
-                dealExceptionsFor(attributeConfig, dealid, allowedForDealsField),
-                attributeType,
-                allowedForDealsField)
+                ? dealExceptionsFor(attribute, attributeConfig, dealid, attributeType, allowedForDealsField)
                 : Collections.emptySet();
 
         final BidAttributeBlockingConfig<T> blockingConfig = BidAttributeBlockingConfig.of(
-                enforceBlocks, blockUnknown, dealExceptions);
-        final List<String> warnings = MergeUtils.mergeMessages(enforceBlocksOverrideResult, blockUnknownOverrideResult);
+                enforceBlocksResult.getValue(), blockUnknown, dealExceptions);
+        final List<String> warnings = MergeUtils.mergeMessages(enforceBlocksResult, blockUnknownResult);
 
         return Result.of(blockingConfig, warnings);
     }
 
     private <T> Result<BidAttributeBlockingConfig<T>> blockingConfigForAttribute(String attribute,
-                                                                                 Class<T> type,
+                                                                                 AttributeType<T> type,
                                                                                  String allowedForDealsField,
                                                                                  Set<String> bidMediaTypes,
                                                                                  String dealid) {
@@ -266,6 +301,41 @@ public class AccountConfigReader {
         return blockingConfigForAttribute(attribute, type, null, allowedForDealsField, bidMediaTypes, dealid);
     }
 
+    private Result<Boolean> booleanAttribute(String attribute,
+                                             JsonNode attributeConfig,
+                                             String field,
+                                             Set<String> bidMediaTypes) {
+
+        return resolved(values -> values.booleans, overrideKey(attribute, field, bidMediaTypes), () -> {
+            final Result<JsonNode> override = overrideFor(attributeConfig, bidMediaTypes, field);
+
+            return Result.of(mergeBoolean(attributeConfig, override.getValue(), field), override.getMessages());
+        });
+    }
+
+    private <T> Set<T> dealExceptionsFor(String attribute,
+                                         JsonNode attributeConfig,
+                                         String dealid,
+                                         AttributeType<T> type,
+                                         String field) {
+
+        final Map<String, List<JsonNode>> overridesByDealId = resolved(
+                values -> values.dealOverrides,
+                new FieldKey(attribute, field),
+                () -> dealExceptionsByDealId(attributeConfig, field));
+
+        // deals without overrides share the default value, so the number of resolved values is bounded by config
+        final List<JsonNode> overrides = overridesByDealId.getOrDefault(dealid, Collections.emptyList());
+        return resolved(
+                values -> type.values().apply(values).dealExceptions,
+                new DealKey(attribute, field, !overrides.isEmpty() ? dealid : null),
+                () -> Collections.unmodifiableSet(mergeDealExceptions(
+                        attributeConfig,
+                        overrides.stream().map(override -> requireNonNull(override, OVERRIDE_FIELD)).toList(),
+                        type.type(),
+                        field)));
+    }
+
     private static Result<BidAttributeBlockingConfig<Integer>> blockingConfigForCattax(
             BidAttributeBlockingConfig<String> bcat) {
 
@@ -397,14 +467,18 @@ public class AccountConfigReader {
                 : null;
     }
 
-    private static List<JsonNode> dealExceptionsFor(JsonNode parent, String dealid, String field) {
+    /**
+     * Groups deal exceptions overrides by deal id. Missing override is kept as null to fail only
+     * for the bids of the deal it is configured for.
+     */
+    private static Map<String, List<JsonNode>> dealExceptionsByDealId(JsonNode parent, String field) {
         final JsonNode actionOverrides = objectNodeFrom(parent, ACTION_OVERRIDES_FIELD);
         final JsonNode overridesForField = actionOverrides != null ? objectArrayFrom(actionOverrides, field) : null;
         if (overridesForField == null) {
-            return Collections.emptyList();
+            return Collections.emptyMap();
         }
 
-        final List<JsonNode> results = new ArrayList<>();
+        final Map<String, List<JsonNode>> results = new HashMap<>();
         for (final JsonNode override : overridesForField) {
             final JsonNode conditions = requireNonNull(objectNodeFrom(override, CONDITIONS_FIELD), CONDITIONS_FIELD);
             final List<String> dealIds = typedArrayFrom(conditions, String.class, DEALIDS_FIELD);
@@ -414,8 +488,9 @@ public class AccountConfigReader {
                         "%s field in account configuration must contain %s".formatted(CONDITIONS_FIELD, DEALIDS_FIELD));
             }
 
-            if (dealIds.contains(dealid)) {
-                results.add(requireNonNull(override.get(OVERRIDE_FIELD), OVERRIDE_FIELD));
+            final JsonNode overrideValue = override.get(OVERRIDE_FIELD);
+            for (final String dealId : new LinkedHashSet<>(dealIds)) {
+                results.computeIfAbsent(dealId, key -> new ArrayList<>()).add(overrideValue);
             }
         }
 
@@ -538,6 +613,38 @@ public class AccountConfigReader {
         return child;
     }
 
+    private OverrideKey overrideKey(String attribute, String field, Set<String> mediaTypes) {
+        return new OverrideKey(bidder, attribute, field, mediaTypes, debugEnabled);
+    }
+
+    private <K, V> V resolved(Function<ResolvedValues, Cache<K, V>> cacheSelector, K key, Supplier<V> resolver) {
+        if (config == null || accountConfigCache == null) {
+            return resolver.get();
+        }
+
+        if (resolvedValues == null) {
+            resolvedValues = accountConfigCache.resolvedValuesFor(config);
+        }
+
+        final Cache<K, V> cache = cacheSelector.apply(resolvedValues);
+        final V resolvedValue = cache.getIfPresent(key);
+        if (resolvedValue != null) {
+            return resolvedValue;
+        }
+
+        // resolver can fail on invalid config, such failures are not cached
+        final V value = resolver.get();
+        cache.put(key, value);
+
+        return value;
+    }
+
+    private static <K, V> Cache<K, V> resolvedValuesCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(RESOLVED_VALUES_CACHE_SIZE)
+                .build();
+    }
+
     private static <T> T requireNonNull(T object, String field) {
         if (object == null) {
             throw new InvalidAccountConfigurationException(
@@ -546,4 +653,38 @@ public class AccountConfigReader {
 
         return object;
     }
+
+    private record OverrideKey(String bidder,
+                               String attribute,
+                               String field,
+                               Set<String> mediaTypes,
+                               boolean debugEnabled) {
+    }
+
+    private record FieldKey(String attribute, String field) {
+    }
+
+    private record DealKey(String attribute, String field, String dealid) {
+    }
+
+    private record AttributeType<T>(Class<T> type, Function<ResolvedValues, TypedValues<T>> values) {
+    }
+
+    /**
+     * Values resolved from a single account config, typed by their keys.
+     */
+    static class ResolvedValues {
+
+        private final TypedValues<String> strings = new TypedValues<>();
+        private final TypedValues<Integer> integers = new TypedValues<>();
+        private final Cache<OverrideKey, Result<Boolean>> booleans = resolvedValuesCache();
+        private final Cache<FieldKey, Result<Integer>> integerFields = resolvedValuesCache();
+        private final Cache<FieldKey, Map<String, List<JsonNode>>> dealOverrides = resolvedValuesCache();
+    }
+
+    private static class TypedValues<T> {
+
+        private final Cache<OverrideKey, Result<List<T>>> arrays = resolvedValuesCache();
+        private final Cache<DealKey, Set<T>> dealExceptions = resolvedValuesCache();
+    }
 }
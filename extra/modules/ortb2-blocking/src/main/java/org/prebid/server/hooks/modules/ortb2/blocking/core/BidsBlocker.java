@@ -18,8 +18,10 @@ import org.prebid.server.hooks.modules.ortb2.blocking.core.model.Result;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.util.MergeUtils;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -46,13 +48,20 @@ public class BidsBlocker {
     private final ObjectNode accountConfig;
     private final BlockedAttributes blockedAttributes;
     private final boolean debugEnabled;
+    private final AccountConfigCache accountConfigCache;
+
+    // checked against every bid of the bidder
+    private final Set<String> blockedAdomains;
+    private final Set<String> blockedCategories;
+    private final Set<String> blockedApps;
 
     private BidsBlocker(List<BidderBid> bids,
                         String bidder,
                         OrtbVersion ortbVersion,
                         ObjectNode accountConfig,
                         BlockedAttributes blockedAttributes,
-                        boolean debugEnabled) {
+                        boolean debugEnabled,
+                        AccountConfigCache accountConfigCache) {
 
         this.bids = bids;
         this.bidder = bidder;
@@ -60,6 +69,11 @@ public class BidsBlocker {
         this.accountConfig = accountConfig;
         this.blockedAttributes = blockedAttributes;
         this.debugEnabled = debugEnabled;
+        this.accountConfigCache = accountConfigCache;
+
+        blockedAdomains = toSet(blockedAttributeValues(BlockedAttributes::getBadv));
+        blockedCategories = toSet(blockedAttributeValues(BlockedAttributes::getBcat));
+        blockedApps = toSet(blockedAttributeValues(BlockedAttributes::getBapp));
     }
 
     public static BidsBlocker create(List<BidderBid> bids,
@@ -69,18 +83,30 @@ public class BidsBlocker {
                                      BlockedAttributes blockedAttributes,
                                      boolean debugEnabled) {
 
+        return create(bids, bidder, ortbVersion, accountConfig, blockedAttributes, debugEnabled, null);
+    }
+
+    public static BidsBlocker create(List<BidderBid> bids,
+                                     String bidder,
+                                     OrtbVersion ortbVersion,
+                                     ObjectNode accountConfig,
+                                     BlockedAttributes blockedAttributes,
+                                     boolean debugEnabled,
+                                     AccountConfigCache accountConfigCache) {
+
         return new BidsBlocker(
                 Objects.requireNonNull(bids),
                 Objects.requireNonNull(bidder),
                 Objects.requireNonNull(ortbVersion),
                 accountConfig,
                 blockedAttributes,
-                debugEnabled);
+                debugEnabled,
+                accountConfigCache);
     }
 
     public ExecutionResult<BlockedBids> block() {
         final AccountConfigReader accountConfigReader = AccountConfigReader.create(
-                accountConfig, bidder, ortbVersion, debugEnabled);
+                accountConfig, bidder, ortbVersion, debugEnabled, accountConfigCache);
 
         try {
             final List<Result<BlockingResult>> blockedBidResults = bids.stream()
@@ -127,14 +153,14 @@ public class BidsBlocker {
         return checkAttribute(
                 bidderBid.getBid().getAdomain(),
                 blockingConfig.getBadv(),
-                blockedAttributeValues(BlockedAttributes::getBadv));
+                blockedAdomains);
     }
 
     private AttributeCheckResult<String> checkBcat(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
         return checkAttribute(
                 bidderBid.getBid().getCat(),
                 blockingConfig.getBcat(),
-                blockedAttributeValues(BlockedAttributes::getBcat));
+                blockedCategories);
     }
 
     private AttributeCheckResult<Integer> checkCattax(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
@@ -155,7 +181,7 @@ public class BidsBlocker {
         return checkAttribute(
                 bidderBid.getBid().getBundle(),
                 blockingConfig.getBapp(),
-                blockedAttributeValues(BlockedAttributes::getBapp));
+                blockedApps);
     }
 
     private AttributeCheckResult<Integer> checkBattr(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
@@ -168,7 +194,7 @@ public class BidsBlocker {
 
     private <T> AttributeCheckResult<T> checkAttribute(List<T> attribute,
                                                        BidAttributeBlockingConfig<T> blockingConfig,
-                                                       List<T> blockedAttributeValues) {
+                                                       Collection<T> blockedAttributeValues) {
 
         if (blockingConfig == null || !blockingConfig.isEnforceBlocks()) {
             return AttributeCheckResult.succeeded();
@@ -196,7 +222,7 @@ public class BidsBlocker {
 
     private AttributeCheckResult<String> checkAttribute(String attribute,
                                                         BidAttributeBlockingConfig<String> blockingConfig,
-                                                        List<String> blockedAttributeValues) {
+                                                        Collection<String> blockedAttributeValues) {
 
         if (blockingConfig == null
                 || !blockingConfig.isEnforceBlocks()
@@ -239,6 +265,10 @@ public class BidsBlocker {
         return blockedAttributeValues != null ? blockedAttributeValues.get(impId) : null;
     }
 
+    private static <T> Set<T> toSet(List<T> values) {
+        return values != null ? new HashSet<>(values) : null;
+    }
+
     private List<String> debugMessages(Set<Integer> blockedBidIndexes, List<Result<BlockingResult>> blockedBidResults) {
         if (!debugEnabled) {
             return null;
@@ -17,18 +17,21 @@ public class BlockedAttributesResolver {
     private final OrtbVersion ortbVersion;
     private final ObjectNode accountConfig;
     private final boolean debugEnabled;
+    private final AccountConfigCache accountConfigCache;
 
     private BlockedAttributesResolver(BidRequest bidRequest,
                                       String bidder,
                                       OrtbVersion ortbVersion,
                                       ObjectNode accountConfig,
-                                      boolean debugEnabled) {
+                                      boolean debugEnabled,
+                                      AccountConfigCache accountConfigCache) {
 
         this.bidRequest = bidRequest;
         this.bidder = bidder;
         this.ortbVersion = ortbVersion;
         this.accountConfig = accountConfig;
         this.debugEnabled = debugEnabled;
+        this.accountConfigCache = accountConfigCache;
     }
 
     public static BlockedAttributesResolver create(BidRequest bidRequest,
@@ -37,17 +40,28 @@ public class BlockedAttributesResolver {
                                                    ObjectNode accountConfig,
                                                    boolean debugEnabled) {
 
+        return create(bidRequest, bidder, ortbVersion, accountConfig, debugEnabled, null);
+    }
+
+    public static BlockedAttributesResolver create(BidRequest bidRequest,
+                                                   String bidder,
+                                                   OrtbVersion ortbVersion,
+                                                   ObjectNode accountConfig,
+                                                   boolean debugEnabled,
+                                                   AccountConfigCache accountConfigCache) {
+
         return new BlockedAttributesResolver(
                 Objects.requireNonNull(bidRequest),
                 Objects.requireNonNull(bidder),
                 Objects.requireNonNull(ortbVersion),
                 accountConfig,
-                debugEnabled);
+                debugEnabled,
+                accountConfigCache);
     }
 
     public ExecutionResult<BlockedAttributes> resolve() {
         final AccountConfigReader accountConfigReader = AccountConfigReader.create(
-                accountConfig, bidder, ortbVersion, debugEnabled);
+                accountConfig, bidder, ortbVersion, debugEnabled, accountConfigCache);
 
         try {
             final Result<BlockedAttributes> blockedAttributesResult = accountConfigReader
@@ -1,6 +1,7 @@
 package org.prebid.server.hooks.modules.ortb2.blocking.spring.config;
 
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.AccountConfigCache;
 import org.prebid.server.hooks.modules.ortb2.blocking.v1.Ortb2BlockingModule;
 import org.prebid.server.json.ObjectMapperProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -11,8 +12,17 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class Ortb2BlockingModuleConfiguration {
 
+    private static final int ACCOUNT_CONFIG_CACHE_SIZE = 10_000;
+
     @Bean
-    Ortb2BlockingModule ortb2BlockingModule(BidderCatalog bidderCatalog) {
-        return new Ortb2BlockingModule(bidderCatalog, ObjectMapperProvider.mapper());
+    AccountConfigCache ortb2BlockingAccountConfigCache() {
+        return new AccountConfigCache(ACCOUNT_CONFIG_CACHE_SIZE);
+    }
+
+    @Bean
+    Ortb2BlockingModule ortb2BlockingModule(BidderCatalog bidderCatalog,
+                                            AccountConfigCache ortb2BlockingAccountConfigCache) {
+
+        return new Ortb2BlockingModule(bidderCatalog, ObjectMapperProvider.mapper(), ortb2BlockingAccountConfigCache);
     }
 }
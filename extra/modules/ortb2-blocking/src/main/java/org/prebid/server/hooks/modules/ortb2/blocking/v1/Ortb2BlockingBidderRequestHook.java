@@ -5,6 +5,7 @@ import io.vertx.core.Future;
 import org.prebid.server.auction.BidderAliases;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.AccountConfigCache;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.BlockedAttributesResolver;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.RequestUpdater;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BlockedAttributes;
@@ -29,9 +30,11 @@ public class Ortb2BlockingBidderRequestHook implements BidderRequestHook {
     private static final String CODE = "ortb2-blocking-bidder-request";
 
     private final BidderCatalog bidderCatalog;
+    private final AccountConfigCache accountConfigCache;
 
-    public Ortb2BlockingBidderRequestHook(BidderCatalog bidderCatalog) {
+    public Ortb2BlockingBidderRequestHook(BidderCatalog bidderCatalog, AccountConfigCache accountConfigCache) {
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
+        this.accountConfigCache = Objects.requireNonNull(accountConfigCache);
     }
 
     @Override
@@ -50,7 +53,8 @@ public class Ortb2BlockingBidderRequestHook implements BidderRequestHook {
                         bidder,
                         moduleContext.ortbVersionOf(bidder),
                         invocationContext.accountConfig(),
-                        invocationContext.debugEnabled())
+                        invocationContext.debugEnabled(),
+                        accountConfigCache)
                 .resolve();
 
         final InvocationResultImpl.InvocationResultImplBuilder<BidderRequestPayload> resultBuilder =
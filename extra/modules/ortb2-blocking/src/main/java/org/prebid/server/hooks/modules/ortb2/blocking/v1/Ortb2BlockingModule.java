@@ -2,6 +2,7 @@ package org.prebid.server.hooks.modules.ortb2.blocking.v1;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.AccountConfigCache;
 import org.prebid.server.hooks.v1.Hook;
 import org.prebid.server.hooks.v1.InvocationContext;
 import org.prebid.server.hooks.v1.Module;
@@ -16,13 +17,17 @@ public class Ortb2BlockingModule implements Module {
 
     private final List<? extends Hook<?, ? extends InvocationContext>> hooks;
 
-    public Ortb2BlockingModule(BidderCatalog bidderCatalog, ObjectMapper mapper) {
+    public Ortb2BlockingModule(BidderCatalog bidderCatalog,
+                               ObjectMapper mapper,
+                               AccountConfigCache accountConfigCache) {
+
         Objects.requireNonNull(bidderCatalog);
         Objects.requireNonNull(mapper);
+        Objects.requireNonNull(accountConfigCache);
 
         hooks = List.of(
-                new Ortb2BlockingBidderRequestHook(bidderCatalog),
-                new Ortb2BlockingRawBidderResponseHook(mapper));
+                new Ortb2BlockingBidderRequestHook(bidderCatalog, accountConfigCache),
+                new Ortb2BlockingRawBidderResponseHook(mapper, accountConfigCache));
     }
 
     @Override
@@ -6,6 +6,7 @@ import io.vertx.core.Future;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.AccountConfigCache;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.BidsBlocker;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.ResponseUpdater;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.AnalyticsResult;
@@ -40,9 +41,11 @@ public class Ortb2BlockingRawBidderResponseHook implements RawBidderResponseHook
     private static final String SUCCESS_STATUS = "success";
 
     private final ObjectMapper mapper;
+    private final AccountConfigCache accountConfigCache;
 
-    public Ortb2BlockingRawBidderResponseHook(ObjectMapper mapper) {
+    public Ortb2BlockingRawBidderResponseHook(ObjectMapper mapper, AccountConfigCache accountConfigCache) {
         this.mapper = Objects.requireNonNull(mapper);
+        this.accountConfigCache = Objects.requireNonNull(accountConfigCache);
     }
 
     @Override
@@ -59,7 +62,8 @@ public class Ortb2BlockingRawBidderResponseHook implements RawBidderResponseHook
                         ObjectUtils.defaultIfNull(moduleContext.ortbVersionOf(bidder), OrtbVersion.ORTB_2_5),
                         invocationContext.accountConfig(),
                         moduleContext.blockedAttributesFor(bidder),
-                        invocationContext.debugEnabled())
+                        invocationContext.debugEnabled(),
+                        accountConfigCache)
                 .block();
 
         final InvocationResultImpl.InvocationResultImplBuilder<BidderResponsePayload> resultBuilder =
@@ -524,6 +524,85 @@ public class AccountConfigReaderTest {
                 Result.withValue(attributesWithBadv(singletonList("domain3.com"))));
     }
 
+    @Test
+    public void blockedAttributesForShouldResolveOverridesPerBidderForSameAccountConfig() {
+        // given
+        final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder()
+                        .blocked(singletonList("domain1.com"))
+                        .actionOverrides(AttributeActionOverrides.blocked(
+                                singletonList(
+                                        ArrayOverride.of(
+                                                Conditions.of(singletonList("bidder1"), null),
+                                                singletonList("domain3.com")))))
+                        .build())
+                .build()));
+
+        // when
+        final Result<BlockedAttributes> bidder1Result = AccountConfigReader
+                .create(accountConfig, "bidder1", ORTB_VERSION, true)
+                .blockedAttributesFor(emptyRequest());
+        final Result<BlockedAttributes> bidder2Result = AccountConfigReader
+                .create(accountConfig, "bidder2", ORTB_VERSION, true)
+                .blockedAttributesFor(emptyRequest());
+
+        // then
+        assertThat(bidder1Result).isEqualTo(Result.withValue(attributesWithBadv(singletonList("domain3.com"))));
+        assertThat(bidder2Result).isEqualTo(Result.withValue(attributesWithBadv(singletonList("domain1.com"))));
+    }
+
+    @Test
+    public void blockedAttributesForShouldReuseResolvedAttributesForSameAccountConfig() {
+        // given
+        final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder()
+                        .actionOverrides(AttributeActionOverrides.blocked(
+                                singletonList(
+                                        ArrayOverride.of(
+                                                Conditions.of(singletonList("bidder1"), null),
+                                                singletonList("domain3.com")))))
+                        .build())
+                .build()));
+        final AccountConfigCache accountConfigCache = new AccountConfigCache(100);
+
+        // when
+        final List<String> firstBadv = AccountConfigReader
+                .create(accountConfig, "bidder1", ORTB_VERSION, true, accountConfigCache)
+                .blockedAttributesFor(emptyRequest())
+                .getValue()
+                .getBadv();
+        final List<String> secondBadv = AccountConfigReader
+                .create(accountConfig, "bidder1", ORTB_VERSION, true, accountConfigCache)
+                .blockedAttributesFor(emptyRequest())
+                .getValue()
+                .getBadv();
+
+        // then
+        assertThat(secondBadv).isSameAs(firstBadv);
+    }
+
+    @Test
+    public void blockedAttributesForShouldNotReuseResolvedAttributesForAnotherAccountConfig() {
+        // given
+        final ObjectNode previousAccountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder().blocked(singletonList("domain1.com")).build())
+                .build()));
+        final AccountConfigCache accountConfigCache = new AccountConfigCache(100);
+        AccountConfigReader.create(previousAccountConfig, "bidder1", ORTB_VERSION, true, accountConfigCache)
+                .blockedAttributesFor(emptyRequest());
+
+        // when
+        final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder().blocked(singletonList("domain2.com")).build())
+                .build()));
+        final Result<BlockedAttributes> result = AccountConfigReader
+                .create(accountConfig, "bidder1", ORTB_VERSION, true, accountConfigCache)
+                .blockedAttributesFor(emptyRequest());
+
+        // then
+        assertThat(result).isEqualTo(Result.withValue(attributesWithBadv(singletonList("domain2.com"))));
+    }
+
     @Test
     public void blockedAttributesForShouldReturnResultWithBadvFromOverridesWhenMatchRequestByMediaType() {
         // given
@@ -1142,6 +1221,29 @@ public class AccountConfigReaderTest {
         });
     }
 
+    @Test
+    public void responseBlockingConfigForShouldReturnDefaultDealExceptionsForDealWithoutOverrides() {
+        // given
+        final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder()
+                        .allowedForDeals(singletonList("domain1.com"))
+                        .actionOverrides(AttributeActionOverrides.allowedForDeals(
+                                singletonList(
+                                        AllowedForDealsOverride.of(
+                                                DealsConditions.of(singletonList("dealid1")),
+                                                singletonList("domain3.com")))))
+                        .build())
+                .build()));
+        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final BidderBid otherDealBid = BidderBid.of(Bid.builder().dealid("dealid2").build(), BidType.banner, "USD");
+
+        // when and then
+        assertThat(reader.responseBlockingConfigFor(bid()).getValue().getBadv()).isEqualTo(
+                BidAttributeBlockingConfig.of(false, false, new HashSet<>(asList("domain1.com", "domain3.com"))));
+        assertThat(reader.responseBlockingConfigFor(otherDealBid).getValue().getBadv()).isEqualTo(
+                BidAttributeBlockingConfig.of(false, false, Set.of("domain1.com")));
+    }
+
     @Test
     public void responseBlockingConfigForShouldReturnAllAttributes() {
         // given
@@ -1,5 +1,7 @@
 package org.prebid.server.activity.infrastructure.creator;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.infrastructure.ActivityController;
@@ -31,6 +33,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -45,12 +49,29 @@ public class ActivityInfrastructureCreator {
     private final Purpose defaultPurpose4;
     private final Metrics metrics;
     private final JacksonMapper jacksonMapper;
+    private final Map<CompiledActivitiesKey, Map<Activity, CompiledActivity>> compiledActivitiesCache;
 
     public ActivityInfrastructureCreator(ActivityRuleFactory activityRuleFactory,
                                          GdprConfig gdprConfig,
                                          Metrics metrics,
                                          JacksonMapper jacksonMapper) {
 
+        this(activityRuleFactory, gdprConfig, metrics, jacksonMapper, null, null);
+    }
+
+    /**
+     * Creates creator which keeps rules compiled from account privacy configuration for the given time.
+     * <p>
+     * Rules of privacy modules are bound to GPP string of the request, so they are compiled per request
+     * whenever the request has one.
+     */
+    public ActivityInfrastructureCreator(ActivityRuleFactory activityRuleFactory,
+                                         GdprConfig gdprConfig,
+                                         Metrics metrics,
+                                         JacksonMapper jacksonMapper,
+                                         Integer cacheTtl,
+                                         Integer cacheSize) {
+
         this.activityRuleFactory = Objects.requireNonNull(activityRuleFactory);
         this.defaultPurpose4 = Optional.ofNullable(gdprConfig)
                 .map(GdprConfig::getPurposes)
@@ -58,6 +79,14 @@ public class ActivityInfrastructureCreator {
                 .orElse(null);
         this.metrics = Objects.requireNonNull(metrics);
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
+
+        compiledActivitiesCache = cacheTtl != null && cacheSize != null
+                ? Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl, TimeUnit.SECONDS)
+                .maximumSize(cacheSize)
+                .<CompiledActivitiesKey, Map<Activity, CompiledActivity>>build()
+                .asMap()
+                : null;
     }
 
     public ActivityInfrastructure create(Account account, GppContext gppContext, TraceLevel traceLevel) {
@@ -70,6 +99,36 @@ public class ActivityInfrastructureCreator {
     }
 
     Map<Activity, ActivityController> parse(Account account, GppContext gppContext, ActivityInfrastructureDebug debug) {
+        final Map<Activity, ActivityController> activitiesControllers = new EnumMap<>(Activity.class);
+        compiledActivities(account, gppContext).forEach((activity, compiledActivity) -> activitiesControllers.put(
+                activity,
+                ActivityController.of(compiledActivity.allow(), compiledActivity.rules(), debug)));
+
+        return activitiesControllers;
+    }
+
+    private Map<Activity, CompiledActivity> compiledActivities(Account account, GppContext gppContext) {
+        final AccountPrivacyConfig accountPrivacyConfig = account.getPrivacy();
+        final GppContext.Scope scope = gppContext != null ? gppContext.scope() : null;
+
+        if (compiledActivitiesCache == null || !isCacheable(accountPrivacyConfig, scope)) {
+            return compile(account, gppContext);
+        }
+
+        final CompiledActivitiesKey key = new CompiledActivitiesKey(
+                accountPrivacyConfig,
+                scope != null ? scope.getSectionsIds() : null);
+        return compiledActivitiesCache.computeIfAbsent(key, ignored -> compile(account, gppContext));
+    }
+
+    private static boolean isCacheable(AccountPrivacyConfig accountPrivacyConfig, GppContext.Scope scope) {
+        return scope == null
+                || scope.getGppModel() == null
+                || accountPrivacyConfig == null
+                || CollectionUtils.isEmpty(accountPrivacyConfig.getModules());
+    }
+
+    private Map<Activity, CompiledActivity> compile(Account account, GppContext gppContext) {
         final Optional<AccountPrivacyConfig> accountPrivacyConfig = Optional.ofNullable(account.getPrivacy());
 
         final Map<Activity, AccountActivityConfiguration> activitiesConfiguration = accountPrivacyConfig
@@ -93,8 +152,7 @@ public class ActivityInfrastructureCreator {
                                 activity,
                                 activitiesConfiguration.get(activity),
                                 modulesConfigs,
-                                gppContext,
-                                debug)),
+                                gppContext)),
                 (oldValue, newValue) -> oldValue,
                 enumMapFactory()));
     }
@@ -110,10 +168,10 @@ public class ActivityInfrastructureCreator {
     }
 
     // TODO: remove this wrapper after transition period
-    private Function<Activity, ActivityController> fallbackActivity(
+    private Function<Activity, CompiledActivity> fallbackActivity(
             Map<Activity, AccountActivityConfiguration> activitiesConfiguration,
             Optional<AccountPrivacyConfig> accountPrivacyConfig,
-            Function<Activity, ActivityController> activityControllerCreator) {
+            Function<Activity, CompiledActivity> activityControllerCreator) {
 
         final boolean imitateTransmitEids = !activitiesConfiguration.containsKey(Activity.TRANSMIT_EIDS)
                 && activitiesConfiguration.containsKey(Activity.TRANSMIT_UFPD)
@@ -131,17 +189,13 @@ public class ActivityInfrastructureCreator {
                 : activityControllerCreator.apply(originalActivity);
     }
 
-    private ActivityController from(Activity activity,
-                                    AccountActivityConfiguration activityConfiguration,
-                                    Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs,
-                                    GppContext gppContext,
-                                    ActivityInfrastructureDebug debug) {
+    private CompiledActivity from(Activity activity,
+                                  AccountActivityConfiguration activityConfiguration,
+                                  Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs,
+                                  GppContext gppContext) {
 
         if (activityConfiguration == null) {
-            return ActivityController.of(
-                    ActivityInfrastructure.ALLOW_ACTIVITY_BY_DEFAULT,
-                    Collections.emptyList(),
-                    debug);
+            return new CompiledActivity(ActivityInfrastructure.ALLOW_ACTIVITY_BY_DEFAULT, Collections.emptyList());
         }
 
         final ActivityControllerCreationContext creationContext = ActivityControllerCreationContext.of(
@@ -155,14 +209,20 @@ public class ActivityInfrastructureCreator {
                 .map(ruleConfiguration -> activityRuleFactory.from(ruleConfiguration, creationContext))
                 .toList();
 
-        return ActivityController.of(allow, rules, debug);
+        return new CompiledActivity(allow, rules);
     }
 
     private static boolean allowFromConfig(Boolean configValue) {
         return configValue != null ? configValue : ActivityInfrastructure.ALLOW_ACTIVITY_BY_DEFAULT;
     }
 
-    private static Supplier<Map<Activity, ActivityController>> enumMapFactory() {
+    private static Supplier<Map<Activity, CompiledActivity>> enumMapFactory() {
         return () -> new EnumMap<>(Activity.class);
     }
+
+    private record CompiledActivitiesKey(AccountPrivacyConfig accountPrivacyConfig, Set<Integer> sectionsIds) {
+    }
+
+    private record CompiledActivity(boolean allow, List<Rule> rules) {
+    }
 }
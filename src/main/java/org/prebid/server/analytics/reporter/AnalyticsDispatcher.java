@@ -0,0 +1,174 @@
+package org.prebid.server.analytics.reporter;
+
+import io.vertx.core.WorkerExecutor;
+import org.prebid.server.analytics.reporter.batch.OverflowPolicy;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs analytics reporters off the event loop.
+ * <p>
+ * Each reporter has its own bounded queue drained on a dedicated worker pool, so neither a reporter
+ * serializing events nor a spike of analytics events adds latency to auctions, and a slow reporter
+ * does not hold back the others. Once the queue is half full, events are sampled with the configured rate;
+ * when it is full, events are dropped according to {@link OverflowPolicy}.
+ */
+public class AnalyticsDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsDispatcher.class);
+
+    // lets other reporters use the pool while queue of a busy reporter is being drained
+    private static final int MAX_TASKS_PER_DRAIN = 64;
+
+    private final WorkerExecutor workerExecutor;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final double pressureSamplingRate;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final Map<String, Lane> lanes;
+
+    public AnalyticsDispatcher(WorkerExecutor workerExecutor,
+                               int queueCapacity,
+                               OverflowPolicy overflowPolicy,
+                               double pressureSamplingRate,
+                               Metrics metrics,
+                               Clock clock) {
+
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Analytics queue capacity must be positive");
+        }
+
+        this.workerExecutor = Objects.requireNonNull(workerExecutor);
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+        this.pressureSamplingRate = pressureSamplingRate;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+
+        lanes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Queues task of the given reporter. Drop listener is called if the task is dropped instead of being run.
+     */
+    public void dispatch(String reporterName, Runnable task, Runnable dropListener) {
+        lanes.computeIfAbsent(reporterName, this::createLane)
+                .offer(new Task(task, dropListener, clock.millis()));
+    }
+
+    private Lane createLane(String reporterName) {
+        final Lane lane = new Lane(reporterName);
+        metrics.createAnalyticsQueueSizeGauge(reporterName, lane.size::get);
+        return lane;
+    }
+
+    private class Lane {
+
+        private final String reporterName;
+        private final Queue<Task> queue;
+        private final AtomicInteger size;
+        private final AtomicBoolean draining;
+
+        Lane(String reporterName) {
+            this.reporterName = reporterName;
+            queue = new ConcurrentLinkedQueue<>();
+            size = new AtomicInteger();
+            draining = new AtomicBoolean();
+        }
+
+        void offer(Task task) {
+            if (isSampledOut()) {
+                task.drop();
+                return;
+            }
+
+            if (size.incrementAndGet() > queueCapacity) {
+                size.decrementAndGet();
+
+                final Task oldestTask = overflowPolicy == OverflowPolicy.dropOldest ? poll() : null;
+                if (oldestTask == null) {
+                    task.drop();
+                    return;
+                }
+
+                oldestTask.drop();
+                size.incrementAndGet();
+            }
+
+            queue.add(task);
+            scheduleDrain();
+        }
+
+        private boolean isSampledOut() {
+            return pressureSamplingRate < 1.0
+                    && size.get() * 2 >= queueCapacity
+                    && ThreadLocalRandom.current().nextDouble() >= pressureSamplingRate;
+        }
+
+        private Task poll() {
+            final Task task = queue.poll();
+            if (task != null) {
+                size.decrementAndGet();
+            }
+
+            return task;
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                workerExecutor.executeBlocking(this::drain, false);
+            }
+        }
+
+        private Void drain() {
+            try {
+                for (int i = 0; i < MAX_TASKS_PER_DRAIN; i++) {
+                    final Task task = poll();
+                    if (task == null) {
+                        break;
+                    }
+
+                    run(task);
+                }
+            } finally {
+                draining.set(false);
+            }
+
+            // tasks could be added after the last poll, but before draining flag is reset
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+
+            return null;
+        }
+
+        private void run(Task task) {
+            metrics.updateAnalyticsQueueTime(reporterName, clock.millis() - task.queuedAt());
+            try {
+                task.task().run();
+            } catch (Exception e) {
+                logger.warn("Analytics reporter {} failed to process event: {}", reporterName, e.getMessage());
+            }
+        }
+    }
+
+    private record Task(Runnable task, Runnable dropListener, long queuedAt) {
+
+        void drop() {
+            dropListener.run();
+        }
+    }
+}
@@ -58,6 +58,7 @@ public class AnalyticsReporterDelegator {
     private static final Set<String> ADAPTERS_PERMITTED_FOR_FULL_DATA = Collections.singleton("logAnalytics");
 
     private final Vertx vertx;
+    private final AnalyticsDispatcher dispatcher;
     private final List<AnalyticsReporter> delegates;
     private final TcfEnforcement tcfEnforcement;
     private final UserFpdActivityMask mask;
@@ -68,6 +69,7 @@ public class AnalyticsReporterDelegator {
     private final Set<String> reporterNames;
 
     public AnalyticsReporterDelegator(Vertx vertx,
+                                      AnalyticsDispatcher dispatcher,
                                       List<AnalyticsReporter> delegates,
                                       TcfEnforcement tcfEnforcement,
                                       UserFpdActivityMask userFpdActivityMask,
@@ -75,6 +77,7 @@ public class AnalyticsReporterDelegator {
                                       double logSamplingRate) {
 
         this.vertx = Objects.requireNonNull(vertx);
+        this.dispatcher = dispatcher;
         this.delegates = Objects.requireNonNull(delegates);
         this.tcfEnforcement = Objects.requireNonNull(tcfEnforcement);
         this.mask = Objects.requireNonNull(userFpdActivityMask);
@@ -91,7 +94,7 @@ public class AnalyticsReporterDelegator {
                 continue;
             }
 
-            vertx.runOnContext(ignored -> processEventByReporter(analyticsReporter, event));
+            dispatch(analyticsReporter, event);
         }
     }
 
@@ -121,7 +124,7 @@ public class AnalyticsReporterDelegator {
                 final PrivacyEnforcementAction reporterPrivacyAction = privacyEnforcementActionMap
                         .getOrDefault(reporterVendorId, PrivacyEnforcementAction.restrictAll());
                 if (!reporterPrivacyAction.isBlockAnalyticsReport()) {
-                    vertx.runOnContext(ignored -> processEventByReporter(analyticsReporter, updatedEvent));
+                    dispatch(analyticsReporter, updatedEvent);
                 }
             }
         } else {
@@ -297,6 +300,19 @@ public class AnalyticsReporterDelegator {
         return !analyticsNodeCopy.isEmpty() ? analyticsNodeCopy : null;
     }
 
+    private <T> void dispatch(AnalyticsReporter analyticsReporter, T event) {
+        if (dispatcher == null) {
+            vertx.runOnContext(ignored -> processEventByReporter(analyticsReporter, event));
+            return;
+        }
+
+        final String reporterName = analyticsReporter.name();
+        dispatcher.dispatch(
+                reporterName,
+                () -> processEventByReporter(analyticsReporter, event),
+                () -> updateMetricsByEventType(event, reporterName, MetricName.dropped));
+    }
+
     private <T> void processEventByReporter(AnalyticsReporter analyticsReporter, T event) {
         final String reporterName = analyticsReporter.name();
         analyticsReporter.processEvent(event)
@@ -0,0 +1,156 @@
+package org.prebid.server.analytics.reporter.batch;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.util.GzipUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Collects encoded analytics events and sends them in gzipped new-line delimited batches.
+ * <p>
+ * Batch is sent when events count or size exceeds configured thresholds, or when report TTL expires.
+ * Events are kept in bounded lock-free buffer, so adding event never blocks the caller. Number of batches
+ * being sent at the same time is limited: while limit is reached, events are accumulated in the buffer
+ * and, once it is full, dropped according to {@link OverflowPolicy}.
+ */
+public class AnalyticsEventsBatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsEventsBatcher.class);
+
+    private static final byte[] NEW_LINE = {'\n'};
+
+    private final int maxEventCount;
+    private final long maxByteSize;
+    private final long reportTtlMs;
+    private final int maxInFlightBatches;
+    private final OverflowPolicy overflowPolicy;
+    private final Function<byte[], Future<?>> batchSender;
+    private final Runnable droppedEventListener;
+    private final Vertx vertx;
+
+    private final EventsRingBuffer events;
+    private final AtomicInteger inFlightBatches;
+    private final AtomicLong reportTimerId;
+
+    public AnalyticsEventsBatcher(int maxEventCount,
+                                  long maxByteSize,
+                                  long reportTtlMs,
+                                  int capacity,
+                                  int maxInFlightBatches,
+                                  OverflowPolicy overflowPolicy,
+                                  Function<byte[], Future<?>> batchSender,
+                                  Runnable droppedEventListener,
+                                  Vertx vertx) {
+
+        this.maxEventCount = maxEventCount;
+        this.maxByteSize = maxByteSize;
+        this.reportTtlMs = reportTtlMs;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+        this.batchSender = Objects.requireNonNull(batchSender);
+        this.droppedEventListener = Objects.requireNonNull(droppedEventListener);
+        this.vertx = Objects.requireNonNull(vertx);
+
+        // buffer should be able to hold at least one full batch
+        events = new EventsRingBuffer(Math.max(capacity, maxEventCount + 1));
+        inFlightBatches = new AtomicInteger();
+        reportTimerId = new AtomicLong(-1);
+    }
+
+    /**
+     * Adds encoded event to the current batch and sends the batch if it is full.
+     */
+    public void add(byte[] event) {
+        if (!events.offer(event)) {
+            onOverflow(event);
+        }
+
+        if (isFull()) {
+            flush();
+        }
+    }
+
+    /**
+     * Sends all collected events. Returns true if batch was sent.
+     */
+    public boolean flush() {
+        if (events.size() == 0) {
+            return false;
+        }
+
+        if (inFlightBatches.incrementAndGet() > maxInFlightBatches) {
+            inFlightBatches.decrementAndGet();
+            return false;
+        }
+
+        final List<byte[]> batch = new ArrayList<>(events.size());
+        if (!events.drainTo(batch) || batch.isEmpty()) {
+            inFlightBatches.decrementAndGet();
+            return false;
+        }
+
+        resetReportTimer();
+
+        try {
+            batchSender.apply(GzipUtil.gzip(batch, NEW_LINE)).onComplete(ignored -> inFlightBatches.decrementAndGet());
+        } catch (Exception e) {
+            inFlightBatches.decrementAndGet();
+            logger.error("Failed to send batch of {} analytics events: {}", batch.size(), e.getMessage());
+        }
+
+        return true;
+    }
+
+    public void startReportTimer() {
+        reportTimerId.set(setReportTimer());
+    }
+
+    public void stopReportTimer() {
+        vertx.cancelTimer(reportTimerId.get());
+    }
+
+    public int size() {
+        return events.size();
+    }
+
+    public long byteSize() {
+        return events.byteSize();
+    }
+
+    private boolean isFull() {
+        return events.size() > maxEventCount || events.byteSize() > maxByteSize;
+    }
+
+    private void onOverflow(byte[] event) {
+        if (overflowPolicy == OverflowPolicy.dropOldest && events.removeOldest()) {
+            droppedEventListener.run();
+            if (events.offer(event)) {
+                return;
+            }
+        }
+
+        droppedEventListener.run();
+    }
+
+    private void resetReportTimer() {
+        vertx.cancelTimer(reportTimerId.getAndSet(setReportTimer()));
+    }
+
+    private long setReportTimer() {
+        return vertx.setTimer(reportTtlMs, timerId -> sendOnTimer());
+    }
+
+    private void sendOnTimer() {
+        if (!flush()) {
+            resetReportTimer();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.prebid.server.analytics.reporter.batch;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring of encoded events.
+ * <p>
+ * Any number of threads can offer events concurrently, while draining is performed by a single thread at a time:
+ * a thread that fails to become the consumer simply skips draining instead of waiting for another one.
+ * Likewise, consumer never waits for a producer which has claimed a slot but not yet published its event:
+ * draining stops at such slot and the rest of events is left for the next one.
+ * Events count and total size are tracked on the fly, so both are available in O(1).
+ */
+class EventsRingBuffer {
+
+    private final int mask;
+    private final AtomicReferenceArray<byte[]> slots;
+    private final AtomicLong head;
+    private final AtomicLong tail;
+    private final AtomicLong byteSize;
+    private final AtomicBoolean consuming;
+
+    EventsRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Events buffer capacity must be positive");
+        }
+
+        final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        mask = size - 1;
+        slots = new AtomicReferenceArray<>(size);
+        head = new AtomicLong();
+        tail = new AtomicLong();
+        byteSize = new AtomicLong();
+        consuming = new AtomicBoolean();
+    }
+
+    /**
+     * Adds event to the buffer. Returns false if there is no free slot for the event.
+     */
+    boolean offer(byte[] event) {
+        while (true) {
+            final long position = tail.get();
+            if (position - head.get() >= slots.length()) {
+                return false;
+            }
+
+            if (tail.compareAndSet(position, position + 1)) {
+                byteSize.addAndGet(event.length);
+                slots.set(index(position), event);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Moves all published events to the given list, up to the first slot being written by producer.
+     * Returns false if buffer is being drained by another thread.
+     */
+    boolean drainTo(List<byte[]> target) {
+        if (!consuming.compareAndSet(false, true)) {
+            return false;
+        }
+
+        try {
+            final long to = tail.get();
+            long position = head.get();
+            long drainedBytes = 0;
+            byte[] event;
+            while (position < to && (event = take(position)) != null) {
+                target.add(event);
+                drainedBytes += event.length;
+                position++;
+            }
+
+            byteSize.addAndGet(-drainedBytes);
+            head.set(position);
+            return true;
+        } finally {
+            consuming.set(false);
+        }
+    }
+
+    /**
+     * Removes the oldest buffered event. Returns false if there was nothing to remove, the oldest event
+     * is not yet published or buffer is being drained by another thread.
+     */
+    boolean removeOldest() {
+        if (!consuming.compareAndSet(false, true)) {
+            return false;
+        }
+
+        try {
+            final long position = head.get();
+            final byte[] event = position < tail.get() ? take(position) : null;
+            if (event == null) {
+                return false;
+            }
+
+            byteSize.addAndGet(-event.length);
+            head.set(position + 1);
+            return true;
+        } finally {
+            consuming.set(false);
+        }
+    }
+
+    int size() {
+        return (int) Math.max(tail.get() - head.get(), 0);
+    }
+
+    long byteSize() {
+        return byteSize.get();
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * Returns null if slot is already claimed by producer but the event itself is not published yet.
+     */
+    private byte[] take(long position) {
+        return slots.getAndSet(index(position), null);
+    }
+
+    private int index(long position) {
+        return (int) position & mask;
+    }
+}
@@ -0,0 +1,9 @@
+package org.prebid.server.analytics.reporter.batch;
+
+/**
+ * Defines which event is dropped when events buffer is full.
+ */
+public enum OverflowPolicy {
+
+    dropNewest, dropOldest
+}
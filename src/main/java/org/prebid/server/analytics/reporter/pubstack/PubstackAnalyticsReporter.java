@@ -21,6 +21,8 @@ import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.Initializable;
 import org.prebid.server.vertx.httpclient.HttpClient;
@@ -52,6 +54,7 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
     public PubstackAnalyticsReporter(PubstackAnalyticsProperties pubstackAnalyticsProperties,
                                      HttpClient httpClient,
                                      JacksonMapper jacksonMapper,
+                                     Metrics metrics,
                                      Vertx vertx) {
 
         this.configurationRefreshDelay =
@@ -61,7 +64,8 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.vertx = Objects.requireNonNull(vertx);
 
-        this.eventHandlers = createEventHandlers(pubstackAnalyticsProperties, httpClient, jacksonMapper, vertx);
+        this.eventHandlers = createEventHandlers(
+                pubstackAnalyticsProperties, httpClient, jacksonMapper, Objects.requireNonNull(metrics), vertx);
         this.pubstackConfig = PubstackConfig.of(pubstackAnalyticsProperties.getScopeId(),
                 pubstackAnalyticsProperties.getEndpoint(), Collections.emptyMap());
     }
@@ -70,6 +74,7 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
             PubstackAnalyticsProperties pubstackAnalyticsProperties,
             HttpClient httpClient,
             JacksonMapper jacksonMapper,
+            Metrics metrics,
             Vertx vertx) {
 
         return Arrays.stream(EventType.values())
@@ -78,11 +83,24 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
                                 pubstackAnalyticsProperties,
                                 false,
                                 buildEventEndpointUrl(pubstackAnalyticsProperties.getEndpoint(), eventType),
+                                toMetricName(eventType),
                                 jacksonMapper,
                                 httpClient,
+                                metrics,
                                 vertx)));
     }
 
+    private static MetricName toMetricName(EventType eventType) {
+        return switch (eventType) {
+            case amp -> MetricName.event_amp;
+            case auction -> MetricName.event_auction;
+            case cookiesync -> MetricName.event_cookie_sync;
+            case notification -> MetricName.event_notification;
+            case setuid -> MetricName.event_setuid;
+            case video -> MetricName.event_video;
+        };
+    }
+
     private static String buildEventEndpointUrl(String endpoint, EventType eventType) {
         return HttpUtil.validateUrl(endpoint + EVENT_REPORT_ENDPOINT_PATH + eventType.name());
     }
@@ -1,95 +1,98 @@
 package org.prebid.server.analytics.reporter.pubstack;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
+import org.apache.commons.lang3.ObjectUtils;
+import org.prebid.server.analytics.reporter.batch.AnalyticsEventsBatcher;
+import org.prebid.server.analytics.reporter.batch.OverflowPolicy;
 import org.prebid.server.analytics.reporter.pubstack.model.PubstackAnalyticsProperties;
-import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.ReentrantLock;
-import java.util.function.Predicate;
-import java.util.zip.GZIPOutputStream;
 
 public class PubstackEventHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(PubstackEventHandler.class);
+    private static final String ANALYTIC_CODE = "pubstack";
     private static final String SCOPE_FIELD_NAME = "scope";
     private static final String APPLICATION_OCTET_STREAM = "application/octet-stream";
     private static final String GZIP = "gzip";
-    private static final String NEW_LINE = "\n";
+    private static final int DEFAULT_CAPACITY = 1000;
+    private static final int DEFAULT_MAX_IN_FLIGHT_REPORTS = 4;
 
     private volatile boolean enabled;
     private volatile String endpoint;
     private volatile String scopeId;
-    private final long maxByteSize;
-    private final long maxEventCount;
-    private final long reportTtlMillis;
     private final long timeoutMs;
-    private final Vertx vertx;
+    private final MetricName eventType;
     private final JacksonMapper jacksonMapper;
     private final HttpClient httpClient;
+    private final Metrics metrics;
 
-    private final ReentrantLock lockOnSend;
-    private final AtomicReference<Queue<String>> events;
+    private final AnalyticsEventsBatcher eventsBatcher;
     private final MultiMap headers;
-    private final AtomicLong byteSize;
-    private volatile long reportTimerId;
 
     public PubstackEventHandler(PubstackAnalyticsProperties pubstackAnalyticsProperties,
                                 boolean enabled,
                                 String endpoint,
+                                MetricName eventType,
                                 JacksonMapper jacksonMapper,
                                 HttpClient httpClient,
+                                Metrics metrics,
                                 Vertx vertx) {
         this.enabled = enabled;
         this.endpoint = HttpUtil.validateUrl(endpoint);
         this.scopeId = pubstackAnalyticsProperties.getScopeId();
-        this.maxByteSize = pubstackAnalyticsProperties.getSizeBytes();
-        this.maxEventCount = pubstackAnalyticsProperties.getCount();
-        this.reportTtlMillis = pubstackAnalyticsProperties.getReportTtlMs();
         this.timeoutMs = pubstackAnalyticsProperties.getTimeoutMs();
+        this.eventType = Objects.requireNonNull(eventType);
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.httpClient = Objects.requireNonNull(httpClient);
-        this.vertx = Objects.requireNonNull(vertx);
-
-        this.lockOnSend = new ReentrantLock();
-        this.events = new AtomicReference<>(new ConcurrentLinkedQueue<>());
+        this.metrics = Objects.requireNonNull(metrics);
+
+        this.eventsBatcher = new AnalyticsEventsBatcher(
+                pubstackAnalyticsProperties.getCount(),
+                pubstackAnalyticsProperties.getSizeBytes(),
+                pubstackAnalyticsProperties.getReportTtlMs(),
+                ObjectUtils.defaultIfNull(pubstackAnalyticsProperties.getCapacity(), DEFAULT_CAPACITY),
+                ObjectUtils.defaultIfNull(
+                        pubstackAnalyticsProperties.getMaxInFlightReports(), DEFAULT_MAX_IN_FLIGHT_REPORTS),
+                ObjectUtils.defaultIfNull(pubstackAnalyticsProperties.getOverflowPolicy(), OverflowPolicy.dropNewest),
+                this::sendEvents,
+                this::onEventDropped,
+                Objects.requireNonNull(vertx));
         this.headers = makeHeaders();
-        this.byteSize = new AtomicLong();
         if (enabled) {
-            this.reportTimerId = setReportTtlTimer();
+            eventsBatcher.startReportTimer();
         }
     }
 
     public <T> void handle(T event) {
         if (enabled) {
-            buffer(event);
-            reportEventsOnCondition(byteSize -> byteSize.get() > maxByteSize, byteSize);
-            reportEventsOnCondition(eventsReference -> eventsReference.get().size() > maxEventCount, events);
+            eventsBatcher.add(toJsonBytes(event));
         }
     }
 
     public void reportEvents() {
         if (enabled) {
-            reportEventsOnCondition(events -> !events.get().isEmpty(), events);
+            eventsBatcher.flush();
         }
     }
 
@@ -100,65 +103,24 @@ public class PubstackEventHandler {
         this.scopeId = scopeId;
     }
 
-    private <T> void buffer(T event) {
-        final ObjectNode eventNode = jacksonMapper.mapper().valueToTree(event);
-        eventNode.put(SCOPE_FIELD_NAME, scopeId);
-        final String jsonEvent = jacksonMapper.encodeToString(eventNode);
-        events.get().add(jsonEvent);
-        byteSize.getAndAdd(jsonEvent.getBytes().length);
+    private <T> byte[] toJsonBytes(T event) {
+        return jacksonMapper.encodeToBytes(new ScopedEvent(event, scopeId));
     }
 
-    private <T> boolean reportEventsOnCondition(Predicate<T> conditionToSend, T conditionValue) {
-        boolean requestWasSent = false;
-        if (conditionToSend.test(conditionValue)) {
-            lockOnSend.lock();
-            try {
-                if (conditionToSend.test(conditionValue)) {
-                    requestWasSent = true;
-                    sendEvents(events);
-                }
-            } catch (Exception exception) {
-                logger.error("[pubstack] Failed to send analytics report to endpoint {} with a reason {}",
-                        endpoint, exception.getMessage());
-            } finally {
-                lockOnSend.unlock();
-            }
+    private Future<HttpClientResponse> sendEvents(byte[] gzippedEvents) {
+        try {
+            return httpClient.request(HttpMethod.POST, HttpUtil.validateUrl(endpoint), headers, gzippedEvents,
+                            timeoutMs)
+                    .onComplete(this::handleReportResponse);
+        } catch (Exception exception) {
+            logger.error("[pubstack] Failed to send analytics report to endpoint {} with a reason {}",
+                    endpoint, exception.getMessage());
+            return Future.failedFuture(exception);
         }
-        return requestWasSent;
-    }
-
-    private void sendEvents(AtomicReference<Queue<String>> events) {
-        final String url = HttpUtil.validateUrl(endpoint);
-        final Queue<String> copyToSend = events.getAndSet(new ConcurrentLinkedQueue<>());
-
-        resetReportEventsConditions();
-
-        httpClient.request(HttpMethod.POST, url, headers, toGzippedBytes(copyToSend), timeoutMs)
-                .onComplete(this::handleReportResponse);
-    }
-
-    private void resetReportEventsConditions() {
-        byteSize.set(0);
-        vertx.cancelTimer(reportTimerId);
-        reportTimerId = setReportTtlTimer();
     }
 
-    private static byte[] toGzippedBytes(Queue<String> events) {
-        return gzip(String.join(NEW_LINE, events));
-    }
-
-    private static byte[] gzip(String value) {
-        try (
-                ByteArrayOutputStream obj = new ByteArrayOutputStream();
-                GZIPOutputStream gzip = new GZIPOutputStream(obj)) {
-
-            gzip.write(value.getBytes(StandardCharsets.UTF_8));
-            gzip.finish();
-
-            return obj.toByteArray();
-        } catch (IOException e) {
-            throw new PreBidException("[pubstack] failed to compress, skip the events : " + e.getMessage());
-        }
+    private void onEventDropped() {
+        metrics.updateAnalyticEventMetric(ANALYTIC_CODE, eventType, MetricName.dropped);
     }
 
     private void handleReportResponse(AsyncResult<HttpClientResponse> result) {
@@ -174,22 +136,11 @@ public class PubstackEventHandler {
         }
     }
 
-    private long setReportTtlTimer() {
-        return vertx.setTimer(reportTtlMillis, timerId -> sendOnTimer());
-    }
-
-    private void sendOnTimer() {
-        final boolean requestWasSent = reportEventsOnCondition(events -> !events.get().isEmpty(), events);
-        if (!requestWasSent) {
-            setReportTtlTimer();
-        }
-    }
-
     private void updateTimerOnEnabling(boolean enabled) {
         if (this.enabled && !enabled) {
-            vertx.cancelTimer(reportTimerId);
+            eventsBatcher.stopReportTimer();
         } else if (!this.enabled && enabled) {
-            reportTimerId = setReportTtlTimer();
+            eventsBatcher.startReportTimer();
         }
     }
 
@@ -198,4 +149,35 @@ public class PubstackEventHandler {
                 .add(HttpHeaders.CONTENT_TYPE, APPLICATION_OCTET_STREAM)
                 .add(HttpHeaders.CONTENT_ENCODING, GZIP);
     }
+
+    /**
+     * Event with scope field appended, which is written in one pass without building JSON tree of the event.
+     */
+    private static class ScopedEvent extends JsonSerializable.Base {
+
+        private final Object event;
+        private final String scope;
+
+        ScopedEvent(Object event, String scope) {
+            this.event = event;
+            this.scope = scope;
+        }
+
+        @Override
+        public void serialize(JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartObject();
+            provider.findValueSerializer(event.getClass())
+                    .unwrappingSerializer(NameTransformer.NOP)
+                    .serialize(event, generator, provider);
+            generator.writeStringField(SCOPE_FIELD_NAME, scope);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void serializeWithType(JsonGenerator generator, SerializerProvider provider, TypeSerializer typeSer)
+                throws IOException {
+
+            serialize(generator, provider);
+        }
+    }
 }
@@ -2,6 +2,7 @@ package org.prebid.server.analytics.reporter.pubstack.model;
 
 import lombok.Builder;
 import lombok.Value;
+import org.prebid.server.analytics.reporter.batch.OverflowPolicy;
 
 @Builder
 @Value
@@ -21,5 +22,11 @@ public class PubstackAnalyticsProperties {
 
     Long reportTtlMs;
 
+    Integer capacity;
+
+    Integer maxInFlightReports;
+
+    OverflowPolicy overflowPolicy;
+
     Long timeoutMs;
 }
@@ -374,7 +374,7 @@ public class BidResponseCreator {
                                                            BidRequestCacheInfo cacheInfo,
                                                            AuctionContext auctionContext) {
 
-        final List<Imp> imps = auctionContext.getBidRequest().getImp();
+        final ImpIndex impIndex = auctionContext.getImpIndex();
         final Account account = auctionContext.getAccount();
         final List<BidderResponseInfo> result = new ArrayList<>();
 
@@ -388,7 +388,8 @@ public class BidResponseCreator {
             for (final BidderBid bidderBid : seatBid.getBids()) {
                 final Bid bid = bidderBid.getBid();
                 final BidType type = bidderBid.getType();
-                final BidInfo bidInfo = toBidInfo(bid, type, imps, bidder, categoryMappingResult, cacheInfo, account);
+                final BidInfo bidInfo =
+                        toBidInfo(bid, type, impIndex, bidder, categoryMappingResult, cacheInfo, account);
                 bidInfos.add(bidInfo);
             }
 
@@ -407,13 +408,13 @@ public class BidResponseCreator {
 
     private BidInfo toBidInfo(Bid bid,
                               BidType type,
-                              List<Imp> imps,
+                              ImpIndex impIndex,
                               String bidder,
                               CategoryMappingResult categoryMappingResult,
                               BidRequestCacheInfo cacheInfo,
                               Account account) {
 
-        final Imp correspondingImp = correspondingImp(bid, imps);
+        final Imp correspondingImp = correspondingImp(bid, impIndex);
         return BidInfo.builder()
                 .bid(bid)
                 .bidType(type)
@@ -426,18 +427,16 @@ public class BidResponseCreator {
                 .build();
     }
 
-    private static Imp correspondingImp(Bid bid, List<Imp> imps) {
+    private static Imp correspondingImp(Bid bid, ImpIndex impIndex) {
         final String impId = bid.getImpid();
-        return correspondingImp(impId, imps)
+        return correspondingImp(impId, impIndex)
                 // Should never occur. See ResponseBidValidator
                 .orElseThrow(
                         () -> new PreBidException("Bid with impId %s doesn't have matched imp".formatted(impId)));
     }
 
-    private static Optional<Imp> correspondingImp(String impId, List<Imp> imps) {
-        return imps.stream()
-                .filter(imp -> Objects.equals(impId, imp.getId()))
-                .findFirst();
+    private static Optional<Imp> correspondingImp(String impId, ImpIndex impIndex) {
+        return Optional.ofNullable(impIndex.find(impId));
     }
 
     private Integer resolveBannerTtl(Bid bid, Imp imp, BidRequestCacheInfo cacheInfo, Account account) {
@@ -779,23 +778,25 @@ public class BidResponseCreator {
     private ExtBidResponseFledge toExtBidResponseFledge(List<BidderResponseInfo> bidderResponseInfos,
                                                         AuctionContext auctionContext) {
 
-        final List<Imp> imps = auctionContext.getBidRequest().getImp();
+        final ImpIndex impIndex = auctionContext.getImpIndex();
         final List<FledgeAuctionConfig> fledgeConfigs = bidderResponseInfos.stream()
-                .flatMap(bidderResponseInfo -> fledgeConfigsForBidder(bidderResponseInfo, imps))
+                .flatMap(bidderResponseInfo -> fledgeConfigsForBidder(bidderResponseInfo, impIndex))
                 .toList();
         return !fledgeConfigs.isEmpty() ? ExtBidResponseFledge.of(fledgeConfigs) : null;
     }
 
-    private Stream<FledgeAuctionConfig> fledgeConfigsForBidder(BidderResponseInfo bidderResponseInfo, List<Imp> imps) {
+    private Stream<FledgeAuctionConfig> fledgeConfigsForBidder(BidderResponseInfo bidderResponseInfo,
+                                                               ImpIndex impIndex) {
+
         return Optional.ofNullable(bidderResponseInfo.getSeatBid().getFledgeAuctionConfigs())
                 .stream()
                 .flatMap(Collection::stream)
-                .filter(fledgeConfig -> validateFledgeConfig(fledgeConfig, imps))
+                .filter(fledgeConfig -> validateFledgeConfig(fledgeConfig, impIndex))
                 .map(fledgeConfig -> fledgeConfigWithBidder(fledgeConfig, bidderResponseInfo.getBidder()));
     }
 
-    private boolean validateFledgeConfig(FledgeAuctionConfig fledgeAuctionConfig, List<Imp> imps) {
-        final ExtImpAuctionEnvironment fledgeEnabled = correspondingImp(fledgeAuctionConfig.getImpId(), imps)
+    private boolean validateFledgeConfig(FledgeAuctionConfig fledgeAuctionConfig, ImpIndex impIndex) {
+        final ExtImpAuctionEnvironment fledgeEnabled = correspondingImp(fledgeAuctionConfig.getImpId(), impIndex)
                 .map(Imp::getExt)
                 .map(ext -> convertValue(ext, "ae", ExtImpAuctionEnvironment.class))
                 .orElse(ExtImpAuctionEnvironment.SERVER_SIDE_AUCTION);
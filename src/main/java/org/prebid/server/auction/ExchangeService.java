@@ -139,6 +139,7 @@ import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -734,6 +735,10 @@ public class ExchangeService {
      * Returns {@link List<Eid>} allowed by {@param eidPermissions} per source per bidder.
      */
     private List<Eid> resolveAllowedEids(List<Eid> userEids, String bidder, Map<String, List<String>> eidPermissions) {
+        if (eidPermissions.isEmpty()) {
+            return ListUtils.emptyIfNull(userEids);
+        }
+
         return CollectionUtils.emptyIfNull(userEids)
                 .stream()
                 .filter(userEid -> isUserEidAllowed(userEid.getSource(), eidPermissions, bidder))
@@ -765,6 +770,8 @@ public class ExchangeService {
             AuctionContext context) {
 
         final Map<String, JsonNode> bidderToPrebidBidders = bidderToPrebidBidders(bidRequest);
+        // imp.ext.prebid differs between bidders only by floors, so it is decoded once per imp and shared
+        final Map<Imp, ExtImpPrebid> impToExtImpPrebid = new IdentityHashMap<>();
         final List<AuctionParticipation> bidderRequests = bidderPrivacyResults.stream()
                 // for each bidder create a new request that is a copy of original request except buyerid, imp
                 // extensions, ext.prebid.data.bidders and ext.prebid.bidders.
@@ -776,6 +783,7 @@ public class ExchangeService {
                         bidderToMultiBid,
                         biddersToConfigs,
                         bidderToPrebidBidders,
+                        impToExtImpPrebid,
                         aliases,
                         context))
                 // Can't be removed after we prepare workflow to filter blocked
@@ -816,6 +824,7 @@ public class ExchangeService {
             Map<String, MultiBidConfig> bidderToMultiBid,
             Map<String, ExtBidderConfigOrtb> biddersToConfigs,
             Map<String, JsonNode> bidderToPrebidBidders,
+            Map<Imp, ExtImpPrebid> impToExtImpPrebid,
             BidderAliases bidderAliases,
             AuctionContext context) {
 
@@ -845,6 +854,7 @@ public class ExchangeService {
                 bidderToMultiBid,
                 biddersToConfigs,
                 bidderToPrebidBidders,
+                impToExtImpPrebid,
                 context);
 
         final BidderRequest bidderRequest = BidderRequest.builder()
@@ -871,6 +881,7 @@ public class ExchangeService {
                                          Map<String, MultiBidConfig> bidderToMultiBid,
                                          Map<String, ExtBidderConfigOrtb> biddersToConfigs,
                                          Map<String, JsonNode> bidderToPrebidBidders,
+                                         Map<Imp, ExtImpPrebid> impToExtImpPrebid,
                                          AuctionContext context) {
 
         final BidRequest bidRequest = context.getBidRequest();
@@ -924,7 +935,7 @@ public class ExchangeService {
                 // User was already prepared above
                 .user(bidderPrivacyResult.getUser())
                 .device(bidderPrivacyResult.getDevice())
-                .imp(prepareImps(bidder, imps, bidRequest, transmitTid,
+                .imp(prepareImps(bidder, imps, impToExtImpPrebid, bidRequest, transmitTid,
                         useFirstPartyData, context.getAccount(), context.getDebugWarnings()))
                 .app(isApp ? preparedApp : null)
                 .dooh(isDooh ? preparedDooh : null)
@@ -953,6 +964,7 @@ public class ExchangeService {
 
     private List<Imp> prepareImps(String bidder,
                                   List<Imp> imps,
+                                  Map<Imp, ExtImpPrebid> impToExtImpPrebid,
                                   BidRequest bidRequest,
                                   boolean transmitTid,
                                   boolean useFirstPartyData,
@@ -961,12 +973,14 @@ public class ExchangeService {
 
         return imps.stream()
                 .filter(imp -> bidderParamsFromImpExt(imp.getExt()).hasNonNull(bidder))
-                .map(imp -> prepareImp(imp, bidder, bidRequest, transmitTid, useFirstPartyData, account, debugWarnings))
+                .map(imp -> prepareImp(imp, bidder, impToExtImpPrebid, bidRequest, transmitTid,
+                        useFirstPartyData, account, debugWarnings))
                 .toList();
     }
 
     private Imp prepareImp(Imp imp,
                            String bidder,
+                           Map<Imp, ExtImpPrebid> impToExtImpPrebid,
                            BidRequest bidRequest,
                            boolean transmitTid,
                            boolean useFirstPartyData,
@@ -977,7 +991,8 @@ public class ExchangeService {
         return imp.toBuilder()
                 .bidfloor(adjustedPrice.getValue())
                 .bidfloorcur(adjustedPrice.getCurrency())
-                .ext(prepareImpExt(bidder, imp.getExt(), adjustedPrice.getValue(), transmitTid, useFirstPartyData))
+                .ext(prepareImpExt(
+                        bidder, imp, impToExtImpPrebid, adjustedPrice.getValue(), transmitTid, useFirstPartyData))
                 .build();
     }
 
@@ -991,16 +1006,24 @@ public class ExchangeService {
     }
 
     private ObjectNode prepareImpExt(String bidder,
-                                     ObjectNode impExt,
+                                     Imp imp,
+                                     Map<Imp, ExtImpPrebid> impToExtImpPrebid,
                                      BigDecimal adjustedFloor,
                                      boolean transmitTid,
                                      boolean useFirstPartyData) {
 
-        final ObjectNode modifiedImpExt = impExt.deepCopy();
-        final JsonNode impExtPrebid = prepareImpExt(impExt.get(PREBID_EXT), adjustedFloor);
-        Optional.ofNullable(impExtPrebid).ifPresentOrElse(
-                ext -> modifiedImpExt.set(PREBID_EXT, ext),
-                () -> modifiedImpExt.remove(PREBID_EXT));
+        final ObjectNode impExt = imp.getExt();
+        final JsonNode impExtPrebid = prepareImpExtPrebid(imp, impToExtImpPrebid, adjustedFloor);
+
+        // imp.ext.prebid holding params of all bidders is replaced anyway, so only the rest is copied
+        final ObjectNode modifiedImpExt = mapper.mapper().createObjectNode();
+        impExt.fields().forEachRemaining(field -> {
+            if (!PREBID_EXT.equals(field.getKey())) {
+                modifiedImpExt.set(field.getKey(), field.getValue().deepCopy());
+            } else if (impExtPrebid != null) {
+                modifiedImpExt.set(PREBID_EXT, impExtPrebid);
+            }
+        });
         modifiedImpExt.set(BIDDER_EXT, bidderParamsFromImpExt(impExt).get(bidder));
         if (!transmitTid) {
             modifiedImpExt.remove(TID_EXT);
@@ -1009,25 +1032,21 @@ public class ExchangeService {
         return fpdResolver.resolveImpExt(modifiedImpExt, useFirstPartyData);
     }
 
-    private JsonNode prepareImpExt(JsonNode extImpPrebidNode, BigDecimal adjustedFloor) {
+    private JsonNode prepareImpExtPrebid(Imp imp, Map<Imp, ExtImpPrebid> impToExtImpPrebid, BigDecimal adjustedFloor) {
+        final JsonNode extImpPrebidNode = imp.getExt().get(PREBID_EXT);
         if (extImpPrebidNode.size() <= 1) {
             return null;
         }
 
-        final ExtImpPrebid extImpPrebid = extImpPrebid(extImpPrebidNode);
+        final ExtImpPrebid extImpPrebid = impToExtImpPrebid.computeIfAbsent(
+                imp, ignored -> extImpPrebid(extImpPrebidNode).toBuilder().bidder(null).build());
         final ExtImpPrebidFloors floors = extImpPrebid.getFloors();
-        final ExtImpPrebidFloors updatedFloors = floors != null
-                ? ExtImpPrebidFloors.of(floors.getFloorRule(),
-                floors.getFloorRuleValue(),
-                adjustedFloor,
-                floors.getFloorMin(),
-                floors.getFloorMinCur())
-                : null;
-
-        return mapper.mapper().valueToTree(extImpPrebid(extImpPrebidNode).toBuilder()
-                .floors(updatedFloors)
-                .bidder(null)
-                .build());
+        return mapper.mapper().valueToTree(floors != null
+                ? extImpPrebid.toBuilder()
+                .floors(ExtImpPrebidFloors.of(floors.getFloorRule(), floors.getFloorRuleValue(), adjustedFloor,
+                        floors.getFloorMin(), floors.getFloorMinCur()))
+                .build()
+                : extImpPrebid);
     }
 
     private ExtImpPrebid extImpPrebid(JsonNode extImpPrebid) {
@@ -1383,11 +1402,10 @@ public class ExchangeService {
 
         return auctionParticipations.stream()
                 .map(auctionParticipation -> validBidderResponse(auctionParticipation, auctionContext, aliases))
-                .map(auctionParticipation -> applyBidPriceChanges(auctionParticipation, auctionContext.getBidRequest()))
+                .map(auctionParticipation -> applyBidPriceChanges(auctionParticipation, auctionContext))
                 .map(auctionParticipation -> priceFloorEnforcer.enforce(
-                        auctionContext.getBidRequest(),
+                        auctionContext,
                         auctionParticipation,
-                        auctionContext.getAccount(),
                         auctionContext.getBidRejectionTrackers().get(auctionParticipation.getBidder())))
                 .map(auctionParticipation -> dsaEnforcer.enforce(
                         auctionContext.getBidRequest(),
@@ -1471,7 +1489,7 @@ public class ExchangeService {
      * {@link Bid#getPrice()} is not empty.
      */
     private AuctionParticipation applyBidPriceChanges(AuctionParticipation auctionParticipation,
-                                                      BidRequest bidRequest) {
+                                                      AuctionContext auctionContext) {
         if (auctionParticipation.isRequestBlocked()) {
             return auctionParticipation;
         }
@@ -1486,12 +1504,12 @@ public class ExchangeService {
 
         final List<BidderBid> updatedBidderBids = new ArrayList<>(bidderBids.size());
         final List<BidderError> errors = new ArrayList<>(seatBid.getErrors());
-        final String adServerCurrency = bidRequest.getCur().getFirst();
+        final String adServerCurrency = auctionContext.getBidRequest().getCur().getFirst();
 
         for (final BidderBid bidderBid : bidderBids) {
             try {
                 final BidderBid updatedBidderBid =
-                        updateBidderBidWithBidPriceChanges(bidderBid, bidderResponse, bidRequest, adServerCurrency);
+                        updateBidderBidWithBidPriceChanges(bidderBid, bidderResponse, auctionContext, adServerCurrency);
                 updatedBidderBids.add(updatedBidderBid);
             } catch (PreBidException e) {
                 errors.add(BidderError.generic(e.getMessage()));
@@ -1507,17 +1525,17 @@ public class ExchangeService {
 
     private BidderBid updateBidderBidWithBidPriceChanges(BidderBid bidderBid,
                                                          BidderResponse bidderResponse,
-                                                         BidRequest bidRequest,
+                                                         AuctionContext auctionContext,
                                                          String adServerCurrency) {
         final Bid bid = bidderBid.getBid();
         final String bidCurrency = bidderBid.getBidCurrency();
         final BigDecimal price = bid.getPrice();
 
         final BigDecimal priceInAdServerCurrency = currencyService.convertCurrency(
-                price, bidRequest, StringUtils.stripToNull(bidCurrency), adServerCurrency);
+                price, auctionContext.getBidRequest(), StringUtils.stripToNull(bidCurrency), adServerCurrency);
 
         final BigDecimal priceAdjustmentFactor =
-                bidAdjustmentForBidder(bidderResponse.getBidder(), bidRequest, bidderBid);
+                bidAdjustmentForBidder(bidderResponse.getBidder(), auctionContext, bidderBid);
         final BigDecimal adjustedPrice = adjustPrice(priceAdjustmentFactor, priceInAdServerCurrency);
 
         final ObjectNode bidExt = bid.getExt();
@@ -1537,13 +1555,14 @@ public class ExchangeService {
         return bidderBid.toBuilder().bid(bidBuilder.build()).build();
     }
 
-    private BigDecimal bidAdjustmentForBidder(String bidder, BidRequest bidRequest, BidderBid bidderBid) {
-        final ExtRequestBidAdjustmentFactors adjustmentFactors = extBidAdjustmentFactors(bidRequest);
+    private BigDecimal bidAdjustmentForBidder(String bidder, AuctionContext auctionContext, BidderBid bidderBid) {
+        final ExtRequestBidAdjustmentFactors adjustmentFactors =
+                extBidAdjustmentFactors(auctionContext.getBidRequest());
         if (adjustmentFactors == null) {
             return null;
         }
         final ImpMediaType mediaType = ImpMediaTypeResolver.resolve(
-                bidderBid.getBid().getImpid(), bidRequest.getImp(), bidderBid.getType());
+                bidderBid.getBid().getImpid(), auctionContext.getImpIndex(), bidderBid.getType());
 
         return bidAdjustmentFactorResolver.resolve(mediaType, adjustmentFactors, bidder);
     }
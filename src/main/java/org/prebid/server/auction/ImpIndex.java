@@ -0,0 +1,72 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.request.Imp;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Lookup of {@link Imp} by id for correlating bids with imps of the request.
+ * <p>
+ * Index is built once for imps of the auction request and kept in
+ * {@link org.prebid.server.auction.model.AuctionContext}, so response validation, bid adjustments, floors
+ * enforcement and response creation look up imp of each bid by hash instead of scanning all imps.
+ */
+public class ImpIndex {
+
+    // scan of a few imps is cheaper than an index lookup
+    private static final int MIN_INDEXED_IMPS = 4;
+
+    private final List<Imp> imps;
+    private final Map<String, Imp> impIdToImp;
+
+    private ImpIndex(List<Imp> imps, Map<String, Imp> impIdToImp) {
+        this.imps = imps;
+        this.impIdToImp = impIdToImp;
+    }
+
+    public static ImpIndex of(List<Imp> imps) {
+        return new ImpIndex(imps, imps != null && imps.size() >= MIN_INDEXED_IMPS ? index(imps) : null);
+    }
+
+    private static Map<String, Imp> index(List<Imp> imps) {
+        final Map<String, Imp> impIdToImp = new HashMap<>(imps.size() * 2);
+        for (Imp imp : imps) {
+            // the first one wins in case of duplicated ids, as with a scan
+            impIdToImp.putIfAbsent(imp.getId(), imp);
+        }
+
+        return Collections.unmodifiableMap(impIdToImp);
+    }
+
+    /**
+     * Returns true if this index was built for the given imps list instance.
+     */
+    public boolean isOf(List<Imp> imps) {
+        return this.imps == imps;
+    }
+
+    /**
+     * Returns {@link Imp} with the given id or null if there is no such imp.
+     */
+    public Imp find(String impId) {
+        if (imps == null || impId == null) {
+            return null;
+        }
+
+        if (impIdToImp != null) {
+            return impIdToImp.get(impId);
+        }
+
+        for (Imp imp : imps) {
+            if (Objects.equals(impId, imp.getId())) {
+                return imp;
+            }
+        }
+
+        return null;
+    }
+}
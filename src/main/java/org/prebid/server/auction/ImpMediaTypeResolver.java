@@ -5,7 +5,6 @@ import com.iab.openrtb.request.Video;
 import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 
-import java.util.List;
 import java.util.Objects;
 
 public class ImpMediaTypeResolver {
@@ -13,22 +12,18 @@ public class ImpMediaTypeResolver {
     private ImpMediaTypeResolver() {
     }
 
-    public static ImpMediaType resolve(String bidImpId, List<Imp> imps, BidType bidType) {
+    public static ImpMediaType resolve(String bidImpId, ImpIndex impIndex, BidType bidType) {
         return switch (bidType) {
             case banner -> ImpMediaType.banner;
             case xNative -> ImpMediaType.xNative;
             case audio -> ImpMediaType.audio;
-            case video -> resolveBidAdjustmentVideoMediaType(bidImpId, imps);
+            case video -> resolveBidAdjustmentVideoMediaType(bidImpId, impIndex);
         };
     }
 
-    private static ImpMediaType resolveBidAdjustmentVideoMediaType(String bidImpId, List<Imp> imps) {
-        final Video bidImpVideo = imps.stream()
-                .filter(imp -> imp.getId().equals(bidImpId))
-                .map(Imp::getVideo)
-                .filter(Objects::nonNull)
-                .findFirst()
-                .orElse(null);
+    private static ImpMediaType resolveBidAdjustmentVideoMediaType(String bidImpId, ImpIndex impIndex) {
+        final Imp bidImp = impIndex.find(bidImpId);
+        final Video bidImpVideo = bidImp != null ? bidImp.getVideo() : null;
 
         if (bidImpVideo == null) {
             return null;
@@ -1,5 +1,7 @@
 package org.prebid.server.auction;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixList;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
@@ -8,7 +10,6 @@ import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.util.HttpUtil;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
@@ -18,10 +19,18 @@ import java.util.function.Function;
  */
 public class ImplicitParametersExtractor {
 
+    // number of distinct hosts is bounded by publishers, so most of them stay cached
+    private static final int DOMAIN_CACHE_SIZE = 10_000;
+
     private final PublicSuffixList psl;
+    private final Cache<String, String> hostToDomainCache;
 
     public ImplicitParametersExtractor(PublicSuffixList psl) {
         this.psl = Objects.requireNonNull(psl);
+
+        hostToDomainCache = Caffeine.newBuilder()
+                .maximumSize(DOMAIN_CACHE_SIZE)
+                .build();
     }
 
     /**
@@ -48,7 +57,8 @@ public class ImplicitParametersExtractor {
             throw new PreBidException("Host is not defined or can not be derived from request");
         }
 
-        final String domain = psl.getRegistrableDomain(host);
+        // null is not cached, so hosts without eTLD+1 are resolved again every time
+        final String domain = hostToDomainCache.get(host, psl::getRegistrableDomain);
 
         if (domain == null) {
             // null means effective top level domain plus one couldn't be derived
@@ -70,19 +80,30 @@ public class ImplicitParametersExtractor {
     }
 
     private List<String> ipFrom(Function<String, String> headerGetter, String host) {
-        final List<String> candidates = new ArrayList<>();
-        candidates.add(headerGetter.apply("True-Client-IP"));
+        final List<String> candidates = new ArrayList<>(4);
+        addCandidate(candidates, headerGetter.apply("True-Client-IP"));
         final String xff = headerGetter.apply("X-Forwarded-For");
         if (xff != null) {
-            candidates.addAll(Arrays.asList(xff.split(",")));
+            int start = 0;
+            int commaIndex = xff.indexOf(',');
+            while (commaIndex != -1) {
+                addCandidate(candidates, xff.substring(start, commaIndex));
+                start = commaIndex + 1;
+                commaIndex = xff.indexOf(',', start);
+            }
+            addCandidate(candidates, xff.substring(start));
         }
-        candidates.add(headerGetter.apply("X-Real-IP"));
-        candidates.add(host);
+        addCandidate(candidates, headerGetter.apply("X-Real-IP"));
+        addCandidate(candidates, host);
 
-        return candidates.stream()
-                .map(StringUtils::trimToNull)
-                .filter(Objects::nonNull)
-                .toList();
+        return candidates;
+    }
+
+    private static void addCandidate(List<String> candidates, String candidate) {
+        final String trimmedCandidate = StringUtils.trimToNull(candidate);
+        if (trimmedCandidate != null) {
+            candidates.add(trimmedCandidate);
+        }
     }
 
     /**
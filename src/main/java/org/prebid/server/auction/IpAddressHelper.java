@@ -4,8 +4,6 @@ import inet.ipaddr.AddressStringException;
 import inet.ipaddr.IPAddress;
 import inet.ipaddr.IPAddressString;
 import inet.ipaddr.IPAddressStringParameters;
-import org.apache.commons.lang3.StringUtils;
-import org.apache.http.conn.util.InetAddressUtils;
 import org.prebid.server.auction.model.IpAddress;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
@@ -22,9 +20,12 @@ public class IpAddressHelper {
                     .allowEmpty(false)
                     .toParams();
 
+    private static final long INVALID_IPV4 = -1L;
+
     private final IPAddress ipv6AlwaysMaskAddress;
     private final IPAddress ipv6AnonLeftMaskAddress;
     private final List<IPAddress> ipv6LocalNetworkMaskAddresses;
+    private final boolean ipv4FastPathEnabled;
 
     public IpAddressHelper(int ipv6AlwaysMaskBits, int ipv6AnonLeftMaskBits, List<String> ipv6LocalNetworks) {
         ipv6AlwaysMaskAddress =
@@ -34,9 +35,15 @@ public class IpAddressHelper {
         ipv6LocalNetworkMaskAddresses = ipv6LocalNetworks.stream()
                 .map(this::toAddress)
                 .toList();
+        // configured local networks are expected to be IPv6 ones, otherwise IPv4 has to be checked against them
+        ipv4FastPathEnabled = ipv6LocalNetworkMaskAddresses.stream().noneMatch(IPAddress::isIPv4);
     }
 
     public String anonymizeIpv6(String ip) {
+        if (parseIpv4(ip) != INVALID_IPV4) {
+            return null;
+        }
+
         try {
             final IPAddressString ipAddressString = new IPAddressString(ip);
             return ipAddressString.isIPv6()
@@ -49,6 +56,13 @@ public class IpAddressHelper {
     }
 
     public IpAddress toIpAddress(String ip) {
+        if (ipv4FastPathEnabled) {
+            final long ipv4 = parseIpv4(ip);
+            if (ipv4 != INVALID_IPV4) {
+                return isIpv4Public(ipv4) ? IpAddress.of(ip, IpAddress.IP.v4) : null;
+            }
+        }
+
         final IPAddress ipAddress = toIpAddressInternal(ip);
 
         if (ipAddress == null) {
@@ -73,20 +87,76 @@ public class IpAddressHelper {
     }
 
     public String maskIpv4(String ip) {
-        if (StringUtils.isBlank(ip) || !InetAddressUtils.isIPv4Address(ip)) {
+        if (parseIpv4(ip) == INVALID_IPV4) {
             return ip;
         }
 
-        String maskedIp = ip;
-        final int lastDotIndex = maskedIp.lastIndexOf(".");
-        if (lastDotIndex != -1) {
-            maskedIp = maskedIp.substring(0, lastDotIndex);
-        } else {
-            // ip is malformed
-            return ip;
+        return ip.substring(0, ip.lastIndexOf('.')) + ".0";
+    }
+
+    /**
+     * Parses IPv4 address in dotted-decimal notation without leading zeros, which is what clients send in practice.
+     * <p>
+     * Returns address as unsigned 32-bit value or {@link #INVALID_IPV4} if the string has any other format,
+     * so that it could be handled by the full-featured parser.
+     */
+    private static long parseIpv4(String ip) {
+        if (ip == null) {
+            return INVALID_IPV4;
+        }
+
+        final int length = ip.length();
+        if (length < 7 || length > 15) {
+            return INVALID_IPV4;
         }
 
-        return maskedIp + ".0";
+        long address = 0;
+        int octets = 0;
+        int octet = 0;
+        int digits = 0;
+        for (int i = 0; i <= length; i++) {
+            final char ch = i < length ? ip.charAt(i) : '.';
+            if (ch == '.') {
+                if (digits == 0 || ++octets > 4) {
+                    return INVALID_IPV4;
+                }
+
+                address = (address << 8) | octet;
+                octet = 0;
+                digits = 0;
+            } else if (ch >= '0' && ch <= '9') {
+                if (digits > 0 && octet == 0) {
+                    // leading zero
+                    return INVALID_IPV4;
+                }
+
+                octet = octet * 10 + (ch - '0');
+                if (++digits > 3 || octet > 255) {
+                    return INVALID_IPV4;
+                }
+            } else {
+                return INVALID_IPV4;
+            }
+        }
+
+        return octets == 4 ? address : INVALID_IPV4;
+    }
+
+    /**
+     * Mirrors {@link #isIpPublic(IPAddress)} for IPv4 addresses.
+     */
+    private static boolean isIpv4Public(long ipv4) {
+        final int firstOctet = (int) (ipv4 >>> 24);
+        final int secondOctet = (int) (ipv4 >>> 16) & 0xFF;
+
+        return ipv4 != 0L // any local
+                && firstOctet != 10 // private
+                && !(firstOctet == 172 && (secondOctet & 0xF0) == 16) // private
+                && !(firstOctet == 192 && secondOctet == 168) // private
+                && !(firstOctet == 169 && secondOctet == 254) // link local
+                && firstOctet != 127 // loopback
+                && (firstOctet & 0xF0) != 224 // multicast
+                && ipv4 != 0xFFFFFFFFL; // max
     }
 
     private String maskIpv6(IPAddress ipAddress) {
@@ -2,10 +2,15 @@ package org.prebid.server.auction.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.BidResponse;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.Value;
+import lombok.experimental.NonFinal;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
+import org.prebid.server.auction.ImpIndex;
 import org.prebid.server.auction.gpp.model.GppContext;
 import org.prebid.server.auction.model.debug.DebugContext;
 import org.prebid.server.cache.model.DebugHttpCall;
@@ -69,6 +74,26 @@ public class AuctionContext {
 
     CachedDebugLog cachedDebugLog;
 
+    @JsonIgnore
+    @NonFinal
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    ImpIndex impIndex;
+
+    /**
+     * Returns index of imps of the bid request. Index is built on the first call and is passed to copies of this
+     * context, so it is built once as long as imps of the bid request stay the same.
+     */
+    public ImpIndex getImpIndex() {
+        final List<Imp> imps = bidRequest != null ? bidRequest.getImp() : null;
+        // racy single-check is safe here: index is immutable and is the same for the same imps
+        if (impIndex == null || !impIndex.isOf(imps)) {
+            impIndex = ImpIndex.of(imps);
+        }
+
+        return impIndex;
+    }
+
     public AuctionContext with(Account account) {
         return this.toBuilder().account(account).build();
     }
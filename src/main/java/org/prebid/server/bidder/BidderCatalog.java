@@ -1,6 +1,7 @@
 package org.prebid.server.bidder;
 
 import org.apache.commons.collections4.map.CaseInsensitiveMap;
+import org.prebid.server.bidder.model.BidderHttpClientOptions;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -181,6 +182,16 @@ public class BidderCatalog {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Returns bidder's own HTTP client profile or null if bidder uses shared HTTP client.
+     */
+    public BidderHttpClientOptions httpClientOptionsByName(String name) {
+        return Optional.ofNullable(name)
+                .map(bidderDepsMap::get)
+                .map(BidderInstanceDeps::getHttpClientOptions)
+                .orElse(null);
+    }
+
     public Optional<Usersyncer> usersyncerByName(String name) {
         return Optional.ofNullable(name)
                 .map(bidderDepsMap::get)
@@ -0,0 +1,12 @@
+package org.prebid.server.bidder;
+
+import org.prebid.server.vertx.httpclient.HttpClient;
+
+/**
+ * Provides {@link HttpClient} to be used for communication with the given bidder.
+ */
+@FunctionalInterface
+public interface BidderHttpClients {
+
+    HttpClient forBidder(String bidderName);
+}
@@ -2,6 +2,7 @@ package org.prebid.server.bidder;
 
 import lombok.Builder;
 import lombok.Value;
+import org.prebid.server.bidder.model.BidderHttpClientOptions;
 
 import java.util.List;
 
@@ -43,4 +44,9 @@ public class BidderInstanceDeps {
      * Bidder implementation is used in auction handling.
      */
     Bidder<?> bidder;
+
+    /**
+     * Bidder's own HTTP client profile is used in {@link HttpBidderRequester}, null if bidder uses shared client.
+     */
+    BidderHttpClientOptions httpClientOptions;
 }
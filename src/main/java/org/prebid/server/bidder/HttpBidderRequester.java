@@ -23,7 +23,6 @@ import org.prebid.server.bidder.model.CompositeBidderResponse;
 import org.prebid.server.bidder.model.HttpRequest;
 import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
-import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.Logger;
@@ -31,12 +30,10 @@ import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
+import org.prebid.server.util.GzipUtil;
 import org.prebid.server.util.HttpUtil;
-import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -48,7 +45,6 @@ import java.util.Set;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.stream.Stream;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * Implements HTTP communication functionality common for {@link Bidder}'s.
@@ -63,19 +59,19 @@ public class HttpBidderRequester {
 
     private static final Logger logger = LoggerFactory.getLogger(HttpBidderRequester.class);
 
-    private final HttpClient httpClient;
+    private final BidderHttpClients bidderHttpClients;
     private final BidderRequestCompletionTrackerFactory completionTrackerFactory;
     private final BidderErrorNotifier bidderErrorNotifier;
     private final HttpBidderRequestEnricher requestEnricher;
     private final JacksonMapper mapper;
 
-    public HttpBidderRequester(HttpClient httpClient,
+    public HttpBidderRequester(BidderHttpClients bidderHttpClients,
                                BidderRequestCompletionTrackerFactory completionTrackerFactory,
                                BidderErrorNotifier bidderErrorNotifier,
                                HttpBidderRequestEnricher requestEnricher,
                                JacksonMapper mapper) {
 
-        this.httpClient = Objects.requireNonNull(httpClient);
+        this.bidderHttpClients = Objects.requireNonNull(bidderHttpClients);
         this.completionTrackerFactory = completionTrackerFactoryOrFallback(completionTrackerFactory);
         this.bidderErrorNotifier = Objects.requireNonNull(bidderErrorNotifier);
         this.requestEnricher = Objects.requireNonNull(requestEnricher);
@@ -111,7 +107,7 @@ public class HttpBidderRequester {
         // stored response available only for single request interaction for the moment.
         final Stream<Future<BidderCall<T>>> httpCalls = isStoredResponse(httpRequests, storedResponse, bidderName)
                 ? Stream.of(makeStoredHttpCall(httpRequests.getFirst(), storedResponse))
-                : httpRequests.stream().map(httpRequest -> doRequest(httpRequest, timeout));
+                : httpRequests.stream().map(httpRequest -> doRequest(bidderName, httpRequest, timeout));
 
         // httpCalls contains recovered and mapped to succeeded Future<BidderHttpCall> with error inside
         final BidderRequestCompletionTracker completionTracker = completionTrackerFactory.create(bidRequest);
@@ -191,22 +187,25 @@ public class HttpBidderRequester {
     /**
      * Makes an HTTP request and returns {@link Future} that will be eventually completed with success or error result.
      */
-    private <T> Future<BidderCall<T>> doRequest(HttpRequest<T> httpRequest, Timeout timeout) {
+    private <T> Future<BidderCall<T>> doRequest(String bidderName, HttpRequest<T> httpRequest, Timeout timeout) {
         final long remainingTimeout = timeout.remaining();
         if (remainingTimeout <= 0) {
             return failResponse(new TimeoutException("Timeout has been exceeded"), httpRequest);
         }
 
-        return createRequest(httpRequest, remainingTimeout)
+        return createRequest(bidderName, httpRequest, remainingTimeout)
                 .compose(response -> processResponse(response, httpRequest))
                 .recover(exception -> failResponse(exception, httpRequest));
     }
 
-    private <T> Future<HttpClientResponse> createRequest(HttpRequest<T> httpRequest, long remainingTimeout) {
+    private <T> Future<HttpClientResponse> createRequest(String bidderName,
+                                                         HttpRequest<T> httpRequest,
+                                                         long remainingTimeout) {
+
         final MultiMap requestHeaders = httpRequest.getHeaders();
         final byte[] preparedBody = compressIfRequired(httpRequest.getBody(), requestHeaders);
 
-        return httpClient.request(
+        return bidderHttpClients.forBidder(bidderName).request(
                 httpRequest.getMethod(),
                 httpRequest.getUri(),
                 requestHeaders,
@@ -217,24 +216,10 @@ public class HttpBidderRequester {
     private static byte[] compressIfRequired(byte[] body, MultiMap headers) {
         final String contentEncodingHeader = headers.get(HttpUtil.CONTENT_ENCODING_HEADER);
         return Objects.equals(contentEncodingHeader, HttpHeaderValues.GZIP.toString())
-                ? gzip(body)
+                ? GzipUtil.gzip(body)
                 : body;
     }
 
-    private static byte[] gzip(byte[] value) {
-        try (
-                ByteArrayOutputStream obj = new ByteArrayOutputStream();
-                GZIPOutputStream gzip = new GZIPOutputStream(obj)) {
-
-            gzip.write(value);
-            gzip.finish();
-
-            return obj.toByteArray();
-        } catch (IOException e) {
-            throw new PreBidException("Failed to compress request : " + e.getMessage());
-        }
-    }
-
     /**
      * Produces {@link Future} with {@link BidderCall} containing request and error description.
      */
@@ -261,7 +246,8 @@ public class HttpBidderRequester {
                                                              HttpRequest<T> httpRequest) {
 
         final int statusCode = response.getStatusCode();
-        final HttpResponse httpResponse = HttpResponse.of(statusCode, response.getHeaders(), response.getBody());
+        final HttpResponse httpResponse = HttpResponse.fromBuffer(
+                statusCode, response.getHeaders(), response.getBodyBuffer());
         return Future.succeededFuture(BidderCall.succeededHttp(httpRequest, httpResponse, errorOrNull(statusCode)));
     }
 
@@ -428,6 +414,7 @@ public class HttpBidderRequester {
 
             final HttpResponse response = httpCall.getResponse();
             if (response != null) {
+                // body is transcoded to String only here, when debug info is requested
                 builder.responsebody(response.getBody());
                 builder.status(response.getStatusCode());
             }
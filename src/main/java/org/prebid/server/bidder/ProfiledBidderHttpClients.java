@@ -0,0 +1,118 @@
+package org.prebid.server.bidder;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
+import org.apache.commons.collections4.map.CaseInsensitiveMap;
+import org.apache.commons.lang3.BooleanUtils;
+import org.prebid.server.bidder.model.BidderHttpClientOptions;
+import org.prebid.server.vertx.httpclient.AdaptivePoolHttpClient;
+import org.prebid.server.vertx.httpclient.BasicHttpClient;
+import org.prebid.server.vertx.httpclient.HttpClient;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Resolves {@link HttpClient} for bidder: bidders with own http-client profile get dedicated client
+ * (and connection pool) built on top of default options, all others share the default client.
+ */
+public class ProfiledBidderHttpClients implements BidderHttpClients {
+
+    private static final String METRICS_NAME_PREFIX = "bidder.";
+
+    private final Vertx vertx;
+    private final HttpClient defaultHttpClient;
+    private final HttpClientOptions defaultOptions;
+    private final UnaryOperator<HttpClient> httpClientDecorator;
+
+    private final Map<String, HttpClient> bidderHttpClients;
+
+    public ProfiledBidderHttpClients(Vertx vertx,
+                                     HttpClient defaultHttpClient,
+                                     HttpClientOptions defaultOptions,
+                                     BidderCatalog bidderCatalog,
+                                     UnaryOperator<HttpClient> httpClientDecorator) {
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.defaultHttpClient = Objects.requireNonNull(defaultHttpClient);
+        this.defaultOptions = Objects.requireNonNull(defaultOptions);
+        this.httpClientDecorator = Objects.requireNonNull(httpClientDecorator);
+
+        bidderHttpClients = new CaseInsensitiveMap<>();
+        for (String bidderName : Objects.requireNonNull(bidderCatalog).names()) {
+            final BidderHttpClientOptions profile = bidderCatalog.httpClientOptionsByName(bidderName);
+            if (profile != null) {
+                bidderHttpClients.put(bidderName, createHttpClient(bidderName, profile));
+            }
+        }
+    }
+
+    @Override
+    public HttpClient forBidder(String bidderName) {
+        return bidderName != null
+                ? bidderHttpClients.getOrDefault(bidderName, defaultHttpClient)
+                : defaultHttpClient;
+    }
+
+    private HttpClient createHttpClient(String bidderName, BidderHttpClientOptions profile) {
+        final HttpClientOptions options = createOptions(bidderName, profile);
+
+        final HttpClient httpClient = BooleanUtils.isTrue(profile.getAdaptivePoolSize())
+                ? createAdaptivePoolHttpClient(bidderName, options, profile.getMinPoolSize())
+                : new BasicHttpClient(vertx, vertx.createHttpClient(options));
+
+        return httpClientDecorator.apply(httpClient);
+    }
+
+    private HttpClient createAdaptivePoolHttpClient(String bidderName, HttpClientOptions options, Integer minPoolSize) {
+        return new AdaptivePoolHttpClient(
+                bidderName,
+                vertx,
+                vertx.createHttpClient(options),
+                Objects.requireNonNullElse(minPoolSize, 1),
+                options.getMaxPoolSize());
+    }
+
+    private HttpClientOptions createOptions(String bidderName, BidderHttpClientOptions profile) {
+        final HttpClientOptions options = new HttpClientOptions(defaultOptions)
+                .setMetricsName(METRICS_NAME_PREFIX + bidderName);
+
+        if (profile.getMaxPoolSize() != null) {
+            options.setMaxPoolSize(profile.getMaxPoolSize());
+        }
+        if (profile.getIdleTimeoutMs() != null) {
+            options.setIdleTimeoutUnit(TimeUnit.MILLISECONDS).setIdleTimeout(profile.getIdleTimeoutMs());
+        }
+        if (profile.getKeepAlive() != null) {
+            options.setKeepAlive(profile.getKeepAlive());
+        }
+        if (profile.getKeepAliveTimeoutSec() != null) {
+            options.setKeepAliveTimeout(profile.getKeepAliveTimeoutSec());
+        }
+        if (profile.getPipelining() != null) {
+            options.setPipelining(profile.getPipelining());
+        }
+        if (profile.getPipeliningLimit() != null) {
+            options.setPipeliningLimit(profile.getPipeliningLimit());
+        }
+
+        if (BooleanUtils.isTrue(profile.getHttp2())) {
+            // ALPN for TLS and h2c upgrade for plain connections, so HTTP/1.1 is still used if endpoint lacks HTTP/2
+            options.setProtocolVersion(HttpVersion.HTTP_2)
+                    .setUseAlpn(true)
+                    .setHttp2ClearTextUpgrade(true);
+
+            if (profile.getHttp2MaxPoolSize() != null) {
+                options.setHttp2MaxPoolSize(profile.getHttp2MaxPoolSize());
+            }
+            if (profile.getHttp2MultiplexingLimit() != null) {
+                options.setHttp2MultiplexingLimit(profile.getHttp2MultiplexingLimit());
+            }
+        }
+
+        return options;
+    }
+}
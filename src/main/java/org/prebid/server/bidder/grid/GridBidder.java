@@ -191,7 +191,7 @@ public class GridBidder implements Bidder<BidRequest> {
     public final Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
             final GridBidResponse bidResponse =
-                    mapper.decodeValue(httpCall.getResponse().getBody(), GridBidResponse.class);
+                    mapper.decodeValue(httpCall.getResponse().getBodyBuffer(), GridBidResponse.class);
             return Result.withValues(extractBids(httpCall.getRequest().getPayload(), bidResponse));
         } catch (DecodeException | PreBidException e) {
             return Result.withError(BidderError.badServerResponse(e.getMessage()));
@@ -110,7 +110,8 @@ public class IxBidder implements Bidder<BidRequest> {
     @Override
     public CompositeBidderResponse makeBidderResponse(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final IxBidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), IxBidResponse.class);
+            final IxBidResponse bidResponse = mapper.decodeValue(
+                    httpCall.getResponse().getBodyBuffer(), IxBidResponse.class);
             final List<BidderError> bidderErrors = new ArrayList<>();
             return CompositeBidderResponse.builder()
                     .bids(extractIxBids(bidRequest, bidResponse, bidderErrors))
@@ -0,0 +1,34 @@
+package org.prebid.server.bidder.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Bidder's own HTTP client profile. Values not specified here are taken from global http-client configuration.
+ */
+@Builder
+@Value
+public class BidderHttpClientOptions {
+
+    Integer maxPoolSize;
+
+    Integer minPoolSize;
+
+    Boolean adaptivePoolSize;
+
+    Integer idleTimeoutMs;
+
+    Boolean keepAlive;
+
+    Integer keepAliveTimeoutSec;
+
+    Boolean pipelining;
+
+    Integer pipeliningLimit;
+
+    Boolean http2;
+
+    Integer http2MaxPoolSize;
+
+    Integer http2MultiplexingLimit;
+}
@@ -1,13 +1,22 @@
 package org.prebid.server.bidder.model;
 
 import io.vertx.core.MultiMap;
-import lombok.AllArgsConstructor;
+import io.vertx.core.buffer.Buffer;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
+import lombok.experimental.NonFinal;
+
+import java.nio.charset.StandardCharsets;
 
 /**
  * Packages together information from the server's http response.
+ * <p>
+ * Body is kept as raw bytes, so bidders should prefer {@link #getBodyBuffer()} for JSON decoding
+ * and use {@link #getBody()} only when {@link String} representation is really needed.
  */
-@AllArgsConstructor(staticName = "of")
 @Value
 public class HttpResponse {
 
@@ -15,5 +24,36 @@ public class HttpResponse {
 
     MultiMap headers;
 
+    Buffer bodyBuffer;
+
+    @NonFinal
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     String body;
+
+    private HttpResponse(int statusCode, MultiMap headers, Buffer bodyBuffer) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.bodyBuffer = bodyBuffer;
+    }
+
+    public static HttpResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpResponse(statusCode, headers, body != null ? Buffer.buffer(body) : null);
+    }
+
+    public static HttpResponse fromBuffer(int statusCode, MultiMap headers, Buffer body) {
+        return new HttpResponse(statusCode, headers, body);
+    }
+
+    /**
+     * Returns body decoded as UTF-8 {@link String}. Body is decoded on the first call and reused afterwards.
+     */
+    public String getBody() {
+        // racy single-check is safe here: String is immutable and decoding gives the same result in any thread
+        if (body == null && bodyBuffer != null) {
+            body = bodyBuffer.toString(StandardCharsets.UTF_8);
+        }
+        return body;
+    }
 }
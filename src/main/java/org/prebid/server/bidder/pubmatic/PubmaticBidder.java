@@ -437,7 +437,7 @@ public class PubmaticBidder implements Bidder<BidRequest> {
         try {
             final List<BidderError> bidderErrors = new ArrayList<>();
             final PubmaticBidResponse bidResponse = mapper.decodeValue(
-                    httpCall.getResponse().getBody(),
+                    httpCall.getResponse().getBodyBuffer(),
                     PubmaticBidResponse.class);
             return CompositeBidderResponse.withBids(extractBids(bidResponse, bidderErrors), extractFledge(bidResponse));
         } catch (DecodeException | PreBidException e) {
@@ -287,7 +287,7 @@ public class RubiconBidder implements Bidder<BidRequest> {
         try {
             final List<BidderError> errors = new ArrayList<>();
             final RubiconBidResponse bidResponse =
-                    mapper.decodeValue(httpCall.getResponse().getBody(), RubiconBidResponse.class);
+                    mapper.decodeValue(httpCall.getResponse().getBodyBuffer(), RubiconBidResponse.class);
             return Result.of(extractBids(bidRequest, httpCall.getRequest().getPayload(), bidResponse, errors), errors);
         } catch (DecodeException e) {
             return Result.withError(BidderError.badServerResponse(e.getMessage()));
@@ -0,0 +1,190 @@
+package org.prebid.server.currency;
+
+import org.apache.commons.collections4.MapUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Conversion rates between every pair of currencies known to the given rates, resolved once
+ * with direct, reverse, intermediate and cross lookups.
+ * <p>
+ * Rate for a currency pair is taken from the dense matrix by currency indexes, so no rates traversal
+ * or {@link BigDecimal} division happens on conversion.
+ * <p>
+ * Resolving all pairs costs more than cubic time of currencies number, so it is meant for server-side rates only;
+ * request rates are resolved with {@link LazyCurrencyConversionRates}.
+ */
+class CurrencyConversionMatrix {
+
+    // This number is chosen because of PriceGranularities default precision value of 2 + 1 for better accuracy
+    private static final int DEFAULT_PRICE_PRECISION = 3;
+
+    private final Map<String, Integer> currencyIndexes;
+    private final BigDecimal[] rates;
+
+    private CurrencyConversionMatrix(Map<String, Integer> currencyIndexes, BigDecimal[] rates) {
+        this.currencyIndexes = currencyIndexes;
+        this.rates = rates;
+    }
+
+    /**
+     * Resolves conversion rates for all currency pairs. Returns null if there are no rates.
+     */
+    static CurrencyConversionMatrix of(Map<String, Map<String, BigDecimal>> currencyConversionRates) {
+        if (MapUtils.isEmpty(currencyConversionRates)) {
+            return null;
+        }
+
+        final List<String> currencies = currencies(currencyConversionRates);
+        final int size = currencies.size();
+
+        final Map<String, Integer> currencyIndexes = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            currencyIndexes.put(currencies.get(i), i);
+        }
+
+        final BigDecimal[] rates = new BigDecimal[size * size];
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                if (from != to) {
+                    rates[from * size + to] = resolveConversionRate(
+                            currencyConversionRates, currencies.get(from), currencies.get(to));
+                }
+            }
+        }
+
+        return new CurrencyConversionMatrix(currencyIndexes, rates);
+    }
+
+    private static List<String> currencies(Map<String, Map<String, BigDecimal>> currencyConversionRates) {
+        final Set<String> currencies = new LinkedHashSet<>(currencyConversionRates.keySet());
+        for (Map<String, BigDecimal> rates : currencyConversionRates.values()) {
+            if (rates != null) {
+                currencies.addAll(rates.keySet());
+            }
+        }
+        currencies.remove(null);
+
+        return new ArrayList<>(currencies);
+    }
+
+    /**
+     * Returns conversion rate for a currency pair or null if it cannot be resolved from the rates.
+     */
+    BigDecimal getConversionRate(String fromCurrency, String toCurrency) {
+        final Integer fromIndex = currencyIndexes.get(fromCurrency);
+        final Integer toIndex = fromIndex != null ? currencyIndexes.get(toCurrency) : null;
+
+        return toIndex != null ? rates[fromIndex * currencyIndexes.size() + toIndex] : null;
+    }
+
+    /**
+     * Looking for rates for a currency pair, using such approaches as straight, reverse and
+     * intermediate rates.
+     */
+    static BigDecimal resolveConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
+                                            String fromCurrency,
+                                            String toCurrency) {
+
+        final Map<String, BigDecimal> directCurrencyRates = currencyConversionRates.get(fromCurrency);
+        final BigDecimal conversionRate = directCurrencyRates != null ? directCurrencyRates.get(toCurrency) : null;
+        if (conversionRate != null) {
+            return conversionRate;
+        }
+
+        try {
+            final Map<String, BigDecimal> reverseCurrencyRates = currencyConversionRates.get(toCurrency);
+            final BigDecimal reverseConversionRate = findReverseConversionRate(reverseCurrencyRates, fromCurrency);
+            if (reverseConversionRate != null) {
+                return reverseConversionRate;
+            }
+
+            final BigDecimal intermediateConversionRate = findIntermediateConversionRate(directCurrencyRates,
+                    reverseCurrencyRates);
+            if (intermediateConversionRate != null) {
+                return intermediateConversionRate;
+            }
+
+            return findCrossConversionRate(currencyConversionRates, fromCurrency, toCurrency);
+        } catch (ArithmeticException e) {
+            // zero rate, currency pair cannot be converted
+            return null;
+        }
+    }
+
+    /**
+     * Finds reverse conversion rate.
+     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
+     */
+    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> currencyRates,
+                                                        String currency) {
+        final BigDecimal reverseConversionRate = currencyRates != null
+                ? currencyRates.get(currency)
+                : null;
+
+        return reverseConversionRate != null
+                ? BigDecimal.ONE.divide(reverseConversionRate,
+                getRatePrecision(reverseConversionRate),
+                RoundingMode.HALF_EVEN)
+                : null;
+    }
+
+    /**
+     * Finds intermediate conversion rate.
+     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
+     * (1/1.5) * 1.2 conversion rate.
+     */
+    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> directCurrencyRates,
+                                                             Map<String, BigDecimal> reverseCurrencyRates) {
+        BigDecimal conversionRate = null;
+        if (MapUtils.isNotEmpty(directCurrencyRates) && MapUtils.isNotEmpty(reverseCurrencyRates)) {
+            final List<String> sharedCurrencies = new ArrayList<>(directCurrencyRates.keySet());
+            sharedCurrencies.retainAll(reverseCurrencyRates.keySet());
+
+            if (!sharedCurrencies.isEmpty()) {
+                // pick any found shared currency
+                final String sharedCurrency = sharedCurrencies.getFirst();
+                final BigDecimal directCurrencyRateIntermediate = directCurrencyRates.get(sharedCurrency);
+                final BigDecimal reverseCurrencyRateIntermediate = reverseCurrencyRates.get(sharedCurrency);
+                conversionRate = directCurrencyRateIntermediate.divide(reverseCurrencyRateIntermediate,
+                        // chose largest precision among intermediate rates
+                        getRatePrecision(directCurrencyRateIntermediate, reverseCurrencyRateIntermediate),
+                        RoundingMode.HALF_EVEN);
+            }
+        }
+        return conversionRate;
+    }
+
+    private static BigDecimal findCrossConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
+                                                      String fromCurrency,
+                                                      String toCurrency) {
+        for (Map<String, BigDecimal> rates : currencyConversionRates.values()) {
+            final BigDecimal fromRate = rates != null ? rates.get(fromCurrency) : null;
+            final BigDecimal toRate = rates != null ? rates.get(toCurrency) : null;
+            if (fromRate != null && toRate != null) {
+                return toRate.divide(fromRate,
+                        getRatePrecision(fromRate, toRate),
+                        RoundingMode.HALF_EVEN);
+            }
+        }
+
+        return null;
+    }
+
+    private static int getRatePrecision(BigDecimal... rates) {
+        final int precision = Arrays.stream(rates)
+                .map(BigDecimal::precision)
+                .max(Integer::compareTo)
+                .orElse(DEFAULT_PRICE_PRECISION);
+
+        return Math.max(precision, DEFAULT_PRICE_PRECISION);
+    }
+}
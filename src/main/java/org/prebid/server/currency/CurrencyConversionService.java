@@ -1,12 +1,13 @@
 package org.prebid.server.currency;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
-import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.currency.proto.CurrencyConversionRates;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.JacksonMapper;
@@ -26,9 +27,6 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -40,6 +38,7 @@ public class CurrencyConversionService implements Initializable {
     private static final Logger logger = LoggerFactory.getLogger(CurrencyConversionService.class);
 
     private static final String DEFAULT_BID_CURRENCY = "USD";
+    private static final int REQUEST_CURRENCY_RATES_CACHE_SIZE = 10_000;
     // This number is chosen because of PriceGranularities default precision value of 2 + 1 for better accuracy
     private static final int DEFAULT_PRICE_PRECISION = 3;
 
@@ -47,6 +46,14 @@ public class CurrencyConversionService implements Initializable {
     private final ExternalConversionProperties externalConversionProperties;
     private final JacksonMapper mapper;
 
+    // pairs of request rates are resolved once per auction: the same rates map instance is used for all conversions
+    private final Cache<Map<String, Map<String, BigDecimal>>, LazyCurrencyConversionRates> requestCurrencyRatesCache =
+            Caffeine.newBuilder()
+                    .weakKeys()
+                    .maximumSize(REQUEST_CURRENCY_RATES_CACHE_SIZE)
+                    .build();
+
+    private CurrencyConversionMatrix externalCurrencyMatrix;
     private Map<String, Map<String, BigDecimal>> externalCurrencyRates;
     private ZonedDateTime lastUpdated;
 
@@ -119,6 +126,7 @@ public class CurrencyConversionService implements Initializable {
     private Void updateCurrencyRates(CurrencyConversionRates currencyConversionRates) {
         final Map<String, Map<String, BigDecimal>> receivedCurrencyRates = currencyConversionRates.getConversions();
         if (receivedCurrencyRates != null) {
+            externalCurrencyMatrix = CurrencyConversionMatrix.of(receivedCurrencyRates);
             externalCurrencyRates = receivedCurrencyRates;
             lastUpdated = now();
         }
@@ -133,6 +141,7 @@ public class CurrencyConversionService implements Initializable {
         logger.warn("Error occurred while request to currency service", exception);
 
         if (externalRatesAreStale()) {
+            externalCurrencyMatrix = null;
             externalCurrencyRates = null;
         }
 
@@ -199,19 +208,8 @@ public class CurrencyConversionService implements Initializable {
             return price;
         }
 
-        final Map<String, Map<String, BigDecimal>> firstPriorityRates;
-        final Map<String, Map<String, BigDecimal>> secondPriorityRates;
-
-        if (BooleanUtils.isFalse(usepbsrates)) {
-            firstPriorityRates = requestCurrencyRates;
-            secondPriorityRates = externalCurrencyRates;
-        } else {
-            firstPriorityRates = externalCurrencyRates;
-            secondPriorityRates = requestCurrencyRates;
-        }
-
-        final BigDecimal conversionRate = getConversionRateByPriority(firstPriorityRates,
-                secondPriorityRates,
+        final BigDecimal conversionRate = getConversionRateByPriority(requestCurrencyRates,
+                usepbsrates,
                 effectiveFromCurrency,
                 effectiveToCurrency);
 
@@ -240,119 +238,44 @@ public class CurrencyConversionService implements Initializable {
         return currency != null ? currency.getUsepbsrates() : null;
     }
 
-    /**
-     * Returns conversion rate from the given currency rates according to priority.
-     */
-    private static BigDecimal getConversionRateByPriority(Map<String, Map<String, BigDecimal>> firstPriorityRates,
-                                                          Map<String, Map<String, BigDecimal>> secondPriorityRates,
-                                                          String fromCurrency,
-                                                          String toCurrency) {
-
-        return ObjectUtils.defaultIfNull(
-                getConversionRate(firstPriorityRates, fromCurrency, toCurrency),
-                getConversionRate(secondPriorityRates, fromCurrency, toCurrency));
-    }
-
-    /**
-     * Looking for rates for a currency pair, using such approaches as straight, reverse and
-     * intermediate rates.
-     */
-    private static BigDecimal getConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
+    private BigDecimal getRequestConversionRate(Map<String, Map<String, BigDecimal>> requestCurrencyRates,
                                                 String fromCurrency,
                                                 String toCurrency) {
-        if (MapUtils.isEmpty(currencyConversionRates)) {
-            return null;
-        }
 
-        BigDecimal conversionRate;
-        final Map<String, BigDecimal> directCurrencyRates = currencyConversionRates.get(fromCurrency);
-
-        conversionRate = directCurrencyRates != null ? directCurrencyRates.get(toCurrency) : null;
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        final Map<String, BigDecimal> reverseCurrencyRates = currencyConversionRates.get(toCurrency);
-        conversionRate = findReverseConversionRate(reverseCurrencyRates, fromCurrency);
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        final BigDecimal intermediateConversionRate = findIntermediateConversionRate(directCurrencyRates,
-                reverseCurrencyRates);
-        if (intermediateConversionRate != null) {
-            return intermediateConversionRate;
-        }
-
-        return findCrossConversionRate(currencyConversionRates, fromCurrency, toCurrency);
-    }
-
-    /**
-     * Finds reverse conversion rate.
-     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
-     */
-    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> currencyRates,
-                                                        String currency) {
-        final BigDecimal reverseConversionRate = currencyRates != null
-                ? currencyRates.get(currency)
-                : null;
-
-        return reverseConversionRate != null
-                ? BigDecimal.ONE.divide(reverseConversionRate,
-                getRatePrecision(reverseConversionRate),
-                RoundingMode.HALF_EVEN)
+        return MapUtils.isNotEmpty(requestCurrencyRates)
+                ? requestCurrencyRatesCache.get(requestCurrencyRates, LazyCurrencyConversionRates::new)
+                .getConversionRate(fromCurrency, toCurrency)
                 : null;
     }
 
     /**
-     * Finds intermediate conversion rate.
-     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
-     * (1/1.5) * 1.2 conversion rate.
+     * Returns conversion rate from the external or request rates according to priority.
+     * Request rates are resolved only if they are needed.
      */
-    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> directCurrencyRates,
-                                                             Map<String, BigDecimal> reverseCurrencyRates) {
-        BigDecimal conversionRate = null;
-        if (MapUtils.isNotEmpty(directCurrencyRates) && MapUtils.isNotEmpty(reverseCurrencyRates)) {
-            final List<String> sharedCurrencies = new ArrayList<>(directCurrencyRates.keySet());
-            sharedCurrencies.retainAll(reverseCurrencyRates.keySet());
-
-            if (!sharedCurrencies.isEmpty()) {
-                // pick any found shared currency
-                final String sharedCurrency = sharedCurrencies.getFirst();
-                final BigDecimal directCurrencyRateIntermediate = directCurrencyRates.get(sharedCurrency);
-                final BigDecimal reverseCurrencyRateIntermediate = reverseCurrencyRates.get(sharedCurrency);
-                conversionRate = directCurrencyRateIntermediate.divide(reverseCurrencyRateIntermediate,
-                        // chose largest precision among intermediate rates
-                        getRatePrecision(directCurrencyRateIntermediate, reverseCurrencyRateIntermediate),
-                        RoundingMode.HALF_EVEN);
-            }
-        }
-        return conversionRate;
-    }
+    private BigDecimal getConversionRateByPriority(Map<String, Map<String, BigDecimal>> requestCurrencyRates,
+                                                   Boolean usepbsrates,
+                                                   String fromCurrency,
+                                                   String toCurrency) {
 
-    private static BigDecimal findCrossConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
-                                                      String fromCurrency,
-                                                      String toCurrency) {
-        for (Map<String, BigDecimal> rates : currencyConversionRates.values()) {
-            final BigDecimal fromRate = rates.get(fromCurrency);
-            final BigDecimal toRate = rates.get(toCurrency);
-            if (fromRate != null && toRate != null) {
-                return toRate.divide(fromRate,
-                        getRatePrecision(fromRate, toRate),
-                        RoundingMode.HALF_EVEN);
-            }
+        final CurrencyConversionMatrix externalRates = externalCurrencyMatrix;
+        if (BooleanUtils.isFalse(usepbsrates)) {
+            final BigDecimal requestRate = getRequestConversionRate(requestCurrencyRates, fromCurrency, toCurrency);
+            return requestRate != null ? requestRate : getConversionRate(externalRates, fromCurrency, toCurrency);
         }
 
-        return null;
+        final BigDecimal externalRate = getConversionRate(externalRates, fromCurrency, toCurrency);
+        return externalRate != null
+                ? externalRate
+                : getRequestConversionRate(requestCurrencyRates, fromCurrency, toCurrency);
     }
 
-    private static int getRatePrecision(BigDecimal... rates) {
-        final int precision = Arrays.stream(rates)
-                .map(BigDecimal::precision)
-                .max(Integer::compareTo)
-                .orElse(DEFAULT_PRICE_PRECISION);
+    private static BigDecimal getConversionRate(CurrencyConversionMatrix currencyConversionMatrix,
+                                                String fromCurrency,
+                                                String toCurrency) {
 
-        return Math.max(precision, DEFAULT_PRICE_PRECISION);
+        return currencyConversionMatrix != null
+                ? currencyConversionMatrix.getConversionRate(fromCurrency, toCurrency)
+                : null;
     }
 
     private boolean isRatesStale() {
@@ -0,0 +1,41 @@
+package org.prebid.server.currency;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conversion rates resolved from the given rates on demand, only for currency pairs that are requested.
+ * <p>
+ * Intended for rates coming with a request: their size is not controlled, so resolving all pairs upfront
+ * as {@link CurrencyConversionMatrix} does could cost much more than conversions of the request need.
+ * Resolved rates are memoized, so each pair is resolved once.
+ */
+class LazyCurrencyConversionRates {
+
+    private final Map<String, Map<String, BigDecimal>> currencyConversionRates;
+    private final Map<CurrencyPair, Optional<BigDecimal>> resolvedRates;
+
+    LazyCurrencyConversionRates(Map<String, Map<String, BigDecimal>> currencyConversionRates) {
+        this.currencyConversionRates = Objects.requireNonNull(currencyConversionRates);
+
+        resolvedRates = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns conversion rate for a currency pair or null if it cannot be resolved from the rates.
+     */
+    BigDecimal getConversionRate(String fromCurrency, String toCurrency) {
+        return resolvedRates.computeIfAbsent(new CurrencyPair(fromCurrency, toCurrency), this::resolve).orElse(null);
+    }
+
+    private Optional<BigDecimal> resolve(CurrencyPair currencyPair) {
+        return Optional.ofNullable(CurrencyConversionMatrix.resolveConversionRate(
+                currencyConversionRates, currencyPair.fromCurrency(), currencyPair.toCurrency()));
+    }
+
+    private record CurrencyPair(String fromCurrency, String toCurrency) {
+    }
+}
@@ -4,10 +4,11 @@ import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.Bid;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.auction.ImpIndex;
+import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.AuctionParticipation;
 import org.prebid.server.auction.model.BidRejectionReason;
 import org.prebid.server.auction.model.BidRejectionTracker;
@@ -57,13 +58,13 @@ public class BasicPriceFloorEnforcer implements PriceFloorEnforcer {
     }
 
     @Override
-    public AuctionParticipation enforce(BidRequest bidRequest,
+    public AuctionParticipation enforce(AuctionContext auctionContext,
                                         AuctionParticipation auctionParticipation,
-                                        Account account,
                                         BidRejectionTracker rejectionTracker) {
 
+        final Account account = auctionContext.getAccount();
         return shouldApplyEnforcement(auctionParticipation, account)
-                ? applyEnforcement(bidRequest, auctionParticipation, account, rejectionTracker)
+                ? applyEnforcement(auctionContext, auctionParticipation, account, rejectionTracker)
                 : auctionParticipation;
     }
 
@@ -127,7 +128,7 @@ public class BasicPriceFloorEnforcer implements PriceFloorEnforcer {
         return value != null && (value < ENFORCE_RATE_MIN || value > ENFORCE_RATE_MAX);
     }
 
-    private AuctionParticipation applyEnforcement(BidRequest bidRequest,
+    private AuctionParticipation applyEnforcement(AuctionContext auctionContext,
                                                   AuctionParticipation auctionParticipation,
                                                   Account account,
                                                   BidRejectionTracker rejectionTracker) {
@@ -157,7 +158,7 @@ public class BasicPriceFloorEnforcer implements PriceFloorEnforcer {
             }
 
             final BigDecimal price = bid.getPrice();
-            final BigDecimal floor = resolveFloor(bidderBid, bidderBidRequest, bidRequest, errors);
+            final BigDecimal floor = resolveFloor(bidderBid, bidderBidRequest, auctionContext, errors);
 
             if (isPriceBelowFloor(price, floor)) {
                 final String impId = bid.getImpid();
@@ -199,9 +200,10 @@ public class BasicPriceFloorEnforcer implements PriceFloorEnforcer {
 
     private BigDecimal resolveFloor(BidderBid bidderBid,
                                     BidRequest bidderBidRequest,
-                                    BidRequest bidRequest,
+                                    AuctionContext auctionContext,
                                     List<BidderError> errors) {
 
+        final BidRequest bidRequest = auctionContext.getBidRequest();
         final PriceFloorInfo priceFloorInfo = bidderBid.getPriceFloorInfo();
         final BigDecimal customBidderFloor = ObjectUtil.getIfNotNull(priceFloorInfo, PriceFloorInfo::getFloor);
 
@@ -210,7 +212,7 @@ public class BasicPriceFloorEnforcer implements PriceFloorEnforcer {
                 return convertIfRequired(customBidderFloor, priceFloorInfo.getCurrency(), bidderBidRequest, bidRequest);
             }
 
-            final Imp imp = correspondingImp(bidderBid.getBid(), bidRequest.getImp());
+            final Imp imp = correspondingImp(bidderBid.getBid(), auctionContext.getImpIndex());
             final String bidRequestCurrency = resolveBidRequestCurrency(bidRequest);
             return convertCurrency(imp.getBidfloor(), bidRequest, imp.getBidfloorcur(), bidRequestCurrency);
         } catch (PreBidException e) {
@@ -264,13 +266,15 @@ public class BasicPriceFloorEnforcer implements PriceFloorEnforcer {
         return CollectionUtils.isEmpty(currencies) ? null : currencies.getFirst();
     }
 
-    private static Imp correspondingImp(Bid bid, List<Imp> imps) {
+    private static Imp correspondingImp(Bid bid, ImpIndex impIndex) {
         final String impId = bid.getImpid();
-        return ListUtils.emptyIfNull(imps).stream()
-                .filter(imp -> Objects.equals(impId, imp.getId()))
-                .findFirst()
-                // Should never happen, see ResponseBidValidator usage.
-                .orElseThrow(() -> new PreBidException("Bid with impId %s doesn't have matched imp".formatted(impId)));
+        final Imp imp = impIndex.find(impId);
+        if (imp == null) {
+            // Should never happen, see ResponseBidValidator usage.
+            throw new PreBidException("Bid with impId %s doesn't have matched imp".formatted(impId));
+        }
+
+        return imp;
     }
 
     private static boolean isPriceBelowFloor(BigDecimal price, BigDecimal bidFloor) {
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.App;
 import com.iab.openrtb.request.Banner;
 import com.iab.openrtb.request.BidRequest;
@@ -15,6 +16,7 @@ import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Publisher;
 import com.iab.openrtb.request.Site;
 import com.iab.openrtb.request.Video;
+import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
@@ -50,10 +52,10 @@ import org.prebid.server.util.dsl.config.PrebidConfigMatchingStrategy;
 import org.prebid.server.util.dsl.config.PrebidConfigParameter;
 import org.prebid.server.util.dsl.config.PrebidConfigParameters;
 import org.prebid.server.util.dsl.config.PrebidConfigSource;
+import org.prebid.server.util.dsl.config.impl.IndexedSource;
 import org.prebid.server.util.dsl.config.impl.MostAccurateCombinationStrategy;
 import org.prebid.server.util.dsl.config.impl.SimpleDirectParameter;
 import org.prebid.server.util.dsl.config.impl.SimpleParameters;
-import org.prebid.server.util.dsl.config.impl.SimpleSource;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -74,6 +76,7 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
     private static final String DEFAULT_RULES_CURRENCY = "USD";
     private static final String SCHEMA_DEFAULT_DELIMITER = "|";
     private static final String WILDCARD_CATCH_ALL = "*";
+    private static final int COMPILED_MODEL_GROUPS_CACHE_SIZE = 10_000;
 
     private static final String VIDEO_ALIAS = "video-instream";
 
@@ -95,6 +98,7 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
     private final JacksonMapper mapper;
 
     private final PrebidConfigMatchingStrategy matchingStrategy;
+    private final Map<PriceFloorModelGroup, CompiledModelGroup> compiledModelGroups;
 
     public BasicPriceFloorResolver(CurrencyConversionService currencyConversionService,
                                    CountryCodeMapper countryCodeMapper,
@@ -107,6 +111,11 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
         this.mapper = Objects.requireNonNull(mapper);
 
         matchingStrategy = new MostAccurateCombinationStrategy();
+        compiledModelGroups = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(COMPILED_MODEL_GROUPS_CACHE_SIZE)
+                .<PriceFloorModelGroup, CompiledModelGroup>build()
+                .asMap();
     }
 
     @Override
@@ -136,14 +145,12 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
             return null;
         }
 
-        final Map<String, BigDecimal> values = keysToLowerCase(modelGroup.getValues());
-        final PrebidConfigSource source = SimpleSource.of(
-                WILDCARD_CATCH_ALL,
-                ObjectUtils.defaultIfNull(schema.getDelimiter(), SCHEMA_DEFAULT_DELIMITER),
-                values.keySet());
+        final CompiledModelGroup compiledModelGroup =
+                compiledModelGroups.computeIfAbsent(modelGroup, BasicPriceFloorResolver::compileModelGroup);
+        final Map<String, BigDecimal> values = compiledModelGroup.getValues();
         final PrebidConfigParameters parameters = createParameters(schema, bidRequest, imp, mediaType, format);
 
-        final String rule = matchingStrategy.match(source, parameters);
+        final String rule = matchingStrategy.match(compiledModelGroup.getSource(), parameters);
         final BigDecimal floorForRule = rule != null ? values.get(rule) : null;
         final BigDecimal floor = floorForRule != null ? floorForRule : modelGroup.getDefaultFloor();
         final String modelGroupCurrency = modelGroup.getCurrency();
@@ -187,6 +194,18 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
         return CollectionUtils.isNotEmpty(modelGroups) ? modelGroups.getFirst() : null;
     }
 
+    /**
+     * Prepares model group rules for matching. Result is cached by model group identity,
+     * so fetched floors data is compiled once per fetched version and not per each imp.
+     */
+    private static CompiledModelGroup compileModelGroup(PriceFloorModelGroup modelGroup) {
+        final Map<String, BigDecimal> values = keysToLowerCase(modelGroup.getValues());
+        final String delimiter = ObjectUtils.defaultIfNull(
+                modelGroup.getSchema().getDelimiter(), SCHEMA_DEFAULT_DELIMITER);
+
+        return CompiledModelGroup.of(values, IndexedSource.of(WILDCARD_CATCH_ALL, delimiter, values.keySet()));
+    }
+
     private static <V> Map<String, V> keysToLowerCase(Map<String, V> map) {
         return map.entrySet().stream()
                 .collect(Collectors.toMap(entry -> entry.getKey().toLowerCase(), Map.Entry::getValue));
@@ -565,4 +584,12 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
     private static PrebidConfigParameter parameter(String value) {
         return SimpleDirectParameter.of(value.toLowerCase());
     }
+
+    @Value(staticConstructor = "of")
+    private static class CompiledModelGroup {
+
+        Map<String, BigDecimal> values;
+
+        PrebidConfigSource source;
+    }
 }
@@ -1,15 +1,13 @@
 package org.prebid.server.floors;
 
-import com.iab.openrtb.request.BidRequest;
+import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.AuctionParticipation;
 import org.prebid.server.auction.model.BidRejectionTracker;
-import org.prebid.server.settings.model.Account;
 
 public interface PriceFloorEnforcer {
 
-    AuctionParticipation enforce(BidRequest bidRequest,
+    AuctionParticipation enforce(AuctionContext auctionContext,
                                  AuctionParticipation auctionParticipation,
-                                 Account account,
                                  BidRejectionTracker rejectionTracker);
 
     static NoOpPriceFloorEnforcer noOp() {
@@ -19,9 +17,8 @@ public interface PriceFloorEnforcer {
     class NoOpPriceFloorEnforcer implements PriceFloorEnforcer {
 
         @Override
-        public AuctionParticipation enforce(BidRequest bidRequest,
+        public AuctionParticipation enforce(AuctionContext auctionContext,
                                             AuctionParticipation auctionParticipation,
-                                            Account account,
                                             BidRejectionTracker rejectionTracker) {
 
             return auctionParticipation;
@@ -1,5 +1,8 @@
 package org.prebid.server.geolocation;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maxmind.db.CHMCache;
 import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
@@ -20,13 +23,20 @@ import org.prebid.server.geolocation.model.GeoInfo;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.net.Inet4Address;
 import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.zip.GZIPInputStream;
 
 /**
  * Implementation of the {@link GeoLocationService}
  * backed by <a href="https://dev.maxmind.com/geoip/geoip2/geolite2/">MaxMind free database</a>
+ * <p>
+ * Database is extracted from the archive next to it and memory-mapped, so it doesn't occupy heap.
+ * Lookup results can be cached per /24 IPv4 and /48 IPv6 network.
  */
 public class MaxMindGeoLocationService implements GeoLocationService, RemoteFileProcessor {
 
@@ -34,7 +44,18 @@ public class MaxMindGeoLocationService implements GeoLocationService, RemoteFile
 
     private static final String DATABASE_FILE_NAME = "GeoLite2-City.mmdb";
 
-    private DatabaseReader databaseReader;
+    private static final int IPV4_NETWORK_BYTES = 3;
+    private static final int IPV6_NETWORK_BYTES = 6;
+
+    private final Cache<Long, GeoInfo> lookupCache;
+
+    private volatile DatabaseReader databaseReader;
+
+    public MaxMindGeoLocationService(int lookupCacheSize) {
+        lookupCache = lookupCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(lookupCacheSize).build()
+                : null;
+    }
 
     public Future<?> setDataPath(String dataFilePath) {
         try (TarArchiveInputStream tarInput = new TarArchiveInputStream(new GZIPInputStream(
@@ -53,7 +74,14 @@ public class MaxMindGeoLocationService implements GeoLocationService, RemoteFile
                         .formatted(DATABASE_FILE_NAME, dataFilePath));
             }
 
-            databaseReader = new DatabaseReader.Builder(tarInput).fileMode(Reader.FileMode.MEMORY).build();
+            databaseReader = new DatabaseReader.Builder(extractDatabaseFile(tarInput, dataFilePath).toFile())
+                    .fileMode(Reader.FileMode.MEMORY_MAPPED)
+                    .withCache(new CHMCache())
+                    .build();
+            if (lookupCache != null) {
+                lookupCache.invalidateAll();
+            }
+
             return Future.succeededFuture();
         } catch (IOException e) {
             return Future.failedFuture(
@@ -61,32 +89,86 @@ public class MaxMindGeoLocationService implements GeoLocationService, RemoteFile
         }
     }
 
+    /**
+     * Extracts database file from the archive to a temporary file and moves it in place of the previous one,
+     * so the file mapped by the current reader is never overwritten.
+     * <p>
+     * Previous reader is not closed: lookups in progress can still use it and its mapping is released with it.
+     */
+    private static Path extractDatabaseFile(TarArchiveInputStream tarInput, String dataFilePath) throws IOException {
+        final Path databaseFile = Path.of(dataFilePath).toAbsolutePath().resolveSibling(DATABASE_FILE_NAME);
+        final Path tmpDatabaseFile = Files.createTempFile(databaseFile.getParent(), DATABASE_FILE_NAME, null);
+        try {
+            Files.copy(tarInput, tmpDatabaseFile, StandardCopyOption.REPLACE_EXISTING);
+            return Files.move(
+                    tmpDatabaseFile, databaseFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(tmpDatabaseFile);
+            throw e;
+        }
+    }
+
     @Override
     public Future<GeoInfo> lookup(String ip, Timeout timeout) {
+        final DatabaseReader databaseReader = this.databaseReader;
         if (databaseReader == null) {
             return Future.failedFuture("Geo location database file hasn't been downloaded yet, try again later");
         }
 
         try {
             final InetAddress inetAddress = InetAddress.getByName(ip);
-            final CityResponse cityResponse = databaseReader.city(inetAddress);
-            final Location location = cityResponse != null ? cityResponse.getLocation() : null;
-
-            return Future.succeededFuture(GeoInfo.builder()
-                    .vendor(VENDOR)
-                    .continent(resolveContinent(cityResponse))
-                    .country(resolveCountry(cityResponse))
-                    .region(resolveRegion(cityResponse))
-                    // metro code is skipped as Max Mind uses Google's version (Nielsen DMAs required)
-                    .city(resolveCity(cityResponse))
-                    .lat(resolveLatitude(location))
-                    .lon(resolveLongitude(location))
-                    .build());
+            if (lookupCache == null) {
+                return Future.succeededFuture(lookup(databaseReader, inetAddress));
+            }
+
+            final Long network = network(inetAddress);
+            final GeoInfo cachedGeoInfo = lookupCache.getIfPresent(network);
+            if (cachedGeoInfo != null) {
+                return Future.succeededFuture(cachedGeoInfo);
+            }
+
+            final GeoInfo geoInfo = lookup(databaseReader, inetAddress);
+            lookupCache.put(network, geoInfo);
+            return Future.succeededFuture(geoInfo);
         } catch (IOException | GeoIp2Exception e) {
             return Future.failedFuture(e);
         }
     }
 
+    private static GeoInfo lookup(DatabaseReader databaseReader, InetAddress inetAddress)
+            throws IOException, GeoIp2Exception {
+
+        final CityResponse cityResponse = databaseReader.city(inetAddress);
+        final Location location = cityResponse != null ? cityResponse.getLocation() : null;
+
+        return GeoInfo.builder()
+                .vendor(VENDOR)
+                .continent(resolveContinent(cityResponse))
+                .country(resolveCountry(cityResponse))
+                .region(resolveRegion(cityResponse))
+                // metro code is skipped as Max Mind uses Google's version (Nielsen DMAs required)
+                .city(resolveCity(cityResponse))
+                .lat(resolveLatitude(location))
+                .lon(resolveLongitude(location))
+                .build();
+    }
+
+    /**
+     * Packs /24 network of IPv4 or /48 network of IPv6 address into a cache key,
+     * with the highest bit distinguishing address family.
+     */
+    private static Long network(InetAddress inetAddress) {
+        final boolean ipv4 = inetAddress instanceof Inet4Address;
+        final byte[] address = inetAddress.getAddress();
+
+        long network = ipv4 ? 0L : Long.MIN_VALUE;
+        for (int i = 0; i < (ipv4 ? IPV4_NETWORK_BYTES : IPV6_NETWORK_BYTES); i++) {
+            network |= (address[i] & 0xFFL) << (8 * i);
+        }
+
+        return network;
+    }
+
     private static String resolveContinent(CityResponse cityResponse) {
         final Continent continent = cityResponse != null ? cityResponse.getContinent() : null;
         final String code = continent != null ? continent.getCode() : null;
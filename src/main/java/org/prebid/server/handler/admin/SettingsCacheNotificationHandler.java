@@ -61,6 +61,7 @@ public class SettingsCacheNotificationHandler implements Handler<RoutingContext>
         }
 
         cacheNotificationListener.save(request.getRequests(), request.getImps());
+        cacheNotificationListener.saveResponses(request.getResponses());
         respondWith(routingContext, HttpResponseStatus.OK);
     }
 
@@ -83,6 +84,7 @@ public class SettingsCacheNotificationHandler implements Handler<RoutingContext>
         }
 
         cacheNotificationListener.invalidate(request.getRequests(), request.getImps());
+        cacheNotificationListener.invalidateResponses(request.getResponses());
         respondWith(routingContext, HttpResponseStatus.OK);
     }
 
@@ -14,6 +14,8 @@ import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.LoggerFactory;
 
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -81,17 +83,32 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         final GroupResult<PAYLOAD> initialGroupResult = GroupResult.of(initialPayload, rejectAllowed);
         Future<GroupResult<PAYLOAD>> groupFuture = Future.succeededFuture(initialGroupResult);
 
-        for (final HookId hookId : group.getHookSequence()) {
+        final List<HookId> hookSequence = group.getHookSequence();
+        if (hookSequence.isEmpty()) {
+            return groupFuture;
+        }
+
+        // all hooks of the group are invoked at once with the same timeout, so single timer is enough for them
+        final List<Promise<InvocationResult<PAYLOAD>>> invocationPromises = new ArrayList<>(hookSequence.size());
+        final long timeoutTimerId = vertx.setTimer(group.getTimeout(), id -> failWithTimeout(invocationPromises));
+
+        for (final HookId hookId : hookSequence) {
             final Hook<PAYLOAD, CONTEXT> hook = hookProvider.apply(hookId);
 
             final long startTime = clock.millis();
-            final Future<InvocationResult<PAYLOAD>> invocationResult =
-                    executeHook(hook, group.getTimeout(), initialGroupResult, hookId);
+            final Promise<InvocationResult<PAYLOAD>> invocationPromise = Promise.promise();
+            invocationPromises.add(invocationPromise);
+            executeHook(hook, group.getTimeout(), initialGroupResult, hookId)
+                    .onComplete(result -> completeWithActionResult(invocationPromise, result));
 
+            final Future<InvocationResult<PAYLOAD>> invocationResult = invocationPromise.future();
             groupFuture = groupFuture.compose(groupResult ->
                     applyInvocationResult(invocationResult, hookId, startTime, groupResult));
         }
 
+        Future.join(invocationPromises.stream().map(Promise::future).toList())
+                .onComplete(ignored -> vertx.cancelTimer(timeoutTimerId));
+
         return groupFuture.recover(GroupExecutor::restoreResultFromRejection);
     }
 
@@ -107,28 +124,14 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
             return Future.failedFuture(new FailedException("Hook implementation does not exist or disabled"));
         }
 
-        return executeWithTimeout(
-                () -> hook.call(
-                        groupResult.payload(),
-                        invocationContextProvider.apply(timeout, hookId, moduleContextFor(hookId))),
-                timeout);
-    }
-
-    private <T> Future<T> executeWithTimeout(Supplier<Future<T>> action, Long timeout) {
-        final Promise<T> promise = Promise.promise();
-
-        final long timeoutTimerId = vertx.setTimer(timeout, id -> failWithTimeout(promise));
-
-        executeSafely(action)
-                .onComplete(result -> completeWithActionResult(promise, timeoutTimerId, result));
-
-        return promise.future();
+        return executeSafely(() -> hook.call(
+                groupResult.payload(),
+                invocationContextProvider.apply(timeout, hookId, moduleContextFor(hookId))));
     }
 
-    private static <T> void failWithTimeout(Promise<T> promise) {
-        // no need for synchronization since timer is fired on the same event loop thread
-        if (!promise.future().isComplete()) {
-            promise.fail(new TimeoutException("Timed out while executing action"));
+    private static <T> void failWithTimeout(List<Promise<T>> promises) {
+        for (Promise<T> promise : promises) {
+            promise.tryFail(new TimeoutException("Timed out while executing action"));
         }
     }
 
@@ -141,12 +144,12 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         }
     }
 
-    private <T> void completeWithActionResult(Promise<T> promise, long timeoutTimerId, AsyncResult<T> result) {
-        vertx.cancelTimer(timeoutTimerId);
-
-        // check is to avoid harmless exception if timeout exceeds before successful result becomes ready
-        if (!promise.future().isComplete()) {
-            promise.handle(result);
+    private static <T> void completeWithActionResult(Promise<T> promise, AsyncResult<T> result) {
+        // try is to avoid harmless exception if timeout exceeds before result becomes ready
+        if (result.succeeded()) {
+            promise.tryComplete(result.result());
+        } else {
+            promise.tryFail(result.cause());
         }
     }
 
@@ -54,6 +54,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 public class HookStageExecutor {
@@ -71,6 +72,11 @@ public class HookStageExecutor {
     private final Vertx vertx;
     private final Clock clock;
 
+    // plans merged with host plan are kept only for the entrypoint and default account plans,
+    // since they are the same for every request, plans of other accounts are merged on demand
+    private final Map<EndpointStage, StageExecutionPlan> entrypointStagePlans = new ConcurrentHashMap<>();
+    private final Map<EndpointStage, StageExecutionPlan> defaultAccountStagePlans = new ConcurrentHashMap<>();
+
     private HookStageExecutor(ExecutionPlan hostExecutionPlan,
                               ExecutionPlan defaultAccountExecutionPlan,
                               HookCatalog hookCatalog,
@@ -318,11 +324,29 @@ public class HookStageExecutor {
     }
 
     private StageExecutionPlan planForEntrypointStage(Endpoint endpoint) {
-        return effectiveStagePlanFrom(ExecutionPlan.empty(), endpoint, Stage.entrypoint);
+        return effectiveStagePlanFor(ExecutionPlan.empty(), endpoint, Stage.entrypoint);
     }
 
     private StageExecutionPlan planForStage(Account account, Endpoint endpoint, Stage stage) {
-        return effectiveStagePlanFrom(effectiveExecutionPlanFor(account), endpoint, stage);
+        return effectiveStagePlanFor(effectiveExecutionPlanFor(account), endpoint, stage);
+    }
+
+    private StageExecutionPlan effectiveStagePlanFor(ExecutionPlan accountExecutionPlan,
+                                                     Endpoint endpoint,
+                                                     Stage stage) {
+
+        final Map<EndpointStage, StageExecutionPlan> stagePlans;
+        if (accountExecutionPlan == defaultAccountExecutionPlan) {
+            stagePlans = defaultAccountStagePlans;
+        } else if (accountExecutionPlan == ExecutionPlan.empty()) {
+            stagePlans = entrypointStagePlans;
+        } else {
+            return effectiveStagePlanFrom(accountExecutionPlan, endpoint, stage);
+        }
+
+        return stagePlans.computeIfAbsent(
+                new EndpointStage(endpoint, stage),
+                key -> effectiveStagePlanFrom(accountExecutionPlan, key.endpoint(), key.stage()));
     }
 
     private StageExecutionPlan effectiveStagePlanFrom(
@@ -412,4 +436,7 @@ public class HookStageExecutor {
 
         return modulesConfiguration != null ? modulesConfiguration.get(hookId.getModuleCode()) : null;
     }
+
+    private record EndpointStage(Endpoint endpoint, Stage stage) {
+    }
 }
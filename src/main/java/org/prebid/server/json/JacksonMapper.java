@@ -3,6 +3,14 @@ package org.prebid.server.json;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Dooh;
+import com.iab.openrtb.request.Regs;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.Source;
+import com.iab.openrtb.request.User;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.buffer.Buffer;
 import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
@@ -10,12 +18,18 @@ import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Objects;
+import java.util.Set;
 
 public class JacksonMapper {
 
     private static final String FAILED_TO_DECODE = "Failed to decode: %s";
+    private static final Set<Class<?>> BID_REQUEST_SHARED_PARTS = Set.of(
+            Site.class, App.class, Dooh.class, Device.class, User.class, Regs.class, Source.class);
+
     private final ObjectMapper mapper;
 
+    private volatile SharedFragmentsEncoder sharedFragmentsEncoder;
+
     public JacksonMapper(ObjectMapper mapper) {
         this.mapper = Objects.requireNonNull(mapper);
     }
@@ -40,6 +54,32 @@ public class JacksonMapper {
         }
     }
 
+    /**
+     * Encodes given object as {@link #encodeToBytes(Object)} does, but reuses JSON of bid request parts
+     * (site, app, dooh, device, user, regs and source) already encoded for the same part instances.
+     * <p>
+     * Intended for requests of an auction sent to bidders, which share most of these parts.
+     * Encoded parts must not be mutated afterwards.
+     */
+    public <T> byte[] encodeToBytesWithSharedParts(T obj) throws EncodeException {
+        return sharedFragmentsEncoder().encodeToBytes(obj);
+    }
+
+    private SharedFragmentsEncoder sharedFragmentsEncoder() {
+        SharedFragmentsEncoder encoder = sharedFragmentsEncoder;
+        if (encoder == null) {
+            synchronized (this) {
+                encoder = sharedFragmentsEncoder;
+                if (encoder == null) {
+                    encoder = new SharedFragmentsEncoder(mapper, BID_REQUEST_SHARED_PARTS);
+                    sharedFragmentsEncoder = encoder;
+                }
+            }
+        }
+
+        return encoder;
+    }
+
     public <T> T decodeValue(String str, Class<T> clazz) throws DecodeException {
         try {
             return mapper.readValue(str, clazz);
@@ -64,22 +104,37 @@ public class JacksonMapper {
         }
     }
 
+    /**
+     * Decodes given {@link Buffer} without transcoding it to {@link String}.
+     * <p>
+     * Heap buffers are parsed directly from backing array, others are read as stream.
+     */
     public <T> T decodeValue(Buffer buf, Class<T> clazz) throws DecodeException {
+        final ByteBuf byteBuf = buf.getByteBuf();
         try {
-            return mapper.readValue((InputStream) new ByteBufInputStream(buf.getByteBuf()), clazz);
+            return byteBuf.hasArray()
+                    ? mapper.readValue(byteBuf.array(), arrayOffset(byteBuf), byteBuf.readableBytes(), clazz)
+                    : mapper.readValue((InputStream) new ByteBufInputStream(byteBuf), clazz);
         } catch (IOException e) {
             throw new DecodeException(FAILED_TO_DECODE.formatted(e.getMessage()), e);
         }
     }
 
     public <T> T decodeValue(Buffer buf, TypeReference<T> type) throws DecodeException {
+        final ByteBuf byteBuf = buf.getByteBuf();
         try {
-            return mapper.readValue(new ByteBufInputStream(buf.getByteBuf()), type);
+            return byteBuf.hasArray()
+                    ? mapper.readValue(byteBuf.array(), arrayOffset(byteBuf), byteBuf.readableBytes(), type)
+                    : mapper.readValue(new ByteBufInputStream(byteBuf), type);
         } catch (IOException e) {
             throw new DecodeException(FAILED_TO_DECODE.formatted(e.getMessage()), e);
         }
     }
 
+    private static int arrayOffset(ByteBuf byteBuf) {
+        return byteBuf.arrayOffset() + byteBuf.readerIndex();
+    }
+
     public <T extends FlexibleExtension, S> T fillExtension(T target, S source) {
         target.addProperties(mapper.convertValue(source, FlexibleExtension.PROPERTIES_TYPE_REF));
         return target;
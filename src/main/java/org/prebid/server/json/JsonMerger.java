@@ -2,20 +2,40 @@ package org.prebid.server.json;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.fge.jsonpatch.JsonPatchException;
 import com.github.fge.jsonpatch.mergepatch.JsonMergePatch;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.exception.InvalidRequestException;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Objects;
 
 public class JsonMerger {
 
     private final JacksonMapper mapper;
+    private final Map<String, JsonNode> parsedStoredDataCache;
 
     public JsonMerger(JacksonMapper mapper) {
+        this(mapper, 0);
+    }
+
+    /**
+     * Creates merger which keeps parsed stored data trees for at most given number of stored JSON strings.
+     * <p>
+     * Cache uses weak identity keys, so parsed tree lives while the same stored JSON instance
+     * is kept by the settings cache and is dropped together with it on expiration or invalidation.
+     */
+    public JsonMerger(JacksonMapper mapper, int parsedStoredDataCacheSize) {
         this.mapper = Objects.requireNonNull(mapper);
+        this.parsedStoredDataCache = parsedStoredDataCacheSize > 0
+                ? Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(parsedStoredDataCacheSize)
+                .<String, JsonNode>build()
+                .asMap()
+                : null;
     }
 
     /**
@@ -25,12 +45,7 @@ public class JsonMerger {
      */
     public <T> T merge(T originalObject, String storedData, String id, Class<T> classToCast) {
         final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
-        final JsonNode storedRequestJsonNode;
-        try {
-            storedRequestJsonNode = mapper.mapper().readTree(storedData);
-        } catch (IOException e) {
-            throw new InvalidRequestException("Can't parse Json for stored request with id " + id);
-        }
+        final JsonNode storedRequestJsonNode = parseStoredData(storedData, id);
         try {
             // Http request fields have higher priority and will override fields from stored requests
             // in case they have different values
@@ -75,4 +90,31 @@ public class JsonMerger {
             throw new InvalidRequestException("Couldn't create merge patch for json nodes");
         }
     }
+
+    /**
+     * Returns parsed tree of stored data. Note: merge patch does not modify target node,
+     * so cached tree is safe to be shared between requests.
+     */
+    private JsonNode parseStoredData(String storedData, String id) {
+        if (parsedStoredDataCache == null) {
+            return readStoredData(storedData, id);
+        }
+
+        final JsonNode cachedNode = parsedStoredDataCache.get(storedData);
+        if (cachedNode != null) {
+            return cachedNode;
+        }
+
+        final JsonNode parsedNode = readStoredData(storedData, id);
+        parsedStoredDataCache.put(storedData, parsedNode);
+        return parsedNode;
+    }
+
+    private JsonNode readStoredData(String storedData, String id) {
+        try {
+            return mapper.mapper().readTree(storedData);
+        } catch (IOException e) {
+            throw new InvalidRequestException("Can't parse Json for stored request with id " + id);
+        }
+    }
 }
@@ -0,0 +1,98 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Encodes objects reusing JSON of their parts of the given types, which was already produced for the same
+ * part instances before.
+ * <p>
+ * Parts are looked up by identity, so requests built from one source with {@code toBuilder()} share JSON
+ * of all parts they have not replaced, e.g. site, device or regs of per-bidder copies of the auction request.
+ * Part instance must not be mutated after it was encoded, otherwise stale JSON will be written.
+ * <p>
+ * Output is the same as of the given mapper.
+ */
+public class SharedFragmentsEncoder {
+
+    private static final int MAX_FRAGMENTS = 10_000;
+
+    private final ObjectMapper mapper;
+    private final ObjectMapper fragmentsMapper;
+    private final Cache<Object, SerializableString> fragments;
+
+    public SharedFragmentsEncoder(ObjectMapper mapper, Set<Class<?>> sharedTypes) {
+        this.mapper = Objects.requireNonNull(mapper);
+        Objects.requireNonNull(sharedTypes);
+
+        fragmentsMapper = mapper.copy();
+        fragmentsMapper.setSerializerFactory(fragmentsMapper.getSerializerFactory()
+                .withSerializerModifier(new FragmentSerializerModifier(sharedTypes)));
+        fragments = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(MAX_FRAGMENTS)
+                .build();
+    }
+
+    public <T> byte[] encodeToBytes(T obj) throws EncodeException {
+        try {
+            return fragmentsMapper.writeValueAsBytes(obj);
+        } catch (JsonProcessingException | UncheckedIOException e) {
+            throw new EncodeException("Failed to encode as byte array: " + e.getMessage());
+        }
+    }
+
+    private SerializableString fragmentOf(Object value) {
+        return fragments.get(value, this::encodeFragment);
+    }
+
+    private SerializableString encodeFragment(Object value) {
+        try {
+            return new SerializedString(mapper.writeValueAsString(value));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private class FragmentSerializerModifier extends BeanSerializerModifier {
+
+        private final Set<Class<?>> sharedTypes;
+
+        FragmentSerializerModifier(Set<Class<?>> sharedTypes) {
+            this.sharedTypes = sharedTypes;
+        }
+
+        @Override
+        public JsonSerializer<?> modifySerializer(SerializationConfig config,
+                                                  BeanDescription beanDesc,
+                                                  JsonSerializer<?> serializer) {
+
+            return sharedTypes.contains(beanDesc.getBeanClass()) ? new FragmentSerializer() : serializer;
+        }
+    }
+
+    private class FragmentSerializer extends JsonSerializer<Object> {
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+
+            generator.writeRawValue(fragmentOf(value));
+        }
+    }
+}
@@ -4,8 +4,8 @@ import com.codahale.metrics.MetricRegistry;
 import io.netty.util.internal.StringUtil;
 import org.prebid.server.activity.Activity;
 
-import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 public class ActivitiesMetrics extends UpdatableMetrics {
@@ -22,7 +22,7 @@ public class ActivitiesMetrics extends UpdatableMetrics {
                 counterType,
                 nameCreator(prefix, suffixFromActivity(activity)));
 
-        disallowedActivityMetrics = new EnumMap<>(Activity.class);
+        disallowedActivityMetrics = new ConcurrentHashMap<>();
     }
 
     private static Function<MetricName, String> nameCreator(String prefix, String suffix) {
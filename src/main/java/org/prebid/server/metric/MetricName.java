@@ -7,12 +7,17 @@ public enum MetricName {
     // connection
     connection_accept_errors,
 
+    // bidder params validation
+    bidder_params_validation_cache_hit("bidder-params.validation-cache.hit"),
+    bidder_params_validation_cache_miss("bidder-params.validation-cache.miss"),
+
     // circuit breaker
     db,
     geo,
     http,
     opened,
     existing,
+    permitted_percent("permitted-percent"),
 
     // database
     db_query_time,
@@ -55,6 +60,8 @@ public enum MetricName {
     event_cookie_sync("cookie_sync"),
     event_setuid("setuid"),
     event_unknown("unknown"),
+    queue_size("queue-size"),
+    queue_time("queue-time"),
 
     // request and adapter statuses
     ok,
@@ -62,6 +69,7 @@ public enum MetricName {
     nobid,
     gotbids,
     badinput,
+    dropped,
     blocklisted_account,
     blocklisted_app,
     badserverresponse,
@@ -91,6 +99,8 @@ public enum MetricName {
     geo_masked,
     request_blocked,
     analytics_blocked,
+    consent_cache_hit("consent-cache.hit"),
+    consent_cache_miss("consent-cache.miss"),
 
     // privacy
     coppa,
@@ -128,11 +138,14 @@ public enum MetricName {
     // settings cache
     stored_request("stored-request"),
     amp_stored_request("amp-stored-request"),
+    video_stored_request("video-stored-request"),
+    stored_response("stored-response"),
     account,
     initialize,
     update,
     hit,
     miss,
+    coalesced,
 
     // hooks
     call,
@@ -12,10 +12,10 @@ import org.prebid.server.settings.model.Account;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -38,9 +38,6 @@ public class Metrics extends UpdatableMetrics {
     private final Function<Integer, BidderCardinalityMetrics> bidderCardinalityMetricsCreator;
     private final Function<MetricName, CircuitBreakerMetrics> circuitBreakerMetricsCreator;
     private final Function<MetricName, SettingsCacheMetrics> settingsCacheMetricsCreator;
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
     private final RequestsMetrics requestsMetrics;
     private final Map<MetricName, RequestStatusMetrics> requestMetrics;
     private final Map<String, AccountMetrics> accountMetrics;
@@ -80,21 +77,21 @@ public class Metrics extends UpdatableMetrics {
         settingsCacheMetricsCreator = type -> new SettingsCacheMetrics(metricRegistry, counterType, type);
 
         requestsMetrics = new RequestsMetrics(metricRegistry, counterType);
-        requestMetrics = new EnumMap<>(MetricName.class);
-        accountMetrics = new HashMap<>();
-        adapterMetrics = new HashMap<>();
-        analyticMetrics = new HashMap<>();
-        priceFloorsMetrics = new HashMap<>();
+        requestMetrics = new ConcurrentHashMap<>();
+        accountMetrics = new ConcurrentHashMap<>();
+        adapterMetrics = new ConcurrentHashMap<>();
+        analyticMetrics = new ConcurrentHashMap<>();
+        priceFloorsMetrics = new ConcurrentHashMap<>();
         alertsMetrics = new AlertsConfigMetrics(metricRegistry, counterType);
-        bidderCardinailtyMetrics = new HashMap<>();
+        bidderCardinailtyMetrics = new ConcurrentHashMap<>();
         userSyncMetrics = new UserSyncMetrics(metricRegistry, counterType);
         cookieSyncMetrics = new CookieSyncMetrics(metricRegistry, counterType);
         privacyMetrics = new PrivacyMetrics(metricRegistry, counterType);
-        circuitBreakerMetrics = new HashMap<>();
+        circuitBreakerMetrics = new ConcurrentHashMap<>();
         cacheMetrics = new CacheMetrics(metricRegistry, counterType);
         timeoutNotificationMetrics = new TimeoutNotificationMetrics(metricRegistry, counterType);
         currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType);
-        settingsCacheMetrics = new HashMap<>();
+        settingsCacheMetrics = new ConcurrentHashMap<>();
         hooksMetrics = new HooksMetrics(metricRegistry, counterType);
     }
 
@@ -318,6 +315,14 @@ public class Metrics extends UpdatableMetrics {
         forAnalyticReporter(analyticCode).forEventType(eventType).incCounter(result);
     }
 
+    public void createAnalyticsQueueSizeGauge(String analyticCode, LongSupplier queueSizeSupplier) {
+        forAnalyticReporter(analyticCode).createGauge(MetricName.queue_size, queueSizeSupplier);
+    }
+
+    public void updateAnalyticsQueueTime(String analyticCode, long millis) {
+        forAnalyticReporter(analyticCode).updateTimer(MetricName.queue_time, millis);
+    }
+
     public void updatePriceFloorFetchMetric(MetricName result) {
         forPriceFloorFetch().incCounter(result);
     }
@@ -445,6 +450,10 @@ public class Metrics extends UpdatableMetrics {
         versionMetrics.incCounter(MetricName.requests);
     }
 
+    public void updatePrivacyTcfConsentCacheMetric(boolean hit) {
+        privacy().tcf().incCounter(hit ? MetricName.consent_cache_hit : MetricName.consent_cache_miss);
+    }
+
     public void updatePrivacyTcfGeoMetric(int version, Boolean inEea) {
         final UpdatableMetrics versionMetrics = privacy().tcf().fromVersion(version);
 
@@ -480,6 +489,12 @@ public class Metrics extends UpdatableMetrics {
         incCounter(MetricName.connection_accept_errors);
     }
 
+    public void updateBidderParamsValidationCacheMetric(boolean hit) {
+        incCounter(hit
+                ? MetricName.bidder_params_validation_cache_hit
+                : MetricName.bidder_params_validation_cache_miss);
+    }
+
     public void updateDatabaseQueryTimeMetric(long millis) {
         updateTimer(MetricName.db_query_time, millis);
     }
@@ -499,6 +514,16 @@ public class Metrics extends UpdatableMetrics {
         forCircuitBreakerType(MetricName.http).forName(name).removeMetric(MetricName.opened);
     }
 
+    public void createHttpClientCircuitBreakerPermittedGauge(String name, LongSupplier permittedPercentSupplier) {
+        forCircuitBreakerType(MetricName.http)
+                .forName(name)
+                .createGauge(MetricName.permitted_percent, permittedPercentSupplier);
+    }
+
+    public void removeHttpClientCircuitBreakerPermittedGauge(String name) {
+        forCircuitBreakerType(MetricName.http).forName(name).removeMetric(MetricName.permitted_percent);
+    }
+
     public void createHttpClientCircuitBreakerNumberGauge(LongSupplier numberSupplier) {
         forCircuitBreakerType(MetricName.http).createGauge(MetricName.existing, numberSupplier);
     }
@@ -4,9 +4,9 @@ import com.codahale.metrics.MetricRegistry;
 import org.prebid.server.hooks.execution.model.Stage;
 
 import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 class StageMetrics extends UpdatableMetrics {
@@ -25,9 +25,6 @@ class StageMetrics extends UpdatableMetrics {
 
     private static final String UNKNOWN_STAGE = "unknown";
 
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
     private final Function<String, HookImplMetrics> hookImplMetricsCreator;
     private final Map<String, HookImplMetrics> hookImplMetrics;
 
@@ -39,7 +36,7 @@ class StageMetrics extends UpdatableMetrics {
 
         hookImplMetricsCreator = hookImplCode ->
                 new HookImplMetrics(metricRegistry, counterType, createPrefix(prefix, stage), hookImplCode);
-        hookImplMetrics = new HashMap<>();
+        hookImplMetrics = new ConcurrentHashMap<>();
     }
 
     private static Function<MetricName, String> nameCreator(String prefix) {
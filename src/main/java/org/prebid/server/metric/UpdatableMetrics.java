@@ -1,35 +1,37 @@
 package org.prebid.server.metric;
 
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 
-import java.util.EnumMap;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
 
 class UpdatableMetrics {
 
+    private static final int METRIC_NAMES_COUNT = MetricName.values().length;
+
     private final MetricRegistry metricRegistry;
     private final Function<MetricName, String> nameCreator;
-    private final MetricIncrementer incrementer;
+    private final IncrementerResolver incrementerResolver;
     private final CounterType counterType;
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
-    private final Map<MetricName, String> metricNames;
+    // metric handles are resolved from underlying registry once and then reused, so updating metric doesn't require
+    // name creation and registry lookup; slots are indexed by metric name ordinal and filled on first use
+    private final AtomicReferenceArray<MetricHandles> metricHandles;
 
     UpdatableMetrics(MetricRegistry metricRegistry, CounterType counterType, Function<MetricName, String> nameCreator) {
         this.metricRegistry = metricRegistry;
         this.counterType = counterType;
         this.nameCreator = nameCreator;
-        metricNames = new EnumMap<>(MetricName.class);
+        metricHandles = new AtomicReferenceArray<>(METRIC_NAMES_COUNT);
 
-        incrementer = switch (counterType) {
-            case flushingCounter -> (registry, metricName, value) ->
-                    registry.counter(metricName, ResettingCounter::new).inc(value);
-            case counter -> (registry, metricName, value) -> registry.counter(metricName).inc(value);
-            case meter -> (registry, metricName, value) -> registry.meter(metricName).mark(value);
+        incrementerResolver = switch (counterType) {
+            case flushingCounter -> (registry, metricName) -> registry.counter(metricName, ResettingCounter::new)::inc;
+            case counter -> (registry, metricName) -> registry.counter(metricName)::inc;
+            case meter -> (registry, metricName) -> registry.meter(metricName)::mark;
         };
     }
 
@@ -44,34 +46,79 @@ class UpdatableMetrics {
      * Increments metric's counter on a given value.
      */
     void incCounter(MetricName metricName, long value) {
-        incrementer.accept(metricRegistry, name(metricName), value);
+        incrementer(metricName).accept(value);
     }
 
     /**
      * Updates metric's timer with a given value.
      */
     void updateTimer(MetricName metricName, long millis) {
-        metricRegistry.timer(name(metricName)).update(millis, TimeUnit.MILLISECONDS);
+        timer(metricName).update(millis, TimeUnit.MILLISECONDS);
     }
 
     /**
      * Updates metric's histogram with a given value.
      */
     void updateHistogram(MetricName metricName, long value) {
-        // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
-        metricRegistry.histogram(name(metricName)).update(value);
+        histogram(metricName).update(value);
     }
 
     void createGauge(MetricName metricName, LongSupplier supplier) {
-        metricRegistry.gauge(name(metricName), () -> supplier::getAsLong);
+        metricRegistry.gauge(handles(metricName).name, () -> supplier::getAsLong);
     }
 
     void removeMetric(MetricName metricName) {
-        metricRegistry.remove(name(metricName));
+        final MetricHandles handles = handles(metricName);
+        metricRegistry.remove(handles.name);
+
+        // only handles holding the removed metric are dropped, so metric registered by concurrent update after
+        // removal is kept in registry and resolved again by the next update
+        metricHandles.compareAndSet(metricName.ordinal(), handles, null);
+    }
+
+    private LongConsumer incrementer(MetricName metricName) {
+        final MetricHandles handles = handles(metricName);
+        LongConsumer incrementer = handles.incrementer;
+        if (incrementer == null) {
+            incrementer = incrementerResolver.resolve(metricRegistry, handles.name);
+            handles.incrementer = incrementer;
+        }
+
+        return incrementer;
     }
 
-    private String name(MetricName metricName) {
-        return metricNames.computeIfAbsent(metricName, key -> nameCreator.apply(metricName));
+    private Timer timer(MetricName metricName) {
+        final MetricHandles handles = handles(metricName);
+        Timer timer = handles.timer;
+        if (timer == null) {
+            timer = metricRegistry.timer(handles.name);
+            handles.timer = timer;
+        }
+
+        return timer;
+    }
+
+    private Histogram histogram(MetricName metricName) {
+        final MetricHandles handles = handles(metricName);
+        Histogram histogram = handles.histogram;
+        if (histogram == null) {
+            // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
+            histogram = metricRegistry.histogram(handles.name);
+            handles.histogram = histogram;
+        }
+
+        return histogram;
+    }
+
+    private MetricHandles handles(MetricName metricName) {
+        final int index = metricName.ordinal();
+        final MetricHandles handles = metricHandles.get(index);
+        if (handles != null) {
+            return handles;
+        }
+
+        final MetricHandles createdHandles = new MetricHandles(nameCreator.apply(metricName));
+        return metricHandles.compareAndSet(index, null, createdHandles) ? createdHandles : metricHandles.get(index);
     }
 
     public CounterType getCounterType() {
@@ -79,7 +126,26 @@ class UpdatableMetrics {
     }
 
     @FunctionalInterface
-    private interface MetricIncrementer {
-        void accept(MetricRegistry metricRegistry, String metricName, long value);
+    private interface IncrementerResolver {
+        LongConsumer resolve(MetricRegistry metricRegistry, String metricName);
+    }
+
+    /**
+     * Handles of one metric name. Registry returns the same metric for the same name, so concurrent resolving of
+     * a handle is harmless.
+     */
+    private static class MetricHandles {
+
+        private final String name;
+
+        private volatile LongConsumer incrementer;
+
+        private volatile Timer timer;
+
+        private volatile Histogram histogram;
+
+        MetricHandles(String name) {
+            this.name = name;
+        }
     }
 }
@@ -1,5 +1,7 @@
 package org.prebid.server.privacy.gdpr;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iabtcf.decoder.TCString;
 import io.vertx.core.Future;
 import lombok.Value;
@@ -62,6 +64,7 @@ public class TcfDefinerService {
     private final boolean consentStringMeansInScope;
     private final Tcf2Service tcf2Service;
     private final Set<String> eeaCountries;
+    private final Cache<String, TCString> consentStringCache;
     private final GeoLocationServiceWrapper geoLocationServiceWrapper;
     private final BidderCatalog bidderCatalog;
     private final IpAddressHelper ipAddressHelper;
@@ -69,6 +72,7 @@ public class TcfDefinerService {
 
     public TcfDefinerService(GdprConfig gdprConfig,
                              Set<String> eeaCountries,
+                             long consentStringCacheMaxWeight,
                              Tcf2Service tcf2Service,
                              GeoLocationServiceWrapper geoLocationServiceWrapper,
                              BidderCatalog bidderCatalog,
@@ -81,12 +85,22 @@ public class TcfDefinerService {
                 && BooleanUtils.isTrue(gdprConfig.getConsentStringMeansInScope());
         this.tcf2Service = Objects.requireNonNull(tcf2Service);
         this.eeaCountries = Objects.requireNonNull(eeaCountries);
+        this.consentStringCache = consentStringCacheMaxWeight > 0
+                ? createConsentStringCache(consentStringCacheMaxWeight)
+                : null;
         this.geoLocationServiceWrapper = Objects.requireNonNull(geoLocationServiceWrapper);
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
         this.ipAddressHelper = Objects.requireNonNull(ipAddressHelper);
         this.metrics = Objects.requireNonNull(metrics);
     }
 
+    private static Cache<String, TCString> createConsentStringCache(long maxWeight) {
+        return Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((String consentString, TCString tcString) -> consentString.length())
+                .build();
+    }
+
     /**
      * Used for auctions.
      */
@@ -370,7 +384,34 @@ public class TcfDefinerService {
         return TCStringParsingResult.of(tcString, warnings);
     }
 
+    /**
+     * Returns decoded {@link TCString} from cache if possible, otherwise decodes it.
+     * <p>
+     * Consent string is decoded eagerly, so cached {@link TCString} holds already resolved vendor and purpose
+     * bitsets and can be shared between requests. Only successfully decoded consent strings are cached.
+     */
     private TCString decodeTcString(String consentString, RequestLogInfo requestLogInfo, List<String> warnings) {
+        if (consentStringCache == null) {
+            return decodeTcStringOrNull(consentString, requestLogInfo, warnings);
+        }
+
+        final TCString cachedTcString = consentStringCache.getIfPresent(consentString);
+        metrics.updatePrivacyTcfConsentCacheMetric(cachedTcString != null);
+        if (cachedTcString != null) {
+            return cachedTcString;
+        }
+
+        final TCString tcString = decodeTcStringOrNull(consentString, requestLogInfo, warnings);
+        if (tcString != null) {
+            consentStringCache.put(consentString, tcString);
+        }
+
+        return tcString;
+    }
+
+    private static TCString decodeTcStringOrNull(String consentString,
+                                                 RequestLogInfo requestLogInfo,
+                                                 List<String> warnings) {
         try {
             return TCString.decode(consentString);
         } catch (Exception e) {
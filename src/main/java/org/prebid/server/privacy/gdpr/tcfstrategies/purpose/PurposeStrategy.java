@@ -16,6 +16,8 @@ import org.prebid.server.settings.model.Purpose;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public abstract class PurposeStrategy {
@@ -61,10 +63,14 @@ public abstract class PurposeStrategy {
                                            Collection<VendorPermissionWithGvl> vendorPermissions,
                                            boolean wasDowngraded) {
 
-        final Collection<VendorPermissionWithGvl> excludedVendors = excludedVendors(vendorPermissions, purpose);
-        final Collection<VendorPermissionWithGvl> vendorForPurpose = vendorPermissions.stream()
-                .filter(vendorPermission -> !excludedVendors.contains(vendorPermission))
-                .toList();
+        if (vendorPermissions.isEmpty()) {
+            return;
+        }
+
+        final Map<Boolean, List<VendorPermissionWithGvl>> isExcludedToVendors =
+                partitionByExclusion(vendorPermissions, purpose);
+        final Collection<VendorPermissionWithGvl> excludedVendors = isExcludedToVendors.get(true);
+        final Collection<VendorPermissionWithGvl> vendorForPurpose = isExcludedToVendors.get(false);
 
         allowedByTypeStrategy(vendorConsent, purpose, vendorForPurpose, excludedVendors)
                 .forEach(this::allow);
@@ -76,15 +82,22 @@ public abstract class PurposeStrategy {
         naturalVendorPermission.forEach(this::allowNaturally);
     }
 
-    private Collection<VendorPermissionWithGvl> excludedVendors(Collection<VendorPermissionWithGvl> vendorPermissions,
-                                                                Purpose purpose) {
+    /**
+     * Splits vendors into excluded by purpose vendor exceptions and the rest in one pass,
+     * so vendors are not compared with each other.
+     */
+    private static Map<Boolean, List<VendorPermissionWithGvl>> partitionByExclusion(
+            Collection<VendorPermissionWithGvl> vendorPermissions,
+            Purpose purpose) {
 
         final List<String> bidderNameExceptions = purpose.getVendorExceptions();
+        if (CollectionUtils.isEmpty(bidderNameExceptions)) {
+            return Map.of(true, Collections.emptyList(), false, List.copyOf(vendorPermissions));
+        }
 
-        return CollectionUtils.isEmpty(bidderNameExceptions)
-                ? Collections.emptyList()
-                : CollectionUtils.select(vendorPermissions, vendorPermission ->
-                bidderNameExceptions.contains(vendorPermission.getVendorPermission().getBidderName()));
+        return vendorPermissions.stream()
+                .collect(Collectors.partitioningBy(vendorPermission ->
+                        bidderNameExceptions.contains(vendorPermission.getVendorPermission().getBidderName())));
     }
 
     private Stream<VendorPermission> allowedByTypeStrategy(TCString vendorConsent,
@@ -8,4 +8,10 @@ public interface CacheNotificationListener {
     void save(Map<String, String> requests, Map<String, String> imps);
 
     void invalidate(List<String> requests, List<String> imps);
+
+    default void saveResponses(Map<String, String> responses) {
+    }
+
+    default void invalidateResponses(List<String> responses) {
+    }
 }
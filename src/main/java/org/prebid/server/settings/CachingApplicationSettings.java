@@ -1,13 +1,18 @@
 package org.prebid.server.settings;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.helper.SingleFlight;
 import org.prebid.server.settings.helper.StoredDataFetcher;
 import org.prebid.server.settings.helper.StoredItemResolver;
 import org.prebid.server.settings.model.Account;
@@ -21,11 +26,20 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeoutException;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Adds caching functionality for {@link ApplicationSettings} implementation.
+ * <p>
+ * Concurrent cache misses of the same key are coalesced into a single call to the delegate. Each coalesced caller
+ * still waits no longer than its own timeout, and retries with it if the shared call has timed out earlier.
+ * If stale-while-revalidate is enabled, expired account or categories are served for the configured period
+ * while they are being refreshed in background with their own timeout.
  */
 public class CachingApplicationSettings implements ApplicationSettings {
 
@@ -37,19 +51,34 @@ public class CachingApplicationSettings implements ApplicationSettings {
     private final Map<String, String> accountToErrorCache;
     private final Map<String, String> adServerPublisherToErrorCache;
     private final Map<String, Map<String, String>> categoryConfigCache;
+    private final Map<String, Account> staleAccountCache;
+    private final Map<String, Map<String, String>> staleCategoryConfigCache;
     private final SettingsCache cache;
     private final SettingsCache ampCache;
     private final SettingsCache videoCache;
+    private final Vertx vertx;
+    private final TimeoutFactory timeoutFactory;
     private final Metrics metrics;
+    private final long staleRefreshTimeoutMs;
+
+    private final SingleFlight<Account> accountLoads = new SingleFlight<>();
+    private final SingleFlight<Map<String, String>> categoryConfigLoads = new SingleFlight<>();
+    private final SingleFlight<StoredDataResult> storedDataLoads = new SingleFlight<>();
+    private final SingleFlight<StoredDataResult> ampStoredDataLoads = new SingleFlight<>();
+    private final SingleFlight<StoredDataResult> videoStoredDataLoads = new SingleFlight<>();
 
     public CachingApplicationSettings(ApplicationSettings delegate,
                                       SettingsCache cache,
                                       SettingsCache ampCache,
                                       SettingsCache videoCache,
+                                      Vertx vertx,
+                                      TimeoutFactory timeoutFactory,
                                       Metrics metrics,
                                       int ttl,
                                       int size,
-                                      int jitter) {
+                                      int jitter,
+                                      int staleWhileRevalidate,
+                                      long staleRefreshTimeoutMs) {
 
         if (ttl <= 0 || size <= 0) {
             throw new IllegalArgumentException("ttl and size must be positive");
@@ -57,16 +86,31 @@ public class CachingApplicationSettings implements ApplicationSettings {
         if (jitter < 0 || jitter >= ttl) {
             throw new IllegalArgumentException("jitter must match the inequality: 0 <= jitter < ttl");
         }
+        if (staleWhileRevalidate < 0) {
+            throw new IllegalArgumentException("staleWhileRevalidate must be non-negative");
+        }
+        if (staleRefreshTimeoutMs <= 0) {
+            throw new IllegalArgumentException("staleRefreshTimeoutMs must be positive");
+        }
 
         this.delegate = Objects.requireNonNull(delegate);
         this.accountCache = SettingsCache.createCache(ttl, size, jitter);
         this.accountToErrorCache = SettingsCache.createCache(ttl, size, jitter);
         this.adServerPublisherToErrorCache = SettingsCache.createCache(ttl, size, jitter);
         this.categoryConfigCache = SettingsCache.createCache(ttl, size, jitter);
+        this.staleAccountCache = staleWhileRevalidate > 0
+                ? SettingsCache.createCache(ttl + staleWhileRevalidate, size, jitter)
+                : null;
+        this.staleCategoryConfigCache = staleWhileRevalidate > 0
+                ? SettingsCache.createCache(ttl + staleWhileRevalidate, size, jitter)
+                : null;
         this.cache = Objects.requireNonNull(cache);
         this.ampCache = Objects.requireNonNull(ampCache);
         this.videoCache = Objects.requireNonNull(videoCache);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
         this.metrics = Objects.requireNonNull(metrics);
+        this.staleRefreshTimeoutMs = staleRefreshTimeoutMs;
     }
 
     /**
@@ -76,7 +120,9 @@ public class CachingApplicationSettings implements ApplicationSettings {
     public Future<Account> getAccountById(String accountId, Timeout timeout) {
         return getFromCacheOrDelegate(
                 accountCache,
+                staleAccountCache,
                 accountToErrorCache,
+                accountLoads,
                 StringUtils.isBlank(accountId) ? StringUtils.EMPTY : accountId,
                 timeout,
                 delegate::getAccountById,
@@ -92,7 +138,15 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                   Set<String> impIds,
                                                   Timeout timeout) {
 
-        return getFromCacheOrDelegate(cache, accountId, requestIds, impIds, timeout, delegate::getStoredData);
+        return getFromCacheOrDelegate(
+                cache,
+                storedDataLoads,
+                accountId,
+                requestIds,
+                impIds,
+                timeout,
+                delegate::getStoredData,
+                event -> metrics.updateSettingsCacheEventMetric(MetricName.stored_request, event));
     }
 
     /**
@@ -104,7 +158,15 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                      Set<String> impIds,
                                                      Timeout timeout) {
 
-        return getFromCacheOrDelegate(ampCache, accountId, requestIds, impIds, timeout, delegate::getAmpStoredData);
+        return getFromCacheOrDelegate(
+                ampCache,
+                ampStoredDataLoads,
+                accountId,
+                requestIds,
+                impIds,
+                timeout,
+                delegate::getAmpStoredData,
+                event -> metrics.updateSettingsCacheEventMetric(MetricName.amp_stored_request, event));
     }
 
     @Override
@@ -113,15 +175,48 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                        Set<String> impIds,
                                                        Timeout timeout) {
 
-        return getFromCacheOrDelegate(videoCache, accountId, requestIds, impIds, timeout, delegate::getVideoStoredData);
+        return getFromCacheOrDelegate(
+                videoCache,
+                videoStoredDataLoads,
+                accountId,
+                requestIds,
+                impIds,
+                timeout,
+                delegate::getVideoStoredData,
+                event -> metrics.updateSettingsCacheEventMetric(MetricName.video_stored_request, event));
     }
 
     /**
-     * Delegates stored response retrieve to original fetcher, as caching is not supported fot stored response.
+     * Retrieves stored responses from cache and delegates look up of absent ones to original fetcher.
      */
     @Override
     public Future<StoredResponseDataResult> getStoredResponses(Set<String> responseIds, Timeout timeout) {
-        return delegate.getStoredResponses(responseIds, timeout);
+        final Map<String, String> responseCache = cache.getResponseCache();
+
+        final Map<String, String> idToStoredResponse = new HashMap<>(responseIds.size());
+        final Set<String> missedResponseIds = new HashSet<>();
+        for (String responseId : responseIds) {
+            final String cachedResponse = responseCache.get(responseId);
+            if (cachedResponse != null) {
+                idToStoredResponse.put(responseId, cachedResponse);
+                metrics.updateSettingsCacheEventMetric(MetricName.stored_response, MetricName.hit);
+            } else {
+                missedResponseIds.add(responseId);
+                metrics.updateSettingsCacheEventMetric(MetricName.stored_response, MetricName.miss);
+            }
+        }
+
+        if (missedResponseIds.isEmpty()) {
+            return Future.succeededFuture(StoredResponseDataResult.of(idToStoredResponse, Collections.emptyList()));
+        }
+
+        return delegate.getStoredResponses(missedResponseIds, timeout).map(result -> {
+            final Map<String, String> idToStoredResponseFromDelegate = result.getIdToStoredResponses();
+            idToStoredResponse.putAll(idToStoredResponseFromDelegate);
+            idToStoredResponseFromDelegate.forEach(cache::saveResponseCache);
+
+            return StoredResponseDataResult.of(idToStoredResponse, result.getErrors());
+        });
     }
 
     @Override
@@ -130,17 +225,31 @@ public class CachingApplicationSettings implements ApplicationSettings {
                 ? "%s_%s".formatted(primaryAdServer, publisher)
                 : primaryAdServer;
 
-        return getFromCacheOrDelegate(categoryConfigCache, adServerPublisherToErrorCache, compoundKey, timeout,
-                (key, timeoutParam) -> delegate.getCategories(primaryAdServer, publisher, timeout),
+        return getFromCacheOrDelegate(
+                categoryConfigCache,
+                staleCategoryConfigCache,
+                adServerPublisherToErrorCache,
+                categoryConfigLoads,
+                compoundKey,
+                timeout,
+                (key, timeoutParam) -> delegate.getCategories(primaryAdServer, publisher, timeoutParam),
                 CachingApplicationSettings::noOp);
     }
 
-    private static <T> Future<T> getFromCacheOrDelegate(Map<String, T> cache,
-                                                        Map<String, String> accountToErrorCache,
-                                                        String key,
-                                                        Timeout timeout,
-                                                        BiFunction<String, Timeout, Future<T>> retriever,
-                                                        Consumer<MetricName> metricUpdater) {
+    /**
+     * Retrieves value from cache or delegates it to original fetcher. Only one call to original fetcher is made
+     * for concurrent misses of the same key.
+     * <p>
+     * If stale cache is given and still has the value, returns it and refreshes cache in background.
+     */
+    private <T> Future<T> getFromCacheOrDelegate(Map<String, T> cache,
+                                                 Map<String, T> staleCache,
+                                                 Map<String, String> errorCache,
+                                                 SingleFlight<T> loads,
+                                                 String key,
+                                                 Timeout timeout,
+                                                 BiFunction<String, Timeout, Future<T>> retriever,
+                                                 Consumer<MetricName> metricUpdater) {
 
         final T cachedValue = cache.get(key);
         if (cachedValue != null) {
@@ -151,17 +260,34 @@ public class CachingApplicationSettings implements ApplicationSettings {
 
         metricUpdater.accept(MetricName.miss);
 
-        final String preBidExceptionMessage = accountToErrorCache.get(key);
+        final String preBidExceptionMessage = errorCache.get(key);
         if (preBidExceptionMessage != null) {
             return Future.failedFuture(new PreBidException(preBidExceptionMessage));
         }
 
-        return retriever.apply(key, timeout)
-                .map(value -> {
-                    cache.put(key, value);
-                    return value;
-                })
-                .recover(throwable -> cacheAndReturnFailedFuture(throwable, key, accountToErrorCache));
+        final Function<Timeout, Future<T>> loader = loadTimeout -> retriever.apply(key, loadTimeout)
+                .map(value -> cacheAndReturnValue(value, key, cache, staleCache))
+                .recover(throwable -> cacheAndReturnFailedFuture(throwable, key, errorCache, staleCache));
+
+        final T staleValue = staleCache != null ? staleCache.get(key) : null;
+        if (staleValue != null) {
+            metricUpdater.accept(MetricName.stale);
+
+            // refresh must not depend on timeout of the request which happened to trigger it
+            loads.load(
+                    key,
+                    () -> loader.apply(timeoutFactory.create(staleRefreshTimeoutMs))
+                            .onFailure(throwable -> logger.warn(
+                                    "Failed to refresh stale value for key {}: {}", key, throwable.getMessage())),
+                    coalesced -> {
+                        metricUpdater.accept(MetricName.coalesced);
+                        return coalesced;
+                    });
+
+            return Future.succeededFuture(staleValue);
+        }
+
+        return load(loads, key, timeout, loader, metricUpdater);
     }
 
     /**
@@ -170,13 +296,15 @@ public class CachingApplicationSettings implements ApplicationSettings {
      * {@link Future} propagates its result to caller. In successive call return {@link Future&lt;StoredDataResult&gt;}
      * with all found stored items and error from origin source id call was made.
      */
-    private static Future<StoredDataResult> getFromCacheOrDelegate(
+    private Future<StoredDataResult> getFromCacheOrDelegate(
             SettingsCache cache,
+            SingleFlight<StoredDataResult> loads,
             String accountId,
             Set<String> requestIds,
             Set<String> impIds,
             Timeout timeout,
-            StoredDataFetcher<String, Set<String>, Set<String>, Timeout, Future<StoredDataResult>> retriever) {
+            StoredDataFetcher<String, Set<String>, Set<String>, Timeout, Future<StoredDataResult>> retriever,
+            Consumer<MetricName> metricUpdater) {
 
         // empty string account ID doesn't make sense
         final String normalizedAccountId = StringUtils.stripToNull(accountId);
@@ -198,30 +326,106 @@ public class CachingApplicationSettings implements ApplicationSettings {
                     StoredDataResult.of(storedIdToRequest, storedIdToImp, Collections.emptyList()));
         }
 
-        // delegate call to original source for missed ids and update cache with it
-        return retriever.apply(normalizedAccountId, missedRequestIds, missedImpIds, timeout).map(result -> {
-            final Map<String, String> storedIdToRequestFromDelegate = result.getStoredIdToRequest();
-            storedIdToRequest.putAll(storedIdToRequestFromDelegate);
-            for (Map.Entry<String, String> entry : storedIdToRequestFromDelegate.entrySet()) {
-                cache.saveRequestCache(normalizedAccountId, entry.getKey(), entry.getValue());
-            }
+        // delegate call to original source for missed ids and update cache with it, once for concurrent callers
+        final Future<StoredDataResult> loadedStoredData = load(
+                loads,
+                storedDataKey(normalizedAccountId, missedRequestIds, missedImpIds),
+                timeout,
+                loadTimeout -> retriever.apply(normalizedAccountId, missedRequestIds, missedImpIds, loadTimeout)
+                        .map(result -> cacheStoredData(cache, normalizedAccountId, result)),
+                metricUpdater);
 
-            final Map<String, String> storedIdToImpFromDelegate = result.getStoredIdToImp();
-            storedIdToImp.putAll(storedIdToImpFromDelegate);
-            for (Map.Entry<String, String> entry : storedIdToImpFromDelegate.entrySet()) {
-                cache.saveImpCache(normalizedAccountId, entry.getKey(), entry.getValue());
-            }
+        return loadedStoredData.map(result -> {
+            storedIdToRequest.putAll(result.getStoredIdToRequest());
+            storedIdToImp.putAll(result.getStoredIdToImp());
 
             return StoredDataResult.of(storedIdToRequest, storedIdToImp, result.getErrors());
         });
     }
 
+    /**
+     * Loads value once for concurrent callers of the same key. Caller which joined the load in progress waits for it
+     * no longer than its own timeout, and if that load has timed out while caller's timeout is not yet expired -
+     * loads value again with caller's timeout.
+     */
+    private <T> Future<T> load(SingleFlight<T> loads,
+                               String key,
+                               Timeout timeout,
+                               Function<Timeout, Future<T>> loader,
+                               Consumer<MetricName> metricUpdater) {
+
+        return loads.load(key, () -> loader.apply(timeout), coalesced -> {
+            metricUpdater.accept(MetricName.coalesced);
+
+            return withinTimeout(coalesced, timeout, () -> loads.load(
+                    key, () -> loader.apply(timeout), retryCoalesced -> retryCoalesced));
+        });
+    }
+
+    private <T> Future<T> withinTimeout(Future<T> future, Timeout timeout, Supplier<Future<T>> retry) {
+        final long remainingTimeout = timeout.remaining();
+        if (remainingTimeout <= 0) {
+            return Future.failedFuture(new TimeoutException("Timeout has been exceeded"));
+        }
+
+        final Promise<T> promise = Promise.promise();
+        final long timerId = vertx.setTimer(remainingTimeout,
+                ignored -> promise.tryFail(new TimeoutException("Timeout has been exceeded")));
+        promise.future().onComplete(ignored -> vertx.cancelTimer(timerId));
+
+        future.onComplete(result -> {
+            if (result.failed() && result.cause() instanceof TimeoutException && timeout.remaining() > 0) {
+                retry.get().onComplete(retryResult -> tryComplete(promise, retryResult));
+            } else {
+                tryComplete(promise, result);
+            }
+        });
+
+        return promise.future();
+    }
+
+    private static <T> void tryComplete(Promise<T> promise, AsyncResult<T> result) {
+        if (result.succeeded()) {
+            promise.tryComplete(result.result());
+        } else {
+            promise.tryFail(result.cause());
+        }
+    }
+
+    private static String storedDataKey(String accountId, Set<String> requestIds, Set<String> impIds) {
+        return "%s|%s|%s".formatted(accountId, new TreeSet<>(requestIds), new TreeSet<>(impIds));
+    }
+
+    private static StoredDataResult cacheStoredData(SettingsCache cache, String accountId, StoredDataResult result) {
+        for (Map.Entry<String, String> entry : result.getStoredIdToRequest().entrySet()) {
+            cache.saveRequestCache(accountId, entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, String> entry : result.getStoredIdToImp().entrySet()) {
+            cache.saveImpCache(accountId, entry.getKey(), entry.getValue());
+        }
+
+        return result;
+    }
+
+    private static <T> T cacheAndReturnValue(T value, String key, Map<String, T> cache, Map<String, T> staleCache) {
+        cache.put(key, value);
+        if (staleCache != null) {
+            staleCache.put(key, value);
+        }
+
+        return value;
+    }
+
     private static <T> Future<T> cacheAndReturnFailedFuture(Throwable throwable,
                                                             String key,
-                                                            Map<String, String> cache) {
+                                                            Map<String, String> cache,
+                                                            Map<String, T> staleCache) {
 
         if (throwable instanceof PreBidException) {
             cache.put(key, throwable.getMessage());
+            if (staleCache != null) {
+                staleCache.remove(key);
+            }
         }
 
         return Future.failedFuture(throwable);
@@ -249,6 +453,9 @@ public class CachingApplicationSettings implements ApplicationSettings {
     public void invalidateAccountCache(String accountId) {
         accountCache.remove(accountId);
         accountToErrorCache.remove(accountId);
+        if (staleAccountCache != null) {
+            staleAccountCache.remove(accountId);
+        }
         logger.debug("Account with id {} was invalidated", accountId);
     }
 
@@ -2,6 +2,7 @@ package org.prebid.server.settings;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.checkerframework.checker.index.qual.NonNegative;
@@ -15,14 +16,21 @@ import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * Just a simple wrapper over in-memory caches for requests and imps.
+ * Just a simple wrapper over in-memory caches for requests, imps and responses.
+ * <p>
+ * Responses cache is created only if requested, since stored responses are read from the main settings cache only.
  */
 public class SettingsCache implements CacheNotificationListener {
 
     private final Map<String, Set<StoredItem>> requestCache;
     private final Map<String, Set<StoredItem>> impCache;
+    private final Map<String, String> responseCache;
 
     public SettingsCache(int ttl, int size, int jitter) {
+        this(ttl, size, jitter, false);
+    }
+
+    public SettingsCache(int ttl, int size, int jitter, boolean cacheResponses) {
         if (ttl <= 0 || size <= 0) {
             throw new IllegalArgumentException("ttl and size must be positive");
         }
@@ -32,6 +40,7 @@ public class SettingsCache implements CacheNotificationListener {
 
         requestCache = createCache(ttl, size, jitter);
         impCache = createCache(ttl, size, jitter);
+        responseCache = cacheResponses ? createCache(ttl, size, jitter) : null;
     }
 
     public static <T> Map<String, T> createCache(int ttlSeconds, int size, int jitterSeconds) {
@@ -55,6 +64,10 @@ public class SettingsCache implements CacheNotificationListener {
         return impCache;
     }
 
+    Map<String, String> getResponseCache() {
+        return responseCache != null ? responseCache : Collections.emptyMap();
+    }
+
     void saveRequestCache(String accountId, String requestId, String requestValue) {
         saveCachedValue(requestCache, accountId, requestId, requestValue);
     }
@@ -63,6 +76,12 @@ public class SettingsCache implements CacheNotificationListener {
         saveCachedValue(impCache, accountId, impId, impValue);
     }
 
+    void saveResponseCache(String responseId, String responseValue) {
+        if (responseCache != null) {
+            responseCache.put(responseId, responseValue);
+        }
+    }
+
     private static void saveCachedValue(Map<String, Set<StoredItem>> cache,
                                         String accountId,
                                         String id,
@@ -94,6 +113,20 @@ public class SettingsCache implements CacheNotificationListener {
         imps.forEach(impCache.keySet()::remove);
     }
 
+    @Override
+    public void saveResponses(Map<String, String> responses) {
+        if (responseCache != null && MapUtils.isNotEmpty(responses)) {
+            responseCache.putAll(responses);
+        }
+    }
+
+    @Override
+    public void invalidateResponses(List<String> responses) {
+        if (responseCache != null && CollectionUtils.isNotEmpty(responses)) {
+            responses.forEach(responseCache.keySet()::remove);
+        }
+    }
+
     private static class StaticExpiry<K, V> implements Expiry<K, V> {
 
         private final long expireAfterNanos;
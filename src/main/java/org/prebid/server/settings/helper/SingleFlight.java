@@ -0,0 +1,71 @@
+package org.prebid.server.settings.helper;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Deduplicates concurrent loads of the same key: while a load is in progress, all callers asking for
+ * the same key share its result instead of starting their own load.
+ * <p>
+ * Coalesced callers get the result on their own Vert.x context, because the load can be completed
+ * on the event loop of the caller which started it.
+ */
+public class SingleFlight<T> {
+
+    private final Map<String, Future<T>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Returns result of the load in progress for the given key or starts a new one with the given loader.
+     * <p>
+     * If the load in progress was joined, its result is passed through onCoalesced, so the caller can bound
+     * its own wait: the load was started with timeout of another caller.
+     */
+    public Future<T> load(String key, Supplier<Future<T>> loader, UnaryOperator<Future<T>> onCoalesced) {
+        final Promise<T> promise = Promise.promise();
+        final Future<T> future = promise.future();
+
+        final Future<T> inFlightFuture = inFlight.putIfAbsent(key, future);
+        if (inFlightFuture != null) {
+            return onCoalesced.apply(onCurrentContext(inFlightFuture));
+        }
+
+        Future<T> loaded;
+        try {
+            loaded = loader.get();
+        } catch (Exception e) {
+            loaded = Future.failedFuture(e);
+        }
+
+        loaded.onComplete(result -> {
+            inFlight.remove(key, future);
+            promise.handle(result);
+        });
+
+        return future;
+    }
+
+    private static <T> Future<T> onCurrentContext(Future<T> future) {
+        final Context context = Vertx.currentContext();
+        if (context == null || future.isComplete()) {
+            return future;
+        }
+
+        final Promise<T> promise = Promise.promise();
+        future.onComplete(result -> {
+            if (Vertx.currentContext() == context) {
+                promise.handle(result);
+            } else {
+                context.runOnContext(ignored -> promise.handle(result));
+            }
+        });
+
+        return promise.future();
+    }
+}
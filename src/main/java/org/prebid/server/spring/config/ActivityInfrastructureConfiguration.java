@@ -81,11 +81,20 @@ public class ActivityInfrastructureConfiguration {
     }
 
     @Bean
-    ActivityInfrastructureCreator activityInfrastructureCreator(ActivityRuleFactory activityRuleFactory,
-                                                                GdprConfig gdprConfig,
-                                                                Metrics metrics,
-                                                                JacksonMapper jacksonMapper) {
-
-        return new ActivityInfrastructureCreator(activityRuleFactory, gdprConfig, metrics, jacksonMapper);
+    ActivityInfrastructureCreator activityInfrastructureCreator(
+            ActivityRuleFactory activityRuleFactory,
+            GdprConfig gdprConfig,
+            Metrics metrics,
+            JacksonMapper jacksonMapper,
+            @Value("${settings.in-memory-cache.ttl-seconds:#{null}}") Integer ttlSeconds,
+            @Value("${settings.in-memory-cache.cache-size:#{null}}") Integer cacheSize) {
+
+        return new ActivityInfrastructureCreator(
+                activityRuleFactory,
+                gdprConfig,
+                metrics,
+                jacksonMapper,
+                ttlSeconds,
+                cacheSize);
     }
 }
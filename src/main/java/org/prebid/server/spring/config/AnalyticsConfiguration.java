@@ -5,10 +5,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.apache.commons.collections4.ListUtils;
 import org.prebid.server.analytics.AnalyticsReporter;
+import org.prebid.server.analytics.reporter.AnalyticsDispatcher;
 import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
 import org.prebid.server.analytics.reporter.greenbids.GreenbidsAnalyticsReporter;
 import org.prebid.server.analytics.reporter.greenbids.model.GreenbidsAnalyticsProperties;
 import org.prebid.server.analytics.reporter.log.LogAnalyticsReporter;
+import org.prebid.server.analytics.reporter.batch.OverflowPolicy;
 import org.prebid.server.analytics.reporter.pubstack.PubstackAnalyticsReporter;
 import org.prebid.server.analytics.reporter.pubstack.model.PubstackAnalyticsProperties;
 import org.prebid.server.auction.privacy.enforcement.TcfEnforcement;
@@ -25,6 +27,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.Clock;
 import java.util.List;
@@ -35,6 +40,7 @@ public class AnalyticsConfiguration {
     @Bean
     AnalyticsReporterDelegator analyticsReporterDelegator(
             Vertx vertx,
+            @Autowired(required = false) AnalyticsDispatcher analyticsDispatcher,
             @Autowired(required = false) List<AnalyticsReporter> delegates,
             TcfEnforcement tcfEnforcement,
             UserFpdActivityMask userFpdActivityMask,
@@ -43,6 +49,7 @@ public class AnalyticsConfiguration {
 
         return new AnalyticsReporterDelegator(
                 vertx,
+                analyticsDispatcher,
                 ListUtils.emptyIfNull(delegates),
                 tcfEnforcement,
                 userFpdActivityMask,
@@ -50,6 +57,54 @@ public class AnalyticsConfiguration {
                 logSamplingRate);
     }
 
+    @Configuration
+    @ConditionalOnProperty(prefix = "analytics.dispatch", name = "enabled", havingValue = "true")
+    public static class AnalyticsDispatchConfiguration {
+
+        @Bean
+        AnalyticsDispatcher analyticsDispatcher(AnalyticsDispatchProperties analyticsDispatchProperties,
+                                                Vertx vertx,
+                                                Metrics metrics,
+                                                Clock clock) {
+
+            return new AnalyticsDispatcher(
+                    vertx.createSharedWorkerExecutor("analytics-dispatch", analyticsDispatchProperties.getPoolSize()),
+                    analyticsDispatchProperties.getQueueCapacity(),
+                    analyticsDispatchProperties.getOverflowPolicy(),
+                    analyticsDispatchProperties.getPressureSamplingRate(),
+                    metrics,
+                    clock);
+        }
+
+        @Bean
+        @ConfigurationProperties(prefix = "analytics.dispatch")
+        AnalyticsDispatchProperties analyticsDispatchProperties() {
+            return new AnalyticsDispatchProperties();
+        }
+
+        @Validated
+        @NoArgsConstructor
+        @Data
+        private static class AnalyticsDispatchProperties {
+
+            @NotNull
+            @Min(1)
+            Integer poolSize;
+
+            @NotNull
+            @Min(1)
+            Integer queueCapacity;
+
+            @NotNull
+            OverflowPolicy overflowPolicy;
+
+            @NotNull
+            @DecimalMin("0.0")
+            @DecimalMax("1.0")
+            Double pressureSamplingRate;
+        }
+    }
+
     @Bean
     @ConditionalOnProperty(prefix = "analytics.log", name = "enabled", havingValue = "true")
     LogAnalyticsReporter logAnalyticsReporter(JacksonMapper mapper) {
@@ -113,12 +168,14 @@ public class AnalyticsConfiguration {
                 PubstackAnalyticsConfiguratinProperties pubstackAnalyticsConfiguratinProperties,
                 HttpClient httpClient,
                 JacksonMapper jacksonMapper,
+                Metrics metrics,
                 Vertx vertx) {
 
             return new PubstackAnalyticsReporter(
                     pubstackAnalyticsConfiguratinProperties.toComponentProperties(),
                     httpClient,
                     jacksonMapper,
+                    metrics,
                     vertx);
         }
 
@@ -160,6 +217,9 @@ public class AnalyticsConfiguration {
                         .count(getBuffers().getCount())
                         .timeoutMs(getTimeoutMs())
                         .reportTtlMs(getBuffers().getReportTtlMs())
+                        .capacity(getBuffers().getCapacity())
+                        .maxInFlightReports(getBuffers().getMaxInFlightReports())
+                        .overflowPolicy(getBuffers().getOverflowPolicy())
                         .build();
             }
         }
@@ -176,6 +236,15 @@ public class AnalyticsConfiguration {
 
             @NotNull
             Long reportTtlMs;
+
+            @NotNull
+            Integer capacity;
+
+            @NotNull
+            Integer maxInFlightReports;
+
+            @NotNull
+            OverflowPolicy overflowPolicy;
         }
     }
 }
@@ -60,10 +60,12 @@ public class GeoLocationConfiguration {
         @Bean
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "false",
                 matchIfMissing = true)
-        GeoLocationService basicGeoLocationService(RemoteFileSyncerProperties fileSyncerProperties,
-                                                   Vertx vertx) {
+        GeoLocationService basicGeoLocationService(
+                RemoteFileSyncerProperties fileSyncerProperties,
+                @Value("${geolocation.maxmind.lookup-cache-size}") int lookupCacheSize,
+                Vertx vertx) {
 
-            return createGeoLocationService(fileSyncerProperties, vertx);
+            return createGeoLocationService(fileSyncerProperties, lookupCacheSize, vertx);
         }
 
         @Bean
@@ -72,17 +74,21 @@ public class GeoLocationConfiguration {
                 Vertx vertx,
                 Metrics metrics,
                 RemoteFileSyncerProperties fileSyncerProperties,
+                @Value("${geolocation.maxmind.lookup-cache-size}") int lookupCacheSize,
                 @Qualifier("maxMindCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
                 Clock clock) {
 
             return new CircuitBreakerSecuredGeoLocationService(vertx,
-                    createGeoLocationService(fileSyncerProperties, vertx), metrics,
+                    createGeoLocationService(fileSyncerProperties, lookupCacheSize, vertx), metrics,
                     circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
                     circuitBreakerProperties.getClosingIntervalMs(), clock);
         }
 
-        private GeoLocationService createGeoLocationService(RemoteFileSyncerProperties properties, Vertx vertx) {
-            final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService();
+        private GeoLocationService createGeoLocationService(RemoteFileSyncerProperties properties,
+                                                            int lookupCacheSize,
+                                                            Vertx vertx) {
+
+            final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService(lookupCacheSize);
             final HttpClientProperties httpClientProperties = properties.getHttpClient();
             final HttpClientOptions httpClientOptions = new HttpClientOptions()
                     .setConnectTimeout(httpClientProperties.getConnectTimeoutMs())
@@ -160,6 +160,7 @@ public class PrivacyServiceConfiguration {
     TcfDefinerService tcfDefinerService(
             GdprConfig gdprConfig,
             @Value("${gdpr.eea-countries}") String eeaCountriesAsString,
+            @Value("${gdpr.consent-string-cache-max-weight}") long consentStringCacheMaxWeight,
             Tcf2Service tcf2Service,
             GeoLocationServiceWrapper geoLocationServiceWrapper,
             BidderCatalog bidderCatalog,
@@ -171,6 +172,7 @@ public class PrivacyServiceConfiguration {
         return new TcfDefinerService(
                 gdprConfig,
                 eeaCountries,
+                consentStringCacheMaxWeight,
                 tcf2Service,
                 geoLocationServiceWrapper,
                 bidderCatalog,
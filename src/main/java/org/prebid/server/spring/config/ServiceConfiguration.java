@@ -66,9 +66,11 @@ import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConverter
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.BidderDeps;
 import org.prebid.server.bidder.BidderErrorNotifier;
+import org.prebid.server.bidder.BidderHttpClients;
 import org.prebid.server.bidder.BidderRequestCompletionTrackerFactory;
 import org.prebid.server.bidder.HttpBidderRequestEnricher;
 import org.prebid.server.bidder.HttpBidderRequester;
+import org.prebid.server.bidder.ProfiledBidderHttpClients;
 import org.prebid.server.cache.CacheService;
 import org.prebid.server.cache.model.CacheTtl;
 import org.prebid.server.cookie.CookieDeprecationService;
@@ -103,6 +105,7 @@ import org.prebid.server.privacy.PrivacyExtractor;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
 import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.settings.model.BidValidationEnforcement;
+import org.prebid.server.spring.config.model.AdaptiveCircuitBreakerProperties;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
 import org.prebid.server.spring.config.model.HttpClientCircuitBreakerProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
@@ -114,6 +117,7 @@ import org.prebid.server.validation.ResponseBidValidator;
 import org.prebid.server.validation.VideoRequestValidator;
 import org.prebid.server.vast.VastModifier;
 import org.prebid.server.version.PrebidVersionProvider;
+import org.prebid.server.vertx.httpclient.AdaptiveCircuitBreakerSecuredHttpClient;
 import org.prebid.server.vertx.httpclient.BasicHttpClient;
 import org.prebid.server.vertx.httpclient.CircuitBreakerSecuredHttpClient;
 import org.prebid.server.vertx.httpclient.HttpClient;
@@ -139,6 +143,7 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -576,6 +581,10 @@ public class ServiceConfiguration {
     }
 
     private static BasicHttpClient createBasicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
+        return new BasicHttpClient(vertx, vertx.createHttpClient(createHttpClientOptions(httpClientProperties)));
+    }
+
+    private static HttpClientOptions createHttpClientOptions(HttpClientProperties httpClientProperties) {
         final HttpClientOptions options = new HttpClientOptions()
                 .setMaxPoolSize(httpClientProperties.getMaxPoolSize())
                 .setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
@@ -597,7 +606,72 @@ public class ServiceConfiguration {
                     .setKeyStoreOptions(jksOptions);
         }
 
-        return new BasicHttpClient(vertx, vertx.createHttpClient(options));
+        return options;
+    }
+
+    @Bean
+    @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
+    BidderHttpClients bidderHttpClients(
+            Vertx vertx,
+            HttpClient httpClient,
+            HttpClientProperties httpClientProperties,
+            BidderCatalog bidderCatalog,
+            Metrics metrics,
+            Clock clock,
+            @Autowired(required = false)
+            @Qualifier("httpClientCircuitBreakerProperties")
+            HttpClientCircuitBreakerProperties circuitBreakerProperties) {
+
+        final UnaryOperator<HttpClient> httpClientDecorator = circuitBreakerProperties != null
+                ? bidderHttpClientDecorator(vertx, metrics, clock, circuitBreakerProperties)
+                : UnaryOperator.identity();
+
+        // shared http client is secured with the regular circuit breaker, so with the adaptive one
+        // bidders without own http-client profile get a separate client
+        final HttpClient defaultBidderHttpClient = circuitBreakerProperties != null
+                && circuitBreakerProperties.getAdaptive() != null
+                ? httpClientDecorator.apply(createBasicHttpClient(vertx, httpClientProperties))
+                : httpClient;
+
+        return new ProfiledBidderHttpClients(
+                vertx,
+                defaultBidderHttpClient,
+                createHttpClientOptions(httpClientProperties),
+                bidderCatalog,
+                httpClientDecorator);
+    }
+
+    private static UnaryOperator<HttpClient> bidderHttpClientDecorator(
+            Vertx vertx,
+            Metrics metrics,
+            Clock clock,
+            HttpClientCircuitBreakerProperties circuitBreakerProperties) {
+
+        final AdaptiveCircuitBreakerProperties adaptiveProperties = circuitBreakerProperties.getAdaptive();
+        if (adaptiveProperties != null) {
+            return bidderHttpClient -> new AdaptiveCircuitBreakerSecuredHttpClient(
+                    bidderHttpClient,
+                    metrics,
+                    adaptiveProperties.getWindowMs(),
+                    adaptiveProperties.getMinimumCalls(),
+                    adaptiveProperties.getErrorRatePercent(),
+                    adaptiveProperties.getSlowCallDurationMs(),
+                    adaptiveProperties.getSlowCallRatePercent(),
+                    circuitBreakerProperties.getClosingIntervalMs(),
+                    adaptiveProperties.getRampUpIntervalMs(),
+                    circuitBreakerProperties.getIdleExpireHours(),
+                    clock);
+        }
+
+        return bidderHttpClient -> new CircuitBreakerSecuredHttpClient(
+                vertx,
+                bidderHttpClient,
+                metrics,
+                circuitBreakerProperties.getOpeningThreshold(),
+                circuitBreakerProperties.getOpeningIntervalMs(),
+                circuitBreakerProperties.getClosingIntervalMs(),
+                circuitBreakerProperties.getIdleExpireHours(),
+                clock);
     }
 
     @Bean
@@ -709,13 +783,13 @@ public class ServiceConfiguration {
 
     @Bean
     HttpBidderRequester httpBidderRequester(
-            HttpClient httpClient,
+            BidderHttpClients bidderHttpClients,
             @Autowired(required = false) BidderRequestCompletionTrackerFactory bidderRequestCompletionTrackerFactory,
             BidderErrorNotifier bidderErrorNotifier,
             HttpBidderRequestEnricher requestEnricher,
             JacksonMapper mapper) {
 
-        return new HttpBidderRequester(httpClient,
+        return new HttpBidderRequester(bidderHttpClients,
                 bidderRequestCompletionTrackerFactory,
                 bidderErrorNotifier,
                 requestEnricher,
@@ -989,8 +1063,14 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    BidderParamValidator bidderParamValidator(BidderCatalog bidderCatalog, JacksonMapper mapper) {
-        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", mapper);
+    BidderParamValidator bidderParamValidator(
+            BidderCatalog bidderCatalog,
+            JacksonMapper mapper,
+            @Value("${auction.validations.bidder-params-cache-max-bytes:10485760}") long bidderParamsCacheMaxBytes,
+            Metrics metrics) {
+
+        return BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", mapper, bidderParamsCacheMaxBytes, metrics);
     }
 
     @Bean
@@ -275,6 +275,8 @@ public class SettingsConfiguration {
                 @Qualifier("settingsCache") SettingsCache cache,
                 @Qualifier("ampSettingsCache") SettingsCache ampCache,
                 @Qualifier("videoSettingCache") SettingsCache videoCache,
+                Vertx vertx,
+                TimeoutFactory timeoutFactory,
                 Metrics metrics) {
 
             return new CachingApplicationSettings(
@@ -282,10 +284,14 @@ public class SettingsConfiguration {
                     cache,
                     ampCache,
                     videoCache,
+                    vertx,
+                    timeoutFactory,
                     metrics,
                     cacheProperties.getTtlSeconds(),
                     cacheProperties.getCacheSize(),
-                    cacheProperties.getJitterSeconds());
+                    cacheProperties.getJitterSeconds(),
+                    cacheProperties.getStaleWhileRevalidateSeconds(),
+                    cacheProperties.getStaleRefreshTimeoutMs());
         }
     }
 
@@ -310,7 +316,8 @@ public class SettingsConfiguration {
             return new SettingsCache(
                     cacheProperties.getTtlSeconds(),
                     cacheProperties.getCacheSize(),
-                    cacheProperties.getJitterSeconds());
+                    cacheProperties.getJitterSeconds(),
+                    true);
         }
 
         @Bean
@@ -348,5 +355,9 @@ public class SettingsConfiguration {
         private Integer cacheSize;
         @Min(0)
         private int jitterSeconds;
+        @Min(0)
+        private int staleWhileRevalidateSeconds;
+        @Min(1)
+        private long staleRefreshTimeoutMs = 1000L;
     }
 }
@@ -51,6 +51,8 @@ public class BidderConfigurationProperties {
 
     private Ortb ortb;
 
+    private BidderHttpClientProperties httpClient;
+
     private final Class<? extends BidderConfigurationProperties> selfClass;
 
     public BidderConfigurationProperties() {
@@ -0,0 +1,42 @@
+package org.prebid.server.spring.config.bidder.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+
+/**
+ * Bidder's own HTTP client profile. Values not specified here are taken from global http-client configuration.
+ */
+@Validated
+@Data
+@NoArgsConstructor
+public class BidderHttpClientProperties {
+
+    @Min(1)
+    Integer maxPoolSize;
+
+    @Min(1)
+    Integer minPoolSize;
+
+    Boolean adaptivePoolSize;
+
+    Integer idleTimeoutMs;
+
+    Boolean keepAlive;
+
+    Integer keepAliveTimeoutSec;
+
+    Boolean pipelining;
+
+    @Min(1)
+    Integer pipeliningLimit;
+
+    Boolean http2;
+
+    @Min(1)
+    Integer http2MaxPoolSize;
+
+    Integer http2MultiplexingLimit;
+}
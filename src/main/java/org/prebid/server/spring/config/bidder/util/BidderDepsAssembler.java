@@ -16,7 +16,9 @@ import org.prebid.server.bidder.BidderInfo;
 import org.prebid.server.bidder.BidderInstanceDeps;
 import org.prebid.server.bidder.DisabledBidder;
 import org.prebid.server.bidder.Usersyncer;
+import org.prebid.server.bidder.model.BidderHttpClientOptions;
 import org.prebid.server.spring.config.bidder.model.BidderConfigurationProperties;
+import org.prebid.server.spring.config.bidder.model.BidderHttpClientProperties;
 import org.prebid.server.spring.config.bidder.model.MediaType;
 import org.prebid.server.spring.config.bidder.model.MetaInfo;
 import org.prebid.server.spring.config.bidder.model.usersync.CookieFamilySource;
@@ -143,6 +145,27 @@ public class BidderDepsAssembler<CFG extends BidderConfigurationProperties> {
                 .bidderInfo(bidderInfo)
                 .usersyncer(usersyncer)
                 .bidder(bidder(configProperties))
+                .httpClientOptions(httpClientOptions(configProperties.getHttpClient()))
+                .build();
+    }
+
+    private static BidderHttpClientOptions httpClientOptions(BidderHttpClientProperties properties) {
+        if (properties == null) {
+            return null;
+        }
+
+        return BidderHttpClientOptions.builder()
+                .maxPoolSize(properties.getMaxPoolSize())
+                .minPoolSize(properties.getMinPoolSize())
+                .adaptivePoolSize(properties.getAdaptivePoolSize())
+                .idleTimeoutMs(properties.getIdleTimeoutMs())
+                .keepAlive(properties.getKeepAlive())
+                .keepAliveTimeoutSec(properties.getKeepAliveTimeoutSec())
+                .pipelining(properties.getPipelining())
+                .pipeliningLimit(properties.getPipeliningLimit())
+                .http2(properties.getHttp2())
+                .http2MaxPoolSize(properties.getHttp2MaxPoolSize())
+                .http2MultiplexingLimit(properties.getHttp2MultiplexingLimit())
                 .build();
     }
 
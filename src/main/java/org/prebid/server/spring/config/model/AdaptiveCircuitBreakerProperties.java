@@ -0,0 +1,41 @@
+package org.prebid.server.spring.config.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class AdaptiveCircuitBreakerProperties {
+
+    @NotNull
+    @Min(1)
+    private Long windowMs;
+
+    @NotNull
+    @Min(1)
+    private Integer minimumCalls;
+
+    @NotNull
+    @Min(1)
+    @Max(100)
+    private Integer errorRatePercent;
+
+    @NotNull
+    @Min(0)
+    private Long slowCallDurationMs;
+
+    @NotNull
+    @Min(1)
+    @Max(100)
+    private Integer slowCallRatePercent;
+
+    @NotNull
+    @Min(0)
+    private Long rampUpIntervalMs;
+}
@@ -5,6 +5,7 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
@@ -17,4 +18,7 @@ public class HttpClientCircuitBreakerProperties extends CircuitBreakerProperties
     @NotNull
     @Min(1)
     private Integer idleExpireHours;
+
+    @Valid
+    private AdaptiveCircuitBreakerProperties adaptive;
 }
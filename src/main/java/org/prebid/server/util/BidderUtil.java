@@ -48,6 +48,33 @@ public class BidderUtil {
                 .build();
     }
 
+    /**
+     * Creates request as {@link #defaultRequest(BidRequest, MultiMap, String, JacksonMapper)} does,
+     * but reuses JSON of site, app, device, user, regs and source already encoded for other bidders of the auction.
+     * <p>
+     * Bidder must not mutate these parts of the request.
+     */
+    public static HttpRequest<BidRequest> requestWithSharedParts(BidRequest bidRequest,
+                                                                 String endpointUrl,
+                                                                 JacksonMapper mapper) {
+
+        return requestWithSharedParts(bidRequest, HttpUtil.headers(), endpointUrl, mapper);
+    }
+
+    public static HttpRequest<BidRequest> requestWithSharedParts(BidRequest bidRequest,
+                                                                 MultiMap headers,
+                                                                 String endpointUrl,
+                                                                 JacksonMapper mapper) {
+        return HttpRequest.<BidRequest>builder()
+                .method(HttpMethod.POST)
+                .uri(endpointUrl)
+                .headers(headers)
+                .impIds(impIds(bidRequest))
+                .body(mapper.encodeToBytesWithSharedParts(bidRequest))
+                .payload(bidRequest)
+                .build();
+    }
+
     public static Set<String> impIds(BidRequest bidRequest) {
         return bidRequest.getImp().stream()
                 .map(Imp::getId)
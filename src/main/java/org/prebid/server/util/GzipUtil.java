@@ -0,0 +1,96 @@
+package org.prebid.server.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Gzip compression which reuses {@link Deflater} per thread and compresses into pooled buffers,
+ * so compressing payload doesn't allocate native compressor memory and intermediate arrays on every call.
+ */
+public final class GzipUtil {
+
+    private static final byte[] HEADER = {
+            (byte) 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private static final byte[] NO_DELIMITER = new byte[0];
+
+    private static final int MIN_WRITABLE_BYTES = 512;
+
+    private static final ThreadLocal<Deflater> DEFLATER =
+            ThreadLocal.withInitial(() -> new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+
+    private static final ThreadLocal<CRC32> CRC = ThreadLocal.withInitial(CRC32::new);
+
+    private GzipUtil() {
+    }
+
+    public static byte[] gzip(byte[] value) {
+        return gzip(Collections.singletonList(value), NO_DELIMITER);
+    }
+
+    /**
+     * Compresses given values separated by delimiter as a single payload, without joining them into one array.
+     */
+    public static byte[] gzip(List<byte[]> values, byte[] delimiter) {
+        final Deflater deflater = DEFLATER.get();
+        final CRC32 crc = CRC.get();
+        final ByteBuf buffer = PooledByteBufAllocator.DEFAULT.buffer(HEADER.length + estimateSize(values) / 2);
+
+        try {
+            buffer.writeBytes(HEADER);
+
+            int size = 0;
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    size += deflate(deflater, crc, delimiter, buffer);
+                }
+                size += deflate(deflater, crc, values.get(i), buffer);
+            }
+
+            deflater.finish();
+            while (!deflater.finished()) {
+                deflateTo(deflater, buffer);
+            }
+
+            buffer.writeIntLE((int) crc.getValue());
+            buffer.writeIntLE(size);
+
+            return ByteBufUtil.getBytes(buffer);
+        } finally {
+            deflater.reset();
+            crc.reset();
+            buffer.release();
+        }
+    }
+
+    private static int estimateSize(List<byte[]> values) {
+        int size = 0;
+        for (byte[] value : values) {
+            size += value.length;
+        }
+        return size;
+    }
+
+    private static int deflate(Deflater deflater, CRC32 crc, byte[] value, ByteBuf buffer) {
+        deflater.setInput(value);
+        while (!deflater.needsInput()) {
+            deflateTo(deflater, buffer);
+        }
+
+        crc.update(value);
+        return value.length;
+    }
+
+    private static void deflateTo(Deflater deflater, ByteBuf buffer) {
+        buffer.ensureWritable(MIN_WRITABLE_BYTES);
+        final int writerIndex = buffer.writerIndex();
+        final int written = deflater.deflate(buffer.nioBuffer(writerIndex, buffer.writableBytes()));
+        buffer.writerIndex(writerIndex + written);
+    }
+}
@@ -0,0 +1,52 @@
+package org.prebid.server.util.dsl.config.impl;
+
+import org.prebid.server.util.dsl.config.PrebidConfigSource;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable {@link PrebidConfigSource} with rules indexed in a hash set.
+ * <p>
+ * Intended to be built once per rules set and reused, so matching of generated rules is done by hash lookups
+ * without collecting configured rules for each match.
+ */
+public class IndexedSource implements PrebidConfigSource {
+
+    private final String wildcard;
+    private final String separator;
+    private final Set<String> rules;
+
+    private IndexedSource(String wildcard, String separator, Set<String> rules) {
+        this.wildcard = wildcard;
+        this.separator = separator;
+        this.rules = rules;
+    }
+
+    public static IndexedSource of(String wildcard, String separator, Iterable<String> rules) {
+        final Set<String> indexedRules = new HashSet<>();
+        rules.forEach(indexedRules::add);
+
+        return new IndexedSource(
+                Objects.requireNonNull(wildcard),
+                Objects.requireNonNull(separator),
+                Collections.unmodifiableSet(indexedRules));
+    }
+
+    @Override
+    public String wildcard() {
+        return wildcard;
+    }
+
+    @Override
+    public String separator() {
+        return separator;
+    }
+
+    @Override
+    public Set<String> rules() {
+        return rules;
+    }
+}
@@ -1,6 +1,8 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaException;
 import com.networknt.schema.JsonSchemaFactory;
@@ -12,9 +14,11 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.json.EncodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.ResourceUtil;
 
 import java.io.IOException;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -24,28 +28,96 @@ import java.util.stream.Collectors;
 /**
  * This Component aimed to validate <i>bidrequest.imp[i].ext.{bidder}</i> portion of bidRequest. It relies on
  * JSON schemas that need to be located as resources on classpath.
+ * <p>
+ * Validation results are cached by bidder schema and params, since the same params (mostly from stored imps)
+ * are validated again and again. Cache is bound to the loaded schemas, so it never outlives them.
+ * Cache is bounded by the estimated size of cached params, params larger than 1 KB are validated without caching.
  */
 public class BidderParamValidator {
 
     private static final JsonSchemaFactory SCHEMA_FACTORY = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V4);
     private static final String JSON_FILE_EXT = ".json";
     private static final String FILE_SEP = "/";
+    private static final int MAX_CACHEABLE_PARAMS_SIZE = 1024;
 
     private final Map<String, JsonSchema> bidderSchemas;
     private final String schemas;
+    private final Cache<ValidationKey, Set<String>> validationCache;
+    private final Metrics metrics;
+
+    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas,
+                                 String schemas,
+                                 long validationCacheMaxBytes,
+                                 Metrics metrics) {
 
-    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas, String schemas) {
         this.bidderSchemas = bidderSchemas;
         this.schemas = schemas;
+        this.validationCache = validationCacheMaxBytes > 0
+                ? Caffeine.newBuilder()
+                .maximumWeight(validationCacheMaxBytes)
+                .<ValidationKey, Set<String>>weigher((key, messages) -> key.size())
+                .build()
+                : null;
+        this.metrics = metrics;
     }
 
     /**
      * Validates the {@link JsonNode} input parameter against bidder's JSON-schema
      */
     public Set<String> validate(String bidder, JsonNode jsonNode) {
-        return bidderSchemas.get(bidder).validate(jsonNode).stream()
+        final JsonSchema schema = bidderSchemas.get(bidder);
+        if (validationCache == null) {
+            return validate(schema, jsonNode);
+        }
+
+        final int size = estimateSize(jsonNode, MAX_CACHEABLE_PARAMS_SIZE);
+        if (size > MAX_CACHEABLE_PARAMS_SIZE) {
+            metrics.updateBidderParamsValidationCacheMetric(false);
+            return validate(schema, jsonNode);
+        }
+
+        final Set<String> cachedMessages = validationCache.getIfPresent(new ValidationKey(schema, jsonNode, size));
+        if (cachedMessages != null) {
+            metrics.updateBidderParamsValidationCacheMetric(true);
+            return cachedMessages;
+        }
+
+        metrics.updateBidderParamsValidationCacheMetric(false);
+
+        final Set<String> messages = validate(schema, jsonNode);
+        // params can be changed after validation, so a copy is cached
+        validationCache.put(new ValidationKey(schema, jsonNode.deepCopy(), size), messages);
+
+        return messages;
+    }
+
+    private static Set<String> validate(JsonSchema schema, JsonNode jsonNode) {
+        return schema.validate(jsonNode).stream()
                 .map(ValidationMessage::getMessage)
-                .collect(Collectors.toSet());
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Estimates size of the given node as length of its JSON. Stops as soon as the estimation exceeds the limit.
+     */
+    private static int estimateSize(JsonNode node, int limit) {
+        if (node.isObject()) {
+            int size = 2;
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext() && size <= limit) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                size += field.getKey().length() + 4 + estimateSize(field.getValue(), limit - size);
+            }
+            return size;
+        }
+        if (node.isArray()) {
+            int size = 2;
+            for (int i = 0; i < node.size() && size <= limit; i++) {
+                size += 1 + estimateSize(node.get(i), limit - size);
+            }
+            return size;
+        }
+        return node.isTextual() ? node.textValue().length() + 2 : node.asText().length();
     }
 
     /**
@@ -76,21 +148,31 @@ public class BidderParamValidator {
      * exist as CLASSPATH resources, otherwise {@link IllegalArgumentException} will be thrown. This method consumes
      * schema directory parameter that defines the root directory for files containing schemas. By convention the name
      * of each schema file same as corresponding bidder name.
+     * <p>
+     * Validation results are cached for params of up to validationCacheMaxBytes total estimated size (in bytes of
+     * params JSON), zero disables caching.
      */
     public static BidderParamValidator create(BidderCatalog bidderCatalog,
                                               String schemaDirectory,
-                                              JacksonMapper mapper) {
+                                              JacksonMapper mapper,
+                                              long validationCacheMaxBytes,
+                                              Metrics metrics) {
 
         Objects.requireNonNull(bidderCatalog);
         Objects.requireNonNull(schemaDirectory);
         Objects.requireNonNull(mapper);
+        Objects.requireNonNull(metrics);
 
         final Map<String, JsonNode> bidderRawSchemas = new LinkedHashMap<>();
 
         bidderCatalog.names().forEach(bidder -> bidderRawSchemas.put(
                 bidder, createSchemaNode(schemaDirectory, maybeResolveAlias(bidderCatalog, bidder), mapper)));
 
-        return new BidderParamValidator(toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper));
+        return new BidderParamValidator(
+                toBidderSchemas(bidderRawSchemas),
+                toSchemas(bidderRawSchemas, mapper),
+                validationCacheMaxBytes,
+                metrics);
     }
 
     private static Map<String, JsonSchema> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
@@ -152,4 +234,20 @@ public class BidderParamValidator {
         }
         return result;
     }
+
+    /**
+     * Schema is compared by identity, params - by their content.
+     */
+    private record ValidationKey(JsonSchema schema, JsonNode params, int size) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ValidationKey other && schema == other.schema && params.equals(other.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(schema) + params.hashCode();
+        }
+    }
 }
@@ -10,6 +10,7 @@ import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.BidderAliases;
+import org.prebid.server.auction.ImpIndex;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.log.ConditionalLogger;
@@ -79,7 +80,7 @@ public class ResponseBidValidator {
             validateTypeSpecific(bidderBid, bidder);
             validateCurrency(bidderBid.getBidCurrency());
 
-            final Imp correspondingImp = findCorrespondingImp(bid, bidRequest);
+            final Imp correspondingImp = findCorrespondingImp(bid, auctionContext.getImpIndex());
             if (bidderBid.getType() == BidType.banner) {
                 warnings.addAll(validateBannerFields(bid, bidder, bidRequest, account, correspondingImp, aliases));
             }
@@ -130,12 +131,13 @@ public class ResponseBidValidator {
         }
     }
 
-    private Imp findCorrespondingImp(Bid bid, BidRequest bidRequest) throws ValidationException {
-        return bidRequest.getImp().stream()
-                .filter(imp -> Objects.equals(imp.getId(), bid.getImpid()))
-                .findFirst()
-                .orElseThrow(() -> exceptionAndLogOnePercent(
-                        "Bid \"%s\" has no corresponding imp in request".formatted(bid.getId())));
+    private Imp findCorrespondingImp(Bid bid, ImpIndex impIndex) throws ValidationException {
+        final Imp imp = impIndex.find(bid.getImpid());
+        if (imp == null) {
+            throw exceptionAndLogOnePercent("Bid \"%s\" has no corresponding imp in request".formatted(bid.getId()));
+        }
+
+        return imp;
     }
 
     private ValidationException exceptionAndLogOnePercent(String message) {
@@ -0,0 +1,262 @@
+package org.prebid.server.vertx;
+
+import io.vertx.circuitbreaker.OpenCircuitException;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+
+import java.time.Clock;
+import java.util.Objects;
+
+/**
+ * Circuit breaker which tracks outcomes of calls in a sliding time window and opens the circuit when
+ * either error rate or slow calls rate reaches its threshold.
+ * <p>
+ * After the closing interval, i.e. time spent in open state, the circuit is not closed at once: the share of
+ * permitted calls grows linearly during the ramp up interval, and the circuit is opened again if calls made
+ * in recovery reach the thresholds.
+ */
+public class AdaptiveCircuitBreaker {
+
+    private static final int WINDOW_BUCKETS = 10;
+    // share of calls permitted right after the closing interval is over
+    private static final double MIN_PERMITTED_SHARE = 0.1;
+
+    private final long closingIntervalMs;
+    private final long rampUpIntervalMs;
+    private final int minimumCalls;
+    private final int errorRatePercent;
+    private final long slowCallDurationMs;
+    private final int slowCallRatePercent;
+    private final Clock clock;
+
+    private final long bucketMs;
+    private final Bucket[] buckets;
+
+    private State state;
+    private long stateChangedAt;
+    private double permitCredit;
+
+    private Handler<Void> openHandler;
+    private Handler<Void> halfOpenHandler;
+    private Handler<Void> closeHandler;
+
+    public AdaptiveCircuitBreaker(long windowMs,
+                                  int minimumCalls,
+                                  int errorRatePercent,
+                                  long slowCallDurationMs,
+                                  int slowCallRatePercent,
+                                  long closingIntervalMs,
+                                  long rampUpIntervalMs,
+                                  Clock clock) {
+
+        this.minimumCalls = minimumCalls;
+        this.errorRatePercent = errorRatePercent;
+        this.slowCallDurationMs = slowCallDurationMs;
+        this.slowCallRatePercent = slowCallRatePercent;
+        this.closingIntervalMs = closingIntervalMs;
+        this.rampUpIntervalMs = rampUpIntervalMs;
+        this.clock = Objects.requireNonNull(clock);
+
+        bucketMs = Math.max(windowMs / WINDOW_BUCKETS, 1L);
+        buckets = new Bucket[WINDOW_BUCKETS];
+        for (int i = 0; i < WINDOW_BUCKETS; i++) {
+            buckets[i] = new Bucket();
+        }
+
+        state = State.CLOSED;
+    }
+
+    /**
+     * Executes the given operation with the circuit breaker control.
+     * <p>
+     * Fails with {@link OpenCircuitException} without running the operation if the call is not permitted.
+     */
+    public <T> Future<T> execute(Handler<Promise<T>> command) {
+        if (!tryPermit()) {
+            return Future.failedFuture(OpenCircuitException.INSTANCE);
+        }
+
+        final long startTime = clock.millis();
+        final Promise<T> promise = Promise.promise();
+        try {
+            command.handle(promise);
+        } catch (Exception e) {
+            promise.tryFail(e);
+        }
+
+        return promise.future()
+                .andThen(result -> onResult(result.succeeded(), clock.millis() - startTime));
+    }
+
+    private synchronized boolean tryPermit() {
+        final long currentTime = clock.millis();
+        if (state == State.OPEN) {
+            if (currentTime - stateChangedAt < closingIntervalMs) {
+                return false;
+            }
+
+            // ramp up starts when the closing interval is over, regardless of traffic
+            changeState(State.HALF_OPEN, stateChangedAt + closingIntervalMs);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (currentTime - stateChangedAt >= rampUpIntervalMs) {
+                changeState(State.CLOSED, currentTime);
+                return true;
+            }
+
+            permitCredit += permittedShare(currentTime);
+            if (permitCredit < 1) {
+                return false;
+            }
+            permitCredit -= 1;
+        }
+
+        return true;
+    }
+
+    private synchronized void onResult(boolean succeeded, long durationMs) {
+        if (state == State.OPEN) {
+            // call was started before the circuit has been opened
+            return;
+        }
+
+        final long currentTime = clock.millis();
+        final boolean slow = slowCallDurationMs > 0 && durationMs >= slowCallDurationMs;
+        bucketFor(currentTime).record(!succeeded, slow);
+
+        if (isThresholdReached(currentTime)) {
+            changeState(State.OPEN, currentTime);
+        }
+    }
+
+    private Bucket bucketFor(long currentTime) {
+        final long epoch = currentTime / bucketMs;
+        final Bucket bucket = buckets[(int) (epoch % WINDOW_BUCKETS)];
+        if (bucket.epoch != epoch) {
+            bucket.reset(epoch);
+        }
+
+        return bucket;
+    }
+
+    private boolean isThresholdReached(long currentTime) {
+        final long oldestEpoch = currentTime / bucketMs - WINDOW_BUCKETS + 1;
+
+        long calls = 0;
+        long failures = 0;
+        long slowCalls = 0;
+        for (Bucket bucket : buckets) {
+            if (bucket.epoch >= oldestEpoch) {
+                calls += bucket.calls;
+                failures += bucket.failures;
+                slowCalls += bucket.slowCalls;
+            }
+        }
+
+        return calls >= minimumCalls
+                && (failures * 100 >= calls * errorRatePercent || slowCalls * 100 >= calls * slowCallRatePercent);
+    }
+
+    private double permittedShare(long currentTime) {
+        final double rampUpShare = (double) (currentTime - stateChangedAt) / rampUpIntervalMs;
+        return Math.max(rampUpShare, MIN_PERMITTED_SHARE);
+    }
+
+    private void changeState(State newState, long currentTime) {
+        state = newState;
+        stateChangedAt = currentTime;
+        permitCredit = 0;
+
+        // calls made in recovery decide whether the circuit should be opened again
+        if (newState != State.CLOSED) {
+            for (Bucket bucket : buckets) {
+                bucket.reset(Long.MIN_VALUE);
+            }
+        }
+
+        final Handler<Void> handler = switch (newState) {
+            case OPEN -> openHandler;
+            case HALF_OPEN -> halfOpenHandler;
+            case CLOSED -> closeHandler;
+        };
+        if (handler != null) {
+            handler.handle(null);
+        }
+    }
+
+    /**
+     * Sets a {@link Handler} invoked when the circuit breaker state switches to open.
+     */
+    public AdaptiveCircuitBreaker openHandler(Handler<Void> handler) {
+        openHandler = handler;
+        return this;
+    }
+
+    /**
+     * Sets a {@link Handler} invoked when the circuit breaker state switches to half-open, i.e. recovery starts.
+     */
+    public AdaptiveCircuitBreaker halfOpenHandler(Handler<Void> handler) {
+        halfOpenHandler = handler;
+        return this;
+    }
+
+    /**
+     * Sets a {@link Handler} invoked when the circuit breaker state switches to close.
+     */
+    public AdaptiveCircuitBreaker closeHandler(Handler<Void> handler) {
+        closeHandler = handler;
+        return this;
+    }
+
+    public synchronized boolean isOpen() {
+        return state != State.CLOSED;
+    }
+
+    /**
+     * Returns percent of calls currently permitted by the circuit breaker.
+     */
+    public synchronized long permittedPercent() {
+        final long currentTime = clock.millis();
+        return switch (state) {
+            case CLOSED -> 100;
+            case OPEN -> 0;
+            case HALF_OPEN -> currentTime - stateChangedAt >= rampUpIntervalMs
+                    ? 100
+                    : Math.round(permittedShare(currentTime) * 100);
+        };
+    }
+
+    private enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static class Bucket {
+
+        long epoch = Long.MIN_VALUE;
+
+        long calls;
+
+        long failures;
+
+        long slowCalls;
+
+        void record(boolean failed, boolean slow) {
+            calls++;
+            if (failed) {
+                failures++;
+            }
+            if (slow) {
+                slowCalls++;
+            }
+        }
+
+        void reset(long epoch) {
+            this.epoch = epoch;
+            calls = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package org.prebid.server.vertx.httpclient;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
+import org.prebid.server.log.ConditionalLogger;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.AdaptiveCircuitBreaker;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Wrapper over {@link HttpClient} with {@link AdaptiveCircuitBreaker} per host, which opens the circuit
+ * on high error rate or slow responses rate and lets traffic back gradually.
+ */
+public class AdaptiveCircuitBreakerSecuredHttpClient implements HttpClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveCircuitBreakerSecuredHttpClient.class);
+    private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
+    private static final int LOG_PERIOD_SECONDS = 5;
+
+    private final Function<String, AdaptiveCircuitBreaker> circuitBreakerCreator;
+    private final Map<String, AdaptiveCircuitBreaker> circuitBreakerByName;
+
+    private final HttpClient httpClient;
+
+    public AdaptiveCircuitBreakerSecuredHttpClient(HttpClient httpClient,
+                                                   Metrics metrics,
+                                                   long windowMs,
+                                                   int minimumCalls,
+                                                   int errorRatePercent,
+                                                   long slowCallDurationMs,
+                                                   int slowCallRatePercent,
+                                                   long closingIntervalMs,
+                                                   long rampUpIntervalMs,
+                                                   int idleExpireHours,
+                                                   Clock clock) {
+
+        this.httpClient = Objects.requireNonNull(httpClient);
+        Objects.requireNonNull(metrics);
+        Objects.requireNonNull(clock);
+
+        circuitBreakerCreator = name -> createCircuitBreaker(
+                name,
+                new AdaptiveCircuitBreaker(
+                        windowMs,
+                        minimumCalls,
+                        errorRatePercent,
+                        slowCallDurationMs,
+                        slowCallRatePercent,
+                        closingIntervalMs,
+                        rampUpIntervalMs,
+                        clock),
+                metrics);
+
+        circuitBreakerByName = Caffeine.newBuilder()
+                .expireAfterAccess(idleExpireHours, TimeUnit.HOURS)
+                .<String, AdaptiveCircuitBreaker>removalListener((name, cb, cause) ->
+                        removeCircuitBreakerGauges(name, metrics))
+                .build()
+                .asMap();
+
+        metrics.createHttpClientCircuitBreakerNumberGauge(circuitBreakerByName::size);
+
+        logger.info("Initialized HTTP client with Adaptive Circuit Breaker");
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              String url,
+                                              MultiMap headers,
+                                              String body,
+                                              long timeoutMs,
+                                              long maxResponseSize) {
+
+        return circuitBreakerFor(url).execute(promise ->
+                httpClient.request(method, url, headers, body, timeoutMs, maxResponseSize)
+                        .onComplete(promise));
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              String url,
+                                              MultiMap headers,
+                                              byte[] body,
+                                              long timeoutMs,
+                                              long maxResponseSize) {
+
+        return circuitBreakerFor(url).execute(promise ->
+                httpClient.request(method, url, headers, body, timeoutMs, maxResponseSize)
+                        .onComplete(promise));
+    }
+
+    private AdaptiveCircuitBreaker circuitBreakerFor(String url) {
+        return circuitBreakerByName.computeIfAbsent(CircuitBreakerSecuredHttpClient.nameFrom(url),
+                circuitBreakerCreator);
+    }
+
+    private AdaptiveCircuitBreaker createCircuitBreaker(String name,
+                                                        AdaptiveCircuitBreaker circuitBreaker,
+                                                        Metrics metrics) {
+
+        circuitBreaker
+                .openHandler(ignored -> circuitOpened(name))
+                .halfOpenHandler(ignored -> circuitHalfOpened(name))
+                .closeHandler(ignored -> circuitClosed(name));
+
+        final String id = CircuitBreakerSecuredHttpClient.idFrom(name);
+        metrics.createHttpClientCircuitBreakerGauge(id, circuitBreaker::isOpen);
+        metrics.createHttpClientCircuitBreakerPermittedGauge(id, circuitBreaker::permittedPercent);
+
+        return circuitBreaker;
+    }
+
+    private static void removeCircuitBreakerGauges(String name, Metrics metrics) {
+        final String id = CircuitBreakerSecuredHttpClient.idFrom(name);
+        metrics.removeHttpClientCircuitBreakerGauge(id);
+        metrics.removeHttpClientCircuitBreakerPermittedGauge(id);
+    }
+
+    private static void circuitOpened(String name) {
+        conditionalLogger.warn(
+                "Http client requests to %s are failing or slow, circuit opened.".formatted(name),
+                LOG_PERIOD_SECONDS,
+                TimeUnit.SECONDS);
+    }
+
+    private static void circuitHalfOpened(String name) {
+        logger.warn("Http client requests to {} will be gradually resumed, circuit half-opened.", name);
+    }
+
+    private static void circuitClosed(String name) {
+        logger.warn("Http client requests to {} are fully resumed, circuit closed.", name);
+    }
+}
@@ -0,0 +1,220 @@
+package org.prebid.server.vertx.httpclient;
+
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * {@link HttpClient} which adjusts connection pool size to observed load.
+ * <p>
+ * Pool size is re-evaluated periodically from peak number of concurrent requests and average concurrency derived
+ * from requests latency (Little's law), and kept within configured bounds. Underlying client is created once with
+ * max pool size as a fixed upper bound, so warm connections are never thrown away, and current pool size is applied
+ * as a limit of requests in flight: requests over the limit wait for a free connection, like in the pool itself.
+ * Since Vert.x opens connections on demand and closes idle ones, number of open connections follows the limit.
+ */
+public class AdaptivePoolHttpClient implements HttpClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptivePoolHttpClient.class);
+
+    static final long EVALUATION_PERIOD_MS = 10_000L;
+    private static final double HEADROOM = 1.25;
+    private static final double RESIZE_THRESHOLD = 0.25;
+
+    private final String name;
+    private final Vertx vertx;
+    private final io.vertx.core.http.HttpClient vertxHttpClient;
+    private final HttpClient httpClient;
+    private final int minPoolSize;
+    private final int maxPoolSize;
+
+    private final AtomicInteger inFlightRequests;
+    private final AtomicInteger pendingRequests;
+    private final AtomicInteger peakPendingRequests;
+    private final LongAdder requestsLatencyNanos;
+    private final Queue<WaitingRequest> waitingRequests;
+    private final long evaluationTimerId;
+
+    private volatile int poolSize;
+
+    public AdaptivePoolHttpClient(String name,
+                                  Vertx vertx,
+                                  io.vertx.core.http.HttpClient vertxHttpClient,
+                                  int minPoolSize,
+                                  int maxPoolSize) {
+
+        if (minPoolSize > maxPoolSize) {
+            throw new IllegalArgumentException(
+                    "Min pool size %d is greater than max pool size %d".formatted(minPoolSize, maxPoolSize));
+        }
+
+        this.name = Objects.requireNonNull(name);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.vertxHttpClient = Objects.requireNonNull(vertxHttpClient);
+        this.minPoolSize = minPoolSize;
+        this.maxPoolSize = maxPoolSize;
+
+        httpClient = new BasicHttpClient(vertx, vertxHttpClient);
+        inFlightRequests = new AtomicInteger();
+        pendingRequests = new AtomicInteger();
+        peakPendingRequests = new AtomicInteger();
+        requestsLatencyNanos = new LongAdder();
+        waitingRequests = new ConcurrentLinkedQueue<>();
+
+        poolSize = maxPoolSize;
+        evaluationTimerId = vertx.setPeriodic(EVALUATION_PERIOD_MS, ignored -> resizeIfNeeded());
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
+                                              String body, long timeoutMs, long maxResponseSize) {
+
+        return track(timeoutMs, remainingTimeoutMs ->
+                httpClient.request(method, url, headers, body, remainingTimeoutMs, maxResponseSize));
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
+                                              byte[] body, long timeoutMs, long maxResponseSize) {
+
+        return track(timeoutMs, remainingTimeoutMs ->
+                httpClient.request(method, url, headers, body, remainingTimeoutMs, maxResponseSize));
+    }
+
+    /**
+     * Stops pool size evaluation and closes underlying client.
+     */
+    public Future<Void> close() {
+        vertx.cancelTimer(evaluationTimerId);
+        return vertxHttpClient.close();
+    }
+
+    int poolSize() {
+        return poolSize;
+    }
+
+    private Future<HttpClientResponse> track(long timeoutMs,
+                                             LongFunction<Future<HttpClientResponse>> requestSender) {
+
+        peakPendingRequests.accumulateAndGet(pendingRequests.incrementAndGet(), Math::max);
+        final long startTime = System.nanoTime();
+
+        return execute(timeoutMs, requestSender).onComplete(ignored -> {
+            pendingRequests.decrementAndGet();
+            requestsLatencyNanos.add(System.nanoTime() - startTime);
+        });
+    }
+
+    private Future<HttpClientResponse> execute(long timeoutMs,
+                                               LongFunction<Future<HttpClientResponse>> requestSender) {
+
+        if (waitingRequests.isEmpty() && tryAcquire()) {
+            return send(timeoutMs, requestSender);
+        }
+
+        final Promise<HttpClientResponse> promise = Promise.promise();
+        final long timerId = vertx.setTimer(timeoutMs,
+                ignored -> promise.tryFail(new TimeoutException("Timeout has been exceeded")));
+        waitingRequests.add(new WaitingRequest(
+                requestSender, System.currentTimeMillis() + timeoutMs, timerId, promise));
+
+        // connection could be released before request was queued
+        sendWaitingRequests();
+
+        return promise.future();
+    }
+
+    private Future<HttpClientResponse> send(long timeoutMs,
+                                            LongFunction<Future<HttpClientResponse>> requestSender) {
+
+        Future<HttpClientResponse> result;
+        try {
+            result = requestSender.apply(timeoutMs);
+        } catch (Exception e) {
+            result = Future.failedFuture(e);
+        }
+
+        return result.onComplete(ignored -> {
+            inFlightRequests.decrementAndGet();
+            sendWaitingRequests();
+        });
+    }
+
+    private void sendWaitingRequests() {
+        while (!waitingRequests.isEmpty() && tryAcquire()) {
+            final WaitingRequest waitingRequest = waitingRequests.poll();
+            if (waitingRequest == null) {
+                inFlightRequests.decrementAndGet();
+                return;
+            }
+
+            vertx.cancelTimer(waitingRequest.timerId());
+            final Promise<HttpClientResponse> promise = waitingRequest.promise();
+            final long remainingTimeoutMs = waitingRequest.deadline() - System.currentTimeMillis();
+            if (promise.future().isComplete() || remainingTimeoutMs <= 0) {
+                inFlightRequests.decrementAndGet();
+                promise.tryFail(new TimeoutException("Timeout has been exceeded"));
+                continue;
+            }
+
+            send(remainingTimeoutMs, waitingRequest.requestSender()).onComplete(result -> {
+                if (result.succeeded()) {
+                    promise.tryComplete(result.result());
+                } else {
+                    promise.tryFail(result.cause());
+                }
+            });
+        }
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            final int current = inFlightRequests.get();
+            if (current >= poolSize) {
+                return false;
+            }
+            if (inFlightRequests.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void resizeIfNeeded() {
+        final int peakConcurrency = peakPendingRequests.getAndSet(pendingRequests.get());
+        // total time spent by requests during period divided by the period gives average number of requests in flight
+        final double averageConcurrency = (double) requestsLatencyNanos.sumThenReset()
+                / TimeUnit.MILLISECONDS.toNanos(EVALUATION_PERIOD_MS);
+
+        final int requiredPoolSize = (int) Math.ceil(Math.max(peakConcurrency, averageConcurrency * HEADROOM));
+        final int targetPoolSize = Math.min(Math.max(requiredPoolSize, minPoolSize), maxPoolSize);
+
+        final int currentPoolSize = poolSize;
+        if (targetPoolSize != currentPoolSize
+                && Math.abs(targetPoolSize - currentPoolSize) >= Math.max(1, currentPoolSize * RESIZE_THRESHOLD)) {
+
+            logger.info("Resizing {} HTTP client pool from {} to {}", name, currentPoolSize, targetPoolSize);
+            poolSize = targetPoolSize;
+            sendWaitingRequests();
+        }
+    }
+
+    private record WaitingRequest(LongFunction<Future<HttpClientResponse>> requestSender,
+                                  long deadline,
+                                  long timerId,
+                                  Promise<HttpClientResponse> promise) {
+    }
+}
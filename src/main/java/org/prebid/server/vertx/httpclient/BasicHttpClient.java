@@ -14,7 +14,6 @@ import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
 
@@ -103,10 +102,7 @@ public class BasicHttpClient implements HttpClient {
         }
 
         return response.body()
-                .map(body -> HttpClientResponse.of(
-                        response.statusCode(),
-                        response.headers(),
-                        body.toString(StandardCharsets.UTF_8)));
+                .map(body -> HttpClientResponse.fromBuffer(response.statusCode(), response.headers(), body));
 
     }
 }
@@ -134,12 +134,12 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
         logger.warn("Http client request to {} becomes succeeded, circuit closed.", name);
     }
 
-    private static String nameFrom(String urlAsString) {
+    static String nameFrom(String urlAsString) {
         final URL url = parseUrl(urlAsString);
         return url.getProtocol() + "://" + url.getHost() + (url.getPort() != -1 ? ":" + url.getPort() : "");
     }
 
-    private static String idFrom(String urlAsString) {
+    static String idFrom(String urlAsString) {
         return urlAsString
                 .replaceAll("[^\\w]+", "_");
     }
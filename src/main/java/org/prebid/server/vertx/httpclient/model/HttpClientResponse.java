@@ -1,15 +1,24 @@
 package org.prebid.server.vertx.httpclient.model;
 
 import io.vertx.core.MultiMap;
-import lombok.AllArgsConstructor;
+import io.vertx.core.buffer.Buffer;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
+import lombok.experimental.NonFinal;
+
+import java.nio.charset.StandardCharsets;
 
 /**
  * Holds Http client response data.
  * <p>
  * Should be created in "bodyHandler(...) after response has been read."
+ * <p>
+ * Body is kept as received {@link Buffer}, so consumers able to parse bytes directly
+ * (see {@link #getBodyBuffer()}) avoid transcoding it to {@link String}.
  */
-@AllArgsConstructor(staticName = "of")
 @Value
 public class HttpClientResponse {
 
@@ -17,5 +26,36 @@ public class HttpClientResponse {
 
     MultiMap headers;
 
+    Buffer bodyBuffer;
+
+    @NonFinal
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     String body;
+
+    private HttpClientResponse(int statusCode, MultiMap headers, Buffer bodyBuffer) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.bodyBuffer = bodyBuffer;
+    }
+
+    public static HttpClientResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpClientResponse(statusCode, headers, body != null ? Buffer.buffer(body) : null);
+    }
+
+    public static HttpClientResponse fromBuffer(int statusCode, MultiMap headers, Buffer body) {
+        return new HttpClientResponse(statusCode, headers, body);
+    }
+
+    /**
+     * Returns body decoded as UTF-8 {@link String}. Body is decoded on the first call and reused afterwards.
+     */
+    public String getBody() {
+        // racy single-check is safe here: String is immutable and decoding gives the same result in any thread
+        if (body == null && bodyBuffer != null) {
+            body = bodyBuffer.toString(StandardCharsets.UTF_8);
+        }
+        return body;
+    }
 }
@@ -1,5 +1,6 @@
 package org.prebid.server.activity.infrastructure.creator;
 
+import com.iab.gpp.encoder.GppModel;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -27,6 +28,7 @@ import org.prebid.server.settings.model.activity.privacy.AccountUSNatModuleConfi
 import org.prebid.server.settings.model.activity.rule.AccountActivityConditionsRuleConfig;
 
 import java.util.Map;
+import java.util.Set;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -36,6 +38,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 public class ActivityInfrastructureCreatorTest {
@@ -186,4 +189,51 @@ public class ActivityInfrastructureCreatorTest {
         assertThat(controllers.get(Activity.TRANSMIT_UFPD).isAllowed(null)).isEqualTo(false);
         assertThat(controllers.get(Activity.TRANSMIT_EIDS).isAllowed(null)).isEqualTo(false);
     }
+
+    @Test
+    public void parseShouldReuseCompiledRulesForEqualAccountPrivacyConfig() {
+        // given
+        creator = new ActivityInfrastructureCreator(activityRuleFactory, null, metrics, jacksonMapper, 60, 10);
+
+        final GppContext gppContext = GppContextCreator.from(null, null).build().getGppContext();
+        given(activityRuleFactory.from(any(), any())).willReturn(TestRule.disallowIfMatches(payload -> true));
+
+        // when
+        final Map<Activity, ActivityController> controllers = creator.parse(
+                givenAccountWithRule(AccountUSNatModuleConfig.of(null, null)), gppContext, debug);
+        final Map<Activity, ActivityController> otherControllers = creator.parse(
+                givenAccountWithRule(AccountUSNatModuleConfig.of(null, null)), gppContext, debug);
+
+        // then
+        verify(activityRuleFactory).from(any(), any());
+        assertThat(controllers.get(Activity.SYNC_USER).isAllowed(null)).isEqualTo(false);
+        assertThat(otherControllers.get(Activity.SYNC_USER).isAllowed(null)).isEqualTo(false);
+    }
+
+    @Test
+    public void parseShouldNotReuseCompiledPrivacyModulesBoundToGppString() {
+        // given
+        creator = new ActivityInfrastructureCreator(activityRuleFactory, null, metrics, jacksonMapper, 60, 10);
+
+        final Account account = givenAccountWithRule(AccountUSNatModuleConfig.of(null, null));
+        final GppContext gppContext = new GppContext(GppContext.Scope.of(new GppModel(), Set.of(7)), null);
+        given(activityRuleFactory.from(any(), any())).willReturn(TestRule.disallowIfMatches(payload -> true));
+
+        // when
+        creator.parse(account, gppContext, debug);
+        creator.parse(account, gppContext, debug);
+
+        // then
+        verify(activityRuleFactory, times(2)).from(any(), any());
+    }
+
+    private static Account givenAccountWithRule(AccountUSNatModuleConfig moduleConfig) {
+        return Account.builder()
+                .privacy(AccountPrivacyConfig.builder()
+                        .activities(Map.of(Activity.SYNC_USER, AccountActivityConfiguration.of(
+                                null, singletonList(AccountActivityConditionsRuleConfig.of(null, null)))))
+                        .modules(singletonList(moduleConfig))
+                        .build())
+                .build();
+    }
 }
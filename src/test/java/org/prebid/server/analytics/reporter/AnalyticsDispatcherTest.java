@@ -0,0 +1,186 @@
+package org.prebid.server.analytics.reporter;
+
+import io.vertx.core.Future;
+import io.vertx.core.WorkerExecutor;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.analytics.reporter.batch.OverflowPolicy;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class AnalyticsDispatcherTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private WorkerExecutor workerExecutor;
+
+    @Mock
+    private Metrics metrics;
+
+    @Mock
+    private Clock clock;
+
+    private List<Callable<?>> scheduledDrains;
+
+    private List<String> events;
+
+    @Before
+    public void setUp() {
+        scheduledDrains = new ArrayList<>();
+        events = new ArrayList<>();
+
+        given(workerExecutor.executeBlocking(any(Callable.class), anyBoolean())).willAnswer(invocation -> {
+            scheduledDrains.add(invocation.getArgument(0));
+            return Future.succeededFuture();
+        });
+        given(clock.millis()).willReturn(1000L);
+    }
+
+    @Test
+    public void dispatchShouldRunTasksOnWorkerExecutor() throws Exception {
+        // given
+        final AnalyticsDispatcher target = givenDispatcher(10, OverflowPolicy.dropNewest, 1.0);
+
+        // when
+        dispatch(target, "event1");
+        dispatch(target, "event2");
+
+        given(clock.millis()).willReturn(1030L);
+        runScheduledDrains();
+
+        // then
+        assertThat(events).containsExactly("event1", "event2");
+        verify(metrics).createAnalyticsQueueSizeGauge(eq("reporter"), any());
+        verify(metrics, times(2)).updateAnalyticsQueueTime("reporter", 30L);
+    }
+
+    @Test
+    public void dispatchShouldScheduleOneDrainForQueuedTasks() {
+        // given
+        final AnalyticsDispatcher target = givenDispatcher(10, OverflowPolicy.dropNewest, 1.0);
+
+        // when
+        dispatch(target, "event1");
+        dispatch(target, "event2");
+
+        // then
+        assertThat(scheduledDrains).hasSize(1);
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    public void dispatchShouldDropNewestTaskWhenQueueIsFull() throws Exception {
+        // given
+        final AnalyticsDispatcher target = givenDispatcher(2, OverflowPolicy.dropNewest, 1.0);
+
+        // when
+        dispatch(target, "event1");
+        dispatch(target, "event2");
+        dispatch(target, "event3");
+        runScheduledDrains();
+
+        // then
+        assertThat(events).containsExactly("dropped:event3", "event1", "event2");
+    }
+
+    @Test
+    public void dispatchShouldDropOldestTaskWhenQueueIsFull() throws Exception {
+        // given
+        final AnalyticsDispatcher target = givenDispatcher(2, OverflowPolicy.dropOldest, 1.0);
+
+        // when
+        dispatch(target, "event1");
+        dispatch(target, "event2");
+        dispatch(target, "event3");
+        runScheduledDrains();
+
+        // then
+        assertThat(events).containsExactly("dropped:event1", "event2", "event3");
+    }
+
+    @Test
+    public void dispatchShouldSampleTasksWhenQueueIsHalfFull() throws Exception {
+        // given
+        final AnalyticsDispatcher target = givenDispatcher(4, OverflowPolicy.dropNewest, 0.0);
+
+        // when
+        dispatch(target, "event1");
+        dispatch(target, "event2");
+        dispatch(target, "event3");
+        runScheduledDrains();
+
+        // then
+        assertThat(events).containsExactly("dropped:event3", "event1", "event2");
+    }
+
+    @Test
+    public void dispatchShouldKeepQueuesOfReportersSeparately() throws Exception {
+        // given
+        final AnalyticsDispatcher target = givenDispatcher(1, OverflowPolicy.dropNewest, 1.0);
+
+        // when
+        target.dispatch("reporter1", () -> events.add("event1"), () -> events.add("dropped:event1"));
+        target.dispatch("reporter2", () -> events.add("event2"), () -> events.add("dropped:event2"));
+        runScheduledDrains();
+
+        // then
+        assertThat(events).containsExactly("event1", "event2");
+    }
+
+    @Test
+    public void dispatchShouldTolerateFailedTask() throws Exception {
+        // given
+        final AnalyticsDispatcher target = givenDispatcher(10, OverflowPolicy.dropNewest, 1.0);
+
+        // when
+        target.dispatch("reporter", () -> {
+            throw new RuntimeException("failed");
+        }, () -> events.add("dropped"));
+        dispatch(target, "event");
+        runScheduledDrains();
+
+        // then
+        assertThat(events).containsExactly("event");
+    }
+
+    private AnalyticsDispatcher givenDispatcher(int queueCapacity,
+                                               OverflowPolicy overflowPolicy,
+                                               double pressureSamplingRate) {
+
+        return new AnalyticsDispatcher(
+                workerExecutor,
+                queueCapacity,
+                overflowPolicy,
+                pressureSamplingRate,
+                metrics,
+                clock);
+    }
+
+    private void dispatch(AnalyticsDispatcher target, String event) {
+        target.dispatch("reporter", () -> events.add(event), () -> events.add("dropped:" + event));
+    }
+
+    private void runScheduledDrains() throws Exception {
+        while (!scheduledDrains.isEmpty()) {
+            scheduledDrains.removeFirst().call();
+        }
+    }
+}
@@ -105,7 +105,13 @@ public class AnalyticsReporterDelegatorTest {
                 .willReturn(Future.succeededFuture(enforcementActionMap));
 
         target = new AnalyticsReporterDelegator(
-                vertx, List.of(firstReporter, secondReporter), tcfEnforcement, userFpdActivityMask, metrics, 0.01);
+                vertx,
+                null,
+                List.of(firstReporter, secondReporter),
+                tcfEnforcement,
+                userFpdActivityMask,
+                metrics,
+                0.01);
     }
 
     @Test
@@ -122,6 +128,38 @@ public class AnalyticsReporterDelegatorTest {
         assertThat(captureEvent(secondReporter)).isSameAs(EVENT);
     }
 
+    @Test
+    public void shouldPassEventToAllDelegatesThroughDispatcherIfPresent() {
+        // given
+        final AnalyticsDispatcher dispatcher = mock(AnalyticsDispatcher.class);
+        willAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(1)).run();
+            return null;
+        }).given(dispatcher).dispatch(eq("logAnalytics"), any(), any());
+        willAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(2)).run();
+            return null;
+        }).given(dispatcher).dispatch(eq("adapter"), any(), any());
+
+        target = new AnalyticsReporterDelegator(
+                vertx,
+                dispatcher,
+                List.of(firstReporter, secondReporter),
+                tcfEnforcement,
+                userFpdActivityMask,
+                metrics,
+                0.01);
+
+        // when
+        target.processEvent(EVENT);
+
+        // then
+        verify(vertx, never()).runOnContext(any());
+        assertThat(captureEvent(firstReporter)).isSameAs(EVENT);
+        verify(secondReporter, never()).processEvent(any());
+        verify(metrics).updateAnalyticEventMetric("adapter", MetricName.event_unknown, MetricName.dropped);
+    }
+
     @Test
     public void shouldTolerateInvalidExtPrebidAnalyticsNode() {
         // given
@@ -0,0 +1,256 @@
+package org.prebid.server.analytics.reporter.batch;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class AnalyticsEventsBatcherTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+
+    @Mock
+    private Runnable droppedEventListener;
+
+    private List<Promise<Void>> sentBatches;
+
+    private List<String> sentEvents;
+
+    @Before
+    public void setUp() {
+        given(vertx.setTimer(anyLong(), any())).willReturn(1L, 2L, 3L);
+
+        sentBatches = new ArrayList<>();
+        sentEvents = new ArrayList<>();
+    }
+
+    @Test
+    public void addShouldSendGzippedBatchWhenEventsCountExceedsThreshold() {
+        // given
+        final AnalyticsEventsBatcher batcher = givenBatcher(2, 1000L, 10, 1, OverflowPolicy.dropNewest);
+
+        // when
+        batcher.add(bytes("event1"));
+        batcher.add(bytes("event2"));
+        batcher.add(bytes("event3"));
+
+        // then
+        assertThat(sentEvents).containsExactly("event1\nevent2\nevent3");
+        assertThat(batcher.size()).isZero();
+        assertThat(batcher.byteSize()).isZero();
+    }
+
+    @Test
+    public void addShouldSendBatchWhenEventsByteSizeExceedsThreshold() {
+        // given
+        final AnalyticsEventsBatcher batcher = givenBatcher(100, 10L, 200, 1, OverflowPolicy.dropNewest);
+
+        // when
+        batcher.add(bytes("event1"));
+        batcher.add(bytes("event2"));
+
+        // then
+        assertThat(sentEvents).containsExactly("event1\nevent2");
+    }
+
+    @Test
+    public void addShouldTrackEventsCountAndByteSize() {
+        // given
+        final AnalyticsEventsBatcher batcher = givenBatcher(100, 1000L, 200, 1, OverflowPolicy.dropNewest);
+
+        // when
+        batcher.add(bytes("event1"));
+        batcher.add(bytes("event12"));
+
+        // then
+        assertThat(batcher.size()).isEqualTo(2);
+        assertThat(batcher.byteSize()).isEqualTo(13);
+        assertThat(sentEvents).isEmpty();
+    }
+
+    @Test
+    public void addShouldDropNewestEventsWhenBufferIsFullAndBatchIsInFlight() {
+        // given
+        final AnalyticsEventsBatcher batcher = givenBatcher(1, 1000L, 2, 1, OverflowPolicy.dropNewest);
+        batcher.add(bytes("event1"));
+        batcher.add(bytes("event2"));
+
+        // when
+        batcher.add(bytes("event3"));
+        batcher.add(bytes("event4"));
+        batcher.add(bytes("event5"));
+        sentBatches.getFirst().complete();
+        batcher.flush();
+
+        // then
+        verify(droppedEventListener).run();
+        assertThat(sentEvents).containsExactly("event1\nevent2", "event3\nevent4");
+    }
+
+    @Test
+    public void addShouldDropOldestEventsWhenBufferIsFullAndBatchIsInFlight() {
+        // given
+        final AnalyticsEventsBatcher batcher = givenBatcher(1, 1000L, 2, 1, OverflowPolicy.dropOldest);
+        batcher.add(bytes("event1"));
+        batcher.add(bytes("event2"));
+
+        // when
+        batcher.add(bytes("event3"));
+        batcher.add(bytes("event4"));
+        batcher.add(bytes("event5"));
+        sentBatches.getFirst().complete();
+        batcher.flush();
+
+        // then
+        verify(droppedEventListener).run();
+        assertThat(sentEvents).containsExactly("event1\nevent2", "event4\nevent5");
+    }
+
+    @Test
+    public void flushShouldReturnFalseWhenThereAreNoEvents() {
+        // given
+        final AnalyticsEventsBatcher batcher = givenBatcher(10, 1000L, 10, 1, OverflowPolicy.dropNewest);
+
+        // when and then
+        assertThat(batcher.flush()).isFalse();
+        assertThat(sentBatches).isEmpty();
+        verifyNoInteractions(vertx);
+    }
+
+    @Test
+    public void flushShouldResetReportTimer() {
+        // given
+        final AnalyticsEventsBatcher batcher = givenBatcher(10, 1000L, 10, 1, OverflowPolicy.dropNewest);
+        batcher.startReportTimer();
+        batcher.add(bytes("event1"));
+
+        // when
+        final boolean result = batcher.flush();
+
+        // then
+        assertThat(result).isTrue();
+        verify(vertx, times(2)).setTimer(eq(100L), any());
+        verify(vertx).cancelTimer(1L);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void reportTimerShouldSendCollectedEvents() {
+        // given
+        final AnalyticsEventsBatcher batcher = givenBatcher(10, 1000L, 10, 1, OverflowPolicy.dropNewest);
+        batcher.startReportTimer();
+        batcher.add(bytes("event1"));
+
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(100L), timerHandlerCaptor.capture());
+
+        // when
+        timerHandlerCaptor.getValue().handle(1L);
+
+        // then
+        assertThat(sentEvents).containsExactly("event1");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void reportTimerShouldBeRescheduledWhenThereAreNoEvents() {
+        // given
+        final AnalyticsEventsBatcher batcher = givenBatcher(10, 1000L, 10, 1, OverflowPolicy.dropNewest);
+        batcher.startReportTimer();
+
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(100L), timerHandlerCaptor.capture());
+
+        // when
+        timerHandlerCaptor.getValue().handle(1L);
+
+        // then
+        assertThat(sentEvents).isEmpty();
+        verify(vertx, times(2)).setTimer(eq(100L), any());
+    }
+
+    @Test
+    public void flushShouldReleaseInFlightSlotWhenSenderFails() {
+        // given
+        final Function<byte[], Future<?>> failingSender = body -> {
+            throw new IllegalStateException("failed");
+        };
+        final AnalyticsEventsBatcher batcher = new AnalyticsEventsBatcher(
+                10, 1000L, 100L, 10, 1, OverflowPolicy.dropNewest, failingSender, droppedEventListener, vertx);
+        batcher.add(bytes("event1"));
+        batcher.flush();
+
+        // when
+        batcher.add(bytes("event2"));
+        final boolean result = batcher.flush();
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    private AnalyticsEventsBatcher givenBatcher(int maxEventCount,
+                                                long maxByteSize,
+                                                int capacity,
+                                                int maxInFlightBatches,
+                                                OverflowPolicy overflowPolicy) {
+
+        return new AnalyticsEventsBatcher(
+                maxEventCount,
+                maxByteSize,
+                100L,
+                capacity,
+                maxInFlightBatches,
+                overflowPolicy,
+                this::send,
+                droppedEventListener,
+                vertx);
+    }
+
+    private Future<Void> send(byte[] body) {
+        sentEvents.add(gunzip(body));
+        final Promise<Void> promise = Promise.promise();
+        sentBatches.add(promise);
+        return promise.future();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String gunzip(byte[] body) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -3,34 +3,42 @@ package org.prebid.server.analytics.reporter.pubstack;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
 import org.prebid.server.analytics.model.AuctionEvent;
 import org.prebid.server.analytics.model.SetuidEvent;
+import org.prebid.server.analytics.reporter.batch.AnalyticsEventsBatcher;
 import org.prebid.server.analytics.reporter.pubstack.model.PubstackAnalyticsProperties;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.TimeoutContext;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.execution.Timeout;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Set;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -48,6 +56,9 @@ public class PubstackEventHandlerTest extends VertxTest {
     @Mock
     private HttpClient httpClient;
 
+    @Mock
+    private Metrics metrics;
+
     private PubstackEventHandler pubstackEventHandler;
 
     @Before
@@ -61,8 +72,8 @@ public class PubstackEventHandlerTest extends VertxTest {
                 .reportTtlMs(10000L)
                 .timeoutMs(5000L)
                 .build();
-        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com",
+                MetricName.event_setuid, jacksonMapper, httpClient, metrics, vertx);
     }
 
     @Test
@@ -76,17 +87,14 @@ public class PubstackEventHandlerTest extends VertxTest {
                 .reportTtlMs(10000L)
                 .timeoutMs(5000L)
                 .build();
-        pubstackEventHandler = new PubstackEventHandler(properties, false, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+        pubstackEventHandler = new PubstackEventHandler(properties, false, "http://example.com",
+                MetricName.event_setuid, jacksonMapper, httpClient, metrics, vertx);
 
         // when
         pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
 
         // then
-        @SuppressWarnings("unchecked") final AtomicReference<Set<String>> events =
-                (AtomicReference<Set<String>>) ReflectionTestUtils
-                        .getField(pubstackEventHandler, "events");
-        assertThat(events.get()).isEmpty();
+        assertThat(eventsBatcher().size()).isZero();
         verifyNoInteractions(httpClient);
     }
 
@@ -97,16 +105,62 @@ public class PubstackEventHandlerTest extends VertxTest {
         pubstackEventHandler.handle(setuidEvent);
 
         // then
-        final AtomicLong byteSize = (AtomicLong) ReflectionTestUtils.getField(pubstackEventHandler, "byteSize");
-        @SuppressWarnings("unchecked") final AtomicReference<Set<String>> events =
-                (AtomicReference<Set<String>>) ReflectionTestUtils
-                        .getField(pubstackEventHandler, "events");
         final ObjectNode eventJsonNode = mapper.valueToTree(setuidEvent);
         eventJsonNode.put("scope", "scopeId");
         final String eventJsonRow = mapper.writeValueAsString(eventJsonNode);
-        assertThat(byteSize.get()).isEqualTo(eventJsonRow.getBytes().length);
-        assertThat(events.get()).hasSize(1)
-                .containsOnly(eventJsonRow);
+        assertThat(eventsBatcher().size()).isEqualTo(1);
+        assertThat(eventsBatcher().byteSize()).isEqualTo(eventJsonRow.getBytes().length);
+    }
+
+    @Test
+    public void reportEventsShouldSendGzippedNewLineDelimitedEvents() throws IOException {
+        // given
+        given(httpClient.request(any(), anyString(), any(), (byte[]) any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)));
+
+        final SetuidEvent firstEvent = SetuidEvent.builder().bidder("bidder1").build();
+        final SetuidEvent secondEvent = SetuidEvent.builder().bidder("bidder2").build();
+        pubstackEventHandler.handle(firstEvent);
+        pubstackEventHandler.handle(secondEvent);
+
+        // when
+        pubstackEventHandler.reportEvents();
+
+        // then
+        final ArgumentCaptor<byte[]> bodyCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(httpClient).request(any(), eq("http://example.com"), any(), bodyCaptor.capture(), eq(5000L));
+        assertThat(gunzip(bodyCaptor.getValue()))
+                .isEqualTo(toJsonRow(firstEvent) + "\n" + toJsonRow(secondEvent));
+    }
+
+    @Test
+    public void handleShouldDropEventsAndUpdateMetricsWhenBufferIsFullAndReportsAreInFlight() {
+        // given
+        given(httpClient.request(any(), anyString(), any(), (byte[]) any(), anyLong()))
+                .willReturn(Promise.<HttpClientResponse>promise().future());
+
+        final PubstackAnalyticsProperties properties = PubstackAnalyticsProperties.builder()
+                .endpoint("http://endpoint.com")
+                .scopeId("scopeId")
+                .sizeBytes(20000)
+                .count(1)
+                .reportTtlMs(10000L)
+                .timeoutMs(5000L)
+                .capacity(2)
+                .maxInFlightReports(1)
+                .build();
+        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com",
+                MetricName.event_setuid, jacksonMapper, httpClient, metrics, vertx);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder" + i).build());
+        }
+
+        // then
+        verify(httpClient).request(any(), anyString(), any(), (byte[]) any(), anyLong());
+        verify(metrics).updateAnalyticEventMetric("pubstack", MetricName.event_setuid, MetricName.dropped);
+        assertThat(eventsBatcher().size()).isEqualTo(2);
     }
 
     @Test
@@ -120,8 +174,8 @@ public class PubstackEventHandlerTest extends VertxTest {
                 .reportTtlMs(10000L)
                 .timeoutMs(5000L)
                 .build();
-        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com",
+                MetricName.event_setuid, jacksonMapper, httpClient, metrics, vertx);
 
         // when
         pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
@@ -141,8 +195,8 @@ public class PubstackEventHandlerTest extends VertxTest {
                 .reportTtlMs(10000L)
                 .timeoutMs(5000L)
                 .build();
-        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com",
+                MetricName.event_setuid, jacksonMapper, httpClient, metrics, vertx);
 
         // when
         pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
@@ -182,11 +236,10 @@ public class PubstackEventHandlerTest extends VertxTest {
         verify(vertx).cancelTimer(anyLong());
         // one time in constructor and second after the send request
         verify(vertx, times(2)).setTimer(anyLong(), any());
-        final AtomicLong byteSize = (AtomicLong) ReflectionTestUtils.getField(pubstackEventHandler, "byteSize");
-        assertThat(byteSize.get()).isEqualTo(0);
-        final Long currentTimerId = (Long) ReflectionTestUtils.getField(pubstackEventHandler,
+        assertThat(eventsBatcher().byteSize()).isEqualTo(0);
+        final AtomicLong currentTimerId = (AtomicLong) ReflectionTestUtils.getField(eventsBatcher(),
                 "reportTimerId");
-        assertThat(currentTimerId).isEqualTo(2);
+        assertThat(currentTimerId.get()).isEqualTo(2);
     }
 
     @Test
@@ -224,4 +277,20 @@ public class PubstackEventHandlerTest extends VertxTest {
         verify(vertx, times(2)).setTimer(anyLong(), any());
         verify(vertx).cancelTimer(anyLong());
     }
+
+    private AnalyticsEventsBatcher eventsBatcher() {
+        return (AnalyticsEventsBatcher) ReflectionTestUtils.getField(pubstackEventHandler, "eventsBatcher");
+    }
+
+    private static String toJsonRow(SetuidEvent event) throws JsonProcessingException {
+        final ObjectNode eventJsonNode = mapper.valueToTree(event);
+        eventJsonNode.put("scope", "scopeId");
+        return mapper.writeValueAsString(eventJsonNode);
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
 }
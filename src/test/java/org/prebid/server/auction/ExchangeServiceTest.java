@@ -386,7 +386,7 @@ public class ExchangeServiceTest extends VertxTest {
         given(storedResponseProcessor.updateStoredBidResponse(any()))
                 .willAnswer(inv -> inv.getArgument(0));
 
-        given(priceFloorEnforcer.enforce(any(), any(), any(), any())).willAnswer(inv -> inv.getArgument(1));
+        given(priceFloorEnforcer.enforce(any(), any(), any())).willAnswer(inv -> inv.getArgument(1));
         given(dsaEnforcer.enforce(any(), any(), any())).willAnswer(inv -> inv.getArgument(1));
         given(priceFloorAdjuster.adjustForImp(any(), any(), any(), any(), any()))
                 .willAnswer(inv -> Price.of(
@@ -3802,7 +3802,7 @@ public class ExchangeServiceTest extends VertxTest {
                         givenImp(singletonMap("bidder1", 1), builder -> builder.id("impId2"))),
                 identity());
 
-        given(priceFloorEnforcer.enforce(any(), any(), any(), any()))
+        given(priceFloorEnforcer.enforce(any(), any(), any()))
                 .willReturn(AuctionParticipation.builder()
                         .bidder("bidder1")
                         .bidderResponse(BidderResponse.of(
@@ -4480,6 +4480,41 @@ public class ExchangeServiceTest extends VertxTest {
                         "bidder", doubleMap("test-host", "unknownHost", "publisher_id", "ps4"))));
     }
 
+    @Test
+    public void shouldPopulateImpExtPrebidOfEachBidderWithoutChangingOriginalImpExt() {
+        // given
+        final ObjectNode impExt = mapper.createObjectNode()
+                .put("tid", "transactionId")
+                .<ObjectNode>set("prebid", mapper.createObjectNode()
+                        .put("is_rewarded_inventory", 1)
+                        .<ObjectNode>set("bidder", mapper.createObjectNode()
+                                .put("bidder1", 1)
+                                .put("bidder2", 2)))
+                .<ObjectNode>set("data", mapper.createObjectNode().put("pbadslot", "adSlot"));
+        final ObjectNode originalImpExt = impExt.deepCopy();
+
+        final BidRequest bidRequest = givenBidRequest(
+                singletonList(Imp.builder().id("impId").ext(impExt).build()), identity());
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+                .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
+        verify(httpBidderRequester, times(2))
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        assertThat(bidderRequestCaptor.getAllValues())
+                .extracting(BidderRequest::getBidRequest)
+                .flatExtracting(BidRequest::getImp)
+                .extracting(Imp::getExt)
+                .containsExactlyInAnyOrder(
+                        givenBidderImpExt(1),
+                        givenBidderImpExt(2));
+        assertThat(impExt).isEqualTo(originalImpExt);
+    }
+
     @Test
     public void shouldThrowErrorIfCannotBeParsedImpExtPrebid() {
         // given
@@ -4785,6 +4820,14 @@ public class ExchangeServiceTest extends VertxTest {
         return givenBidRequest(imp, identity());
     }
 
+    private static ObjectNode givenBidderImpExt(int bidderParam) {
+        return mapper.createObjectNode()
+                .put("tid", "transactionId")
+                .<ObjectNode>set("prebid", mapper.createObjectNode().put("is_rewarded_inventory", 1))
+                .<ObjectNode>set("data", mapper.createObjectNode().put("pbadslot", "adSlot"))
+                .put("bidder", bidderParam);
+    }
+
     private static <T> Imp givenImp(T ext, Function<ImpBuilder, ImpBuilder> impBuilderCustomizer) {
         return impBuilderCustomizer.apply(Imp.builder()
                         .id(UUID.randomUUID().toString())
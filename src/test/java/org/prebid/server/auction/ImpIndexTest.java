@@ -0,0 +1,60 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.request.Imp;
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImpIndexTest {
+
+    @Test
+    public void findShouldReturnNullWhenImpsOrImpIdIsAbsent() {
+        // when and then
+        assertThat(ImpIndex.of(null).find("impId")).isNull();
+        assertThat(ImpIndex.of(singletonList(Imp.builder().id("impId").build())).find(null)).isNull();
+    }
+
+    @Test
+    public void findShouldReturnImpFromFewImps() {
+        // given
+        final Imp imp = Imp.builder().id("impId2").build();
+        final ImpIndex impIndex = ImpIndex.of(asList(Imp.builder().id("impId1").build(), imp));
+
+        // when and then
+        assertThat(impIndex.find("impId2")).isSameAs(imp);
+        assertThat(impIndex.find("impId3")).isNull();
+    }
+
+    @Test
+    public void findShouldReturnFirstImpWithIdFromManyImps() {
+        // given
+        final Imp imp = Imp.builder().id("impId3").build();
+        final ImpIndex impIndex = ImpIndex.of(asList(
+                Imp.builder().id("impId1").build(),
+                Imp.builder().id("impId2").build(),
+                imp,
+                Imp.builder().id("impId3").banner(null).tagid("duplicate").build(),
+                Imp.builder().id("impId5").build()));
+
+        // when and then
+        assertThat(impIndex.find("impId3")).isSameAs(imp);
+        assertThat(impIndex.find("impId4")).isNull();
+    }
+
+    @Test
+    public void isOfShouldReturnTrueOnlyForSameImpsInstance() {
+        // given
+        final List<Imp> imps = singletonList(Imp.builder().id("impId").build());
+
+        // when
+        final ImpIndex impIndex = ImpIndex.of(imps);
+
+        // then
+        assertThat(impIndex.isOf(imps)).isTrue();
+        assertThat(impIndex.isOf(singletonList(Imp.builder().id("impId").build()))).isFalse();
+    }
+}
@@ -14,6 +14,8 @@ import org.prebid.server.util.HttpUtil;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 public class ImplicitParametersExtractorTest {
 
@@ -123,6 +125,21 @@ public class ImplicitParametersExtractorTest {
         assertThat(extractor.domainFrom("subdomain.example.com")).isEqualTo("example.com");
     }
 
+    @Test
+    public void domainFromShouldDeriveDomainOnceForRepeatedHost() {
+        // given
+        final PublicSuffixList pslSpy = spy(psl);
+        extractor = new ImplicitParametersExtractor(pslSpy);
+
+        // when
+        extractor.domainFrom("subdomain.example.com");
+        final String domain = extractor.domainFrom("subdomain.example.com");
+
+        // then
+        assertThat(domain).isEqualTo("example.com");
+        verify(pslSpy).getRegistrableDomain("subdomain.example.com");
+    }
+
     @Test
     public void ipFromShouldReturnIpFromHeadersAndRemoteAddress() {
         // given
@@ -150,6 +167,17 @@ public class ImplicitParametersExtractorTest {
         assertThat(extractor.ipFrom(headers, remoteHost)).containsExactly("192.168.144.5");
     }
 
+    @Test
+    public void ipFromShouldSkipEmptyForwardedForValues() {
+        // given
+        final CaseInsensitiveMultiMap headers = CaseInsensitiveMultiMap.builder()
+                .add("X-Forwarded-For", ", 192.168.144.2,, 192.168.144.3,")
+                .build();
+
+        // when and then
+        assertThat(extractor.ipFrom(headers, null)).containsExactly("192.168.144.2", "192.168.144.3");
+    }
+
     @Test
     public void uaFromShouldReturnUaFromUserAgentHeader() {
         // given
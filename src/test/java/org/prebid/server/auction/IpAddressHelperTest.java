@@ -138,4 +138,43 @@ public class IpAddressHelperTest {
         assertThat(ipAddressHelper.toIpAddress("2001:1db8:85a3:a5b7:0000:8a2e:0370:7334"))
                 .isEqualTo(IpAddress.of("2001:1db8:85a3:a5b7::", IpAddress.IP.v6));
     }
+
+    @Test
+    public void toIpAddressShouldClassifyIpV4SameAsIpAddressParser() {
+        // given
+        // IPv4 local network disables the dotted-decimal fast path
+        final IpAddressHelper parserIpAddressHelper =
+                new IpAddressHelper(64, 56, asList("::1/128", "255.255.255.255/32"));
+
+        // when and then
+        for (int firstOctet = 0; firstOctet <= 255; firstOctet++) {
+            for (int secondOctet : new int[]{0, 1, 15, 16, 31, 32, 167, 168, 169, 253, 254, 255}) {
+                for (String lastOctets : asList("0.0", "0.1", "255.255")) {
+                    final String ip = "%d.%d.%s".formatted(firstOctet, secondOctet, lastOctets);
+                    assertThat(ipAddressHelper.toIpAddress(ip))
+                            .describedAs(ip)
+                            .isEqualTo(parserIpAddressHelper.toIpAddress(ip));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void toIpAddressShouldFallbackToIpAddressParserForNotDottedDecimalIpV4() {
+        assertThat(ipAddressHelper.toIpAddress("012.34.56.78")).isNull();
+        assertThat(ipAddressHelper.toIpAddress("12.34.56.256")).isNull();
+        assertThat(ipAddressHelper.toIpAddress("12.34.56.78.")).isNull();
+    }
+
+    @Test
+    public void maskIpv4ShouldReturnInputIfIpIsNotDottedDecimal() {
+        assertThat(ipAddressHelper.maskIpv4("012.34.56.78")).isEqualTo("012.34.56.78");
+        assertThat(ipAddressHelper.maskIpv4("12.34.56")).isEqualTo("12.34.56");
+        assertThat(ipAddressHelper.maskIpv4(null)).isNull();
+    }
+
+    @Test
+    public void anonymizeIpv6ShouldReturnNullIfIpIsV4() {
+        assertThat(ipAddressHelper.anonymizeIpv6("12.34.56.78")).isNull();
+    }
 }
@@ -116,7 +116,7 @@ public class HttpBidderRequesterTest extends VertxTest {
         expiredTimeout = timeoutFactory.create(clock.instant().minusMillis(1500L).toEpochMilli(), 1000L);
 
         target = new HttpBidderRequester(
-                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper);
+                bidderName -> httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper);
         given(bidder.makeBidderResponse(any(BidderCall.class), any(BidRequest.class))).willCallRealMethod();
     }
 
@@ -457,7 +457,7 @@ public class HttpBidderRequesterTest extends VertxTest {
     public void shouldNotWaitForResponsesWhenAllDealsIsGathered() throws JsonProcessingException {
         // given
         target = new HttpBidderRequester(
-                httpClient,
+                bidderName -> httpClient,
                 bidRequest -> new BidderRequestCompletionTracker() {
 
                     private final AtomicInteger waitAllDeals = new AtomicInteger(2);
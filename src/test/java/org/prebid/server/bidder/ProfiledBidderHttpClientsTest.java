@@ -0,0 +1,152 @@
+package org.prebid.server.bidder;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.bidder.model.BidderHttpClientOptions;
+import org.prebid.server.vertx.httpclient.AdaptivePoolHttpClient;
+import org.prebid.server.vertx.httpclient.BasicHttpClient;
+import org.prebid.server.vertx.httpclient.HttpClient;
+
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class ProfiledBidderHttpClientsTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private HttpClient defaultHttpClient;
+    @Mock
+    private BidderCatalog bidderCatalog;
+
+    @Test
+    public void forBidderShouldReturnDefaultClientForBidderWithoutProfile() {
+        // given
+        given(bidderCatalog.names()).willReturn(Set.of("bidder"));
+
+        // when
+        final BidderHttpClients target = createTarget(UnaryOperator.identity());
+
+        // then
+        assertThat(target.forBidder("bidder")).isSameAs(defaultHttpClient);
+        assertThat(target.forBidder("unknown")).isSameAs(defaultHttpClient);
+        assertThat(target.forBidder(null)).isSameAs(defaultHttpClient);
+        verifyNoInteractions(vertx);
+    }
+
+    @Test
+    public void forBidderShouldReturnDedicatedClientWithProfileOptionsOnTopOfDefaults() {
+        // given
+        givenProfile("bidder", BidderHttpClientOptions.builder()
+                .maxPoolSize(50)
+                .keepAliveTimeoutSec(30)
+                .pipelining(true)
+                .pipeliningLimit(5)
+                .build());
+
+        // when
+        final BidderHttpClients target = createTarget(UnaryOperator.identity());
+
+        // then
+        assertThat(target.forBidder("bidder")).isInstanceOf(BasicHttpClient.class);
+        assertThat(target.forBidder("BIDDER")).isSameAs(target.forBidder("bidder"));
+
+        final HttpClientOptions options = captureHttpClientOptions();
+        assertThat(options.getMetricsName()).isEqualTo("bidder.bidder");
+        assertThat(options.getMaxPoolSize()).isEqualTo(50);
+        assertThat(options.getKeepAliveTimeout()).isEqualTo(30);
+        assertThat(options.isPipelining()).isTrue();
+        assertThat(options.getPipeliningLimit()).isEqualTo(5);
+        assertThat(options.getConnectTimeout()).isEqualTo(123);
+        assertThat(options.getProtocolVersion()).isEqualTo(HttpVersion.HTTP_1_1);
+    }
+
+    @Test
+    public void forBidderShouldReturnClientPreferringHttp2WhenEnabledInProfile() {
+        // given
+        givenProfile("bidder", BidderHttpClientOptions.builder()
+                .http2(true)
+                .http2MaxPoolSize(2)
+                .http2MultiplexingLimit(100)
+                .build());
+
+        // when
+        createTarget(UnaryOperator.identity());
+
+        // then
+        final HttpClientOptions options = captureHttpClientOptions();
+        assertThat(options.getProtocolVersion()).isEqualTo(HttpVersion.HTTP_2);
+        assertThat(options.isUseAlpn()).isTrue();
+        assertThat(options.isHttp2ClearTextUpgrade()).isTrue();
+        assertThat(options.getHttp2MaxPoolSize()).isEqualTo(2);
+        assertThat(options.getHttp2MultiplexingLimit()).isEqualTo(100);
+    }
+
+    @Test
+    public void forBidderShouldReturnAdaptivePoolClientWhenEnabledInProfile() {
+        // given
+        givenProfile("bidder", BidderHttpClientOptions.builder()
+                .adaptivePoolSize(true)
+                .minPoolSize(5)
+                .build());
+
+        // when
+        final BidderHttpClients target = createTarget(UnaryOperator.identity());
+
+        // then
+        assertThat(target.forBidder("bidder")).isInstanceOf(AdaptivePoolHttpClient.class);
+        assertThat(captureHttpClientOptions().getMaxPoolSize()).isEqualTo(20);
+    }
+
+    @Test
+    public void forBidderShouldReturnDecoratedDedicatedClient() {
+        // given
+        givenProfile("bidder", BidderHttpClientOptions.builder().build());
+        final HttpClient decoratedHttpClient = mock(HttpClient.class);
+
+        // when
+        final BidderHttpClients target = createTarget(httpClient -> decoratedHttpClient);
+
+        // then
+        assertThat(target.forBidder("bidder")).isSameAs(decoratedHttpClient);
+    }
+
+    private BidderHttpClients createTarget(UnaryOperator<HttpClient> httpClientDecorator) {
+        final HttpClientOptions defaultOptions = new HttpClientOptions()
+                .setMaxPoolSize(20)
+                .setConnectTimeout(123);
+
+        return new ProfiledBidderHttpClients(
+                vertx, defaultHttpClient, defaultOptions, bidderCatalog, httpClientDecorator);
+    }
+
+    private void givenProfile(String bidderName, BidderHttpClientOptions profile) {
+        given(bidderCatalog.names()).willReturn(Set.of(bidderName));
+        given(bidderCatalog.httpClientOptionsByName(bidderName)).willReturn(profile);
+        given(vertx.createHttpClient(any(HttpClientOptions.class)))
+                .willReturn(mock(io.vertx.core.http.HttpClient.class));
+    }
+
+    private HttpClientOptions captureHttpClientOptions() {
+        final ArgumentCaptor<HttpClientOptions> optionsCaptor = ArgumentCaptor.forClass(HttpClientOptions.class);
+        verify(vertx).createHttpClient(optionsCaptor.capture());
+        return optionsCaptor.getValue();
+    }
+}
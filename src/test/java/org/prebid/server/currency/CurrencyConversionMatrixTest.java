@@ -0,0 +1,84 @@
+package org.prebid.server.currency;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CurrencyConversionMatrixTest {
+
+    @Test
+    public void ofShouldReturnNullWhenRatesAreEmpty() {
+        // when and then
+        assertThat(CurrencyConversionMatrix.of(null)).isNull();
+        assertThat(CurrencyConversionMatrix.of(emptyMap())).isNull();
+    }
+
+    @Test
+    public void getConversionRateShouldReturnDirectRate() {
+        // given
+        final CurrencyConversionMatrix matrix = CurrencyConversionMatrix.of(
+                singletonMap("USD", singletonMap("EUR", BigDecimal.valueOf(0.8434))));
+
+        // when and then
+        assertThat(matrix.getConversionRate("USD", "EUR")).isEqualByComparingTo(BigDecimal.valueOf(0.8434));
+    }
+
+    @Test
+    public void getConversionRateShouldReturnReverseRate() {
+        // given
+        final CurrencyConversionMatrix matrix = CurrencyConversionMatrix.of(
+                singletonMap("USD", singletonMap("EUR", BigDecimal.valueOf(0.8))));
+
+        // when and then
+        assertThat(matrix.getConversionRate("EUR", "USD")).isEqualByComparingTo(BigDecimal.valueOf(1.25));
+    }
+
+    @Test
+    public void getConversionRateShouldReturnIntermediateRate() {
+        // given
+        final Map<String, Map<String, BigDecimal>> rates = new LinkedHashMap<>();
+        rates.put("USD", singletonMap("AUD", BigDecimal.valueOf(1.2)));
+        rates.put("EUR", singletonMap("AUD", BigDecimal.valueOf(1.5)));
+
+        final CurrencyConversionMatrix matrix = CurrencyConversionMatrix.of(rates);
+
+        // when and then
+        assertThat(matrix.getConversionRate("EUR", "USD")).isEqualByComparingTo(BigDecimal.valueOf(1.25));
+        assertThat(matrix.getConversionRate("USD", "EUR")).isEqualByComparingTo(BigDecimal.valueOf(0.8));
+    }
+
+    @Test
+    public void getConversionRateShouldReturnCrossRate() {
+        // given
+        final Map<String, BigDecimal> usdRates = new LinkedHashMap<>();
+        usdRates.put("EUR", BigDecimal.valueOf(0.8));
+        usdRates.put("GBP", BigDecimal.valueOf(0.5));
+
+        final CurrencyConversionMatrix matrix = CurrencyConversionMatrix.of(singletonMap("USD", usdRates));
+
+        // when and then
+        assertThat(matrix.getConversionRate("GBP", "EUR")).isEqualByComparingTo(BigDecimal.valueOf(1.6));
+    }
+
+    @Test
+    public void getConversionRateShouldReturnNullForUnknownCurrencyOrZeroRate() {
+        // given
+        final Map<String, Map<String, BigDecimal>> rates = new LinkedHashMap<>();
+        rates.put("USD", singletonMap("EUR", BigDecimal.ZERO));
+        rates.put("GBP", null);
+
+        final CurrencyConversionMatrix matrix = CurrencyConversionMatrix.of(rates);
+
+        // when and then
+        assertThat(matrix.getConversionRate("USD", "AUD")).isNull();
+        assertThat(matrix.getConversionRate("AUD", "USD")).isNull();
+        assertThat(matrix.getConversionRate("EUR", "USD")).isNull();
+        assertThat(matrix.getConversionRate("GBP", "USD")).isNull();
+    }
+}
@@ -0,0 +1,54 @@
+package org.prebid.server.currency;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LazyCurrencyConversionRatesTest {
+
+    @Test
+    public void getConversionRateShouldResolveRatesAsMatrixDoes() {
+        // given
+        final Map<String, Map<String, BigDecimal>> rates = new LinkedHashMap<>();
+        rates.put("USD", Map.of("EUR", BigDecimal.valueOf(0.8), "AUD", BigDecimal.valueOf(1.2)));
+        rates.put("GBP", singletonMap("AUD", BigDecimal.valueOf(1.5)));
+
+        final LazyCurrencyConversionRates lazyRates = new LazyCurrencyConversionRates(rates);
+        final CurrencyConversionMatrix matrix = CurrencyConversionMatrix.of(rates);
+
+        // when and then
+        for (String from : new String[]{"USD", "EUR", "AUD", "GBP", "JPY"}) {
+            for (String to : new String[]{"USD", "EUR", "AUD", "GBP", "JPY"}) {
+                if (!from.equals(to)) {
+                    assertThat(lazyRates.getConversionRate(from, to)).isEqualTo(matrix.getConversionRate(from, to));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void getConversionRateShouldResolveEachPairOnce() {
+        // given
+        final Map<String, BigDecimal> usdRates = new HashMap<>();
+        usdRates.put("EUR", BigDecimal.valueOf(0.8));
+        final LazyCurrencyConversionRates lazyRates = new LazyCurrencyConversionRates(singletonMap("USD", usdRates));
+
+        // when
+        final BigDecimal resolvedRate = lazyRates.getConversionRate("USD", "EUR");
+        final BigDecimal unresolvedRate = lazyRates.getConversionRate("USD", "GBP");
+        usdRates.put("EUR", BigDecimal.valueOf(0.9));
+        usdRates.put("GBP", BigDecimal.valueOf(0.7));
+
+        // then
+        assertThat(resolvedRate).isEqualByComparingTo(BigDecimal.valueOf(0.8));
+        assertThat(unresolvedRate).isNull();
+        assertThat(lazyRates.getConversionRate("USD", "EUR")).isEqualByComparingTo(BigDecimal.valueOf(0.8));
+        assertThat(lazyRates.getConversionRate("USD", "GBP")).isNull();
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.AuctionParticipation;
 import org.prebid.server.auction.model.BidRejectionReason;
 import org.prebid.server.auction.model.BidRejectionTracker;
@@ -77,7 +78,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                null, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(null, account), auctionParticipation, rejectionTracker);
 
         // then
         assertSame(result, auctionParticipation);
@@ -97,7 +98,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                null, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(null, account), auctionParticipation, rejectionTracker);
 
         // then
         assertSame(result, auctionParticipation);
@@ -117,7 +118,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                null, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(null, account), auctionParticipation, rejectionTracker);
 
         // then
         assertSame(result, auctionParticipation);
@@ -135,7 +136,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                null, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(null, account), auctionParticipation, rejectionTracker);
 
         // then
         assertSame(result, auctionParticipation);
@@ -153,7 +154,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                null, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(null, account), auctionParticipation, rejectionTracker);
 
         // then
         assertSame(result, auctionParticipation);
@@ -171,7 +172,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                null, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(null, account), auctionParticipation, rejectionTracker);
 
         // then
         assertSame(result, auctionParticipation);
@@ -189,7 +190,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                null, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(null, account), auctionParticipation, rejectionTracker);
 
         // then
         assertSame(result, auctionParticipation);
@@ -209,8 +210,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-
-                bidRequest, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(bidRequest, account), auctionParticipation, rejectionTracker);
 
         // then
         assertSame(result, auctionParticipation);
@@ -230,8 +230,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-
-                bidRequest, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(bidRequest, account), auctionParticipation, rejectionTracker);
 
         // then
         assertSame(result, auctionParticipation);
@@ -249,7 +248,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                null, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(null, account), auctionParticipation, rejectionTracker);
 
         // then
         assertSame(result, auctionParticipation);
@@ -267,7 +266,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                null, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(null, account), auctionParticipation, rejectionTracker);
 
         // then
         assertSame(result, auctionParticipation);
@@ -285,7 +284,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                null, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(null, account), auctionParticipation, rejectionTracker);
 
         // then
         assertSame(result, auctionParticipation);
@@ -303,7 +302,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                null, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(null, account), auctionParticipation, rejectionTracker);
 
         // then
         assertSame(result, auctionParticipation);
@@ -321,7 +320,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                null, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(null, account), auctionParticipation, rejectionTracker);
 
         // then
         assertSame(result, auctionParticipation);
@@ -346,7 +345,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                bidRequest, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(bidRequest, account), auctionParticipation, rejectionTracker);
 
         // then
         verify(rejectionTracker).reject("impId1", BidRejectionReason.REJECTED_DUE_TO_PRICE_FLOOR);
@@ -376,7 +375,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                bidRequest, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(bidRequest, account), auctionParticipation, rejectionTracker);
 
         // then
         assertThat(singleton(result))
@@ -400,7 +399,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                bidRequest, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(bidRequest, account), auctionParticipation, rejectionTracker);
 
         // then
         assertThat(singleton(result))
@@ -424,7 +423,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                bidRequest, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(bidRequest, account), auctionParticipation, rejectionTracker);
 
         // then
         assertThat(singleton(result))
@@ -450,7 +449,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                bidRequest, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(bidRequest, account), auctionParticipation, rejectionTracker);
 
         // then
         assertThat(singleton(result))
@@ -476,7 +475,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                bidRequest, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(bidRequest, account), auctionParticipation, rejectionTracker);
 
         // then
         assertThat(singleton(result))
@@ -505,7 +504,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                bidRequest, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(bidRequest, account), auctionParticipation, rejectionTracker);
 
         // then
         verify(currencyConversionService)
@@ -539,7 +538,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                bidRequest, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(bidRequest, account), auctionParticipation, rejectionTracker);
 
         // then
         verify(currencyConversionService)
@@ -570,7 +569,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                bidRequest, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(bidRequest, account), auctionParticipation, rejectionTracker);
 
         // then
         verify(currencyConversionService)
@@ -602,7 +601,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                bidRequest, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(bidRequest, account), auctionParticipation, rejectionTracker);
 
         // then
         verify(currencyConversionService)
@@ -634,7 +633,7 @@ public class BasicPriceFloorEnforcerTest {
 
         // when
         final AuctionParticipation result = priceFloorEnforcer.enforce(
-                bidRequest, auctionParticipation, account, rejectionTracker);
+                givenAuctionContext(bidRequest, account), auctionParticipation, rejectionTracker);
 
         // then
         verify(currencyConversionService)
@@ -717,4 +716,8 @@ public class BasicPriceFloorEnforcerTest {
                 .toList();
         return BidderSeatBid.of(bidderBids);
     }
+
+    private static AuctionContext givenAuctionContext(BidRequest bidRequest, Account account) {
+        return AuctionContext.builder().bidRequest(bidRequest).account(account).build();
+    }
 }
@@ -9,14 +9,22 @@ import com.maxmind.geoip2.record.Country;
 import com.maxmind.geoip2.record.Location;
 import com.maxmind.geoip2.record.Subdivision;
 import io.vertx.core.Future;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 import org.mockito.internal.util.reflection.ReflectionMemberAccessor;
 import org.prebid.server.geolocation.model.GeoInfo;
 
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.zip.GZIPOutputStream;
 
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -24,16 +32,21 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class MaxMindGeoLocationServiceTest {
 
     private static final String TEST_IP = "80.215.195.122";
 
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private MaxMindGeoLocationService maxMindGeoLocationService;
 
     @Before
     public void setUp() {
-        maxMindGeoLocationService = new MaxMindGeoLocationService();
+        maxMindGeoLocationService = new MaxMindGeoLocationService(0);
     }
 
     @Test
@@ -112,4 +125,56 @@ public class MaxMindGeoLocationServiceTest {
         assertThat(future.succeeded()).isTrue();
         assertThat(future.result()).isEqualTo(GeoInfo.builder().vendor("maxmind").build());
     }
+
+    @Test
+    public void setDataPathShouldExtractDatabaseFileNextToArchive() throws IOException {
+        // given
+        final File archive = temporaryFolder.newFile("GeoLite2-City.tar.gz");
+        final byte[] databaseContent = "invalid database".getBytes(StandardCharsets.UTF_8);
+        try (TarArchiveOutputStream tarOutput = new TarArchiveOutputStream(new GZIPOutputStream(
+                new FileOutputStream(archive)))) {
+
+            final TarArchiveEntry entry = new TarArchiveEntry("GeoLite2-City_20240101/GeoLite2-City.mmdb");
+            entry.setSize(databaseContent.length);
+            tarOutput.putArchiveEntry(entry);
+            tarOutput.write(databaseContent);
+            tarOutput.closeArchiveEntry();
+        }
+
+        // when
+        final Future<?> result = maxMindGeoLocationService.setDataPath(archive.getPath());
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(temporaryFolder.getRoot().toPath().resolve("GeoLite2-City.mmdb")).hasBinaryContent(databaseContent);
+        assertThat(temporaryFolder.getRoot().list()).containsExactlyInAnyOrder(
+                "GeoLite2-City.tar.gz", "GeoLite2-City.mmdb");
+    }
+
+    @Test
+    public void lookupShouldReuseResultForAddressesOfSameNetworkWhenCacheIsEnabled() throws IOException,
+            GeoIp2Exception, NoSuchFieldException, IllegalAccessException {
+
+        // given
+        maxMindGeoLocationService = new MaxMindGeoLocationService(10);
+
+        final CityResponse cityResponse = new CityResponse(null, null, new Country(null, null, null, "fr", null),
+                null, null, null, null, null, null, null);
+        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
+        given(databaseReader.city(any())).willReturn(cityResponse);
+
+        new ReflectionMemberAccessor().set(maxMindGeoLocationService.getClass().getDeclaredField("databaseReader"),
+                maxMindGeoLocationService, databaseReader);
+
+        // when
+        maxMindGeoLocationService.lookup("80.215.195.122", null);
+        maxMindGeoLocationService.lookup("80.215.195.1", null);
+        maxMindGeoLocationService.lookup("80.215.196.1", null);
+        maxMindGeoLocationService.lookup("2001:db8:1::1", null);
+        final Future<GeoInfo> future = maxMindGeoLocationService.lookup("2001:db8:1:ffff::1", null);
+
+        // then
+        assertThat(future.result()).isEqualTo(GeoInfo.builder().vendor("maxmind").country("fr").build());
+        verify(databaseReader, times(3)).city(any());
+    }
 }
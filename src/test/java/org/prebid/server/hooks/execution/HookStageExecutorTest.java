@@ -604,7 +604,7 @@ public class HookStageExecutorTest extends VertxTest {
                                             assertThat(hookOutcome.getStatus()).isEqualTo(ExecutionStatus.timeout);
                                             assertThat(hookOutcome.getMessage()).isEqualTo(
                                                     "Timed out while executing action");
-                                            assertThat(hookOutcome.getExecutionTime()).isBetween(200L, 220L);
+                                            assertThat(hookOutcome.getExecutionTime()).isBetween(190L, 220L);
                                         });
 
                                         final List<HookExecutionOutcome> group1Hooks = groups.get(1).getHooks();
@@ -624,7 +624,7 @@ public class HookStageExecutorTest extends VertxTest {
                                             assertThat(hookOutcome.getStatus()).isEqualTo(ExecutionStatus.timeout);
                                             assertThat(hookOutcome.getMessage()).isEqualTo(
                                                     "Timed out while executing action");
-                                            assertThat(hookOutcome.getExecutionTime()).isBetween(200L, 220L);
+                                            assertThat(hookOutcome.getExecutionTime()).isBetween(190L, 220L);
                                         });
                                     }));
 
@@ -1248,6 +1248,57 @@ public class HookStageExecutorTest extends VertxTest {
         async.awaitSuccess();
     }
 
+    @Test
+    public void shouldExecuteRawAuctionRequestHooksFromUpdatedAccountExecutionPlan(TestContext context) {
+        // given
+        final RawAuctionRequestHookImpl hookImpl = spy(
+                RawAuctionRequestHookImpl.of(immediateHook(InvocationResultImpl.noAction())));
+        given(hookCatalog.hookById(anyString(), anyString(), eq(StageWithHookType.RAW_AUCTION_REQUEST)))
+                .willReturn(hookImpl);
+
+        final HookStageExecutor executor = createExecutor(null, null);
+
+        final Account account = Account.builder()
+                .id("accountId")
+                .hooks(AccountHooksConfiguration.of(
+                        ExecutionPlan.of(singletonMap(
+                                Endpoint.openrtb2_auction,
+                                EndpointExecutionPlan.of(singletonMap(
+                                        Stage.raw_auction_request,
+                                        execPlanOneGroupOneHook("module-alpha", "hook-a"))))),
+                        null))
+                .build();
+        final Account updatedAccount = account.toBuilder()
+                .hooks(AccountHooksConfiguration.of(
+                        ExecutionPlan.of(singletonMap(
+                                Endpoint.openrtb2_auction,
+                                EndpointExecutionPlan.of(singletonMap(
+                                        Stage.raw_auction_request,
+                                        execPlanOneGroupOneHook("module-beta", "hook-b"))))),
+                        null))
+                .build();
+
+        // when
+        final Future<HookStageExecutionResult<AuctionRequestPayload>> future = executor
+                .executeRawAuctionRequestStage(givenAuctionContext(account))
+                .compose(ignored -> executor.executeRawAuctionRequestStage(givenAuctionContext(account)))
+                .compose(ignored -> executor.executeRawAuctionRequestStage(givenAuctionContext(updatedAccount)));
+
+        // then
+        final Async async = context.async();
+        future.onComplete(context.asyncAssertSuccess(result -> {
+            verify(hookImpl, times(3)).call(any(), any());
+            verify(hookCatalog, times(2))
+                    .hookById(eq("module-alpha"), eq("hook-a"), eq(StageWithHookType.RAW_AUCTION_REQUEST));
+            verify(hookCatalog)
+                    .hookById(eq("module-beta"), eq("hook-b"), eq(StageWithHookType.RAW_AUCTION_REQUEST));
+
+            async.complete();
+        }));
+
+        async.awaitSuccess();
+    }
+
     @Test
     public void shouldExecuteRawAuctionRequestHooksToleratingUnknownHookInAccountPlan(TestContext context) {
         // given
@@ -2871,6 +2922,15 @@ public class HookStageExecutorTest extends VertxTest {
         return (payload, context) -> Future.succeededFuture(result);
     }
 
+    private static AuctionContext givenAuctionContext(Account account) {
+        return AuctionContext.builder()
+                .bidRequest(BidRequest.builder().build())
+                .account(account)
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                .debugContext(DebugContext.empty())
+                .build();
+    }
+
     private HookStageExecutor createExecutor(String hostExecutionPlan) {
         return createExecutor(hostExecutionPlan, null);
     }
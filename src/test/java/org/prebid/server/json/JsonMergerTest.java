@@ -1,5 +1,7 @@
 package org.prebid.server.json;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.App;
 import com.iab.openrtb.request.Dooh;
@@ -13,6 +15,8 @@ import org.prebid.server.proto.openrtb.ext.request.ExtBidderConfigOrtb;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 public class JsonMergerTest extends VertxTest {
 
@@ -85,4 +89,21 @@ public class JsonMergerTest extends VertxTest {
         assertThat(result).isEqualTo(site);
     }
 
+    @Test
+    public void mergeShouldReuseParsedStoredDataWithoutModifyingIt() throws JsonProcessingException {
+        // given
+        final ObjectMapper objectMapper = spy(mapper);
+        target = new JsonMerger(new JacksonMapper(objectMapper), 10);
+        final String storedData = "{\"page\":\"storedPage\",\"domain\":\"storedDomain\"}";
+
+        // when
+        final Site firstResult = target.merge(Site.builder().page("firstPage").build(), storedData, "id", Site.class);
+        final Site secondResult = target.merge(Site.builder().id("secondId").build(), storedData, "id", Site.class);
+
+        // then
+        assertThat(firstResult).isEqualTo(Site.builder().page("firstPage").domain("storedDomain").build());
+        assertThat(secondResult)
+                .isEqualTo(Site.builder().id("secondId").page("storedPage").domain("storedDomain").build());
+        verify(objectMapper).readTree(storedData);
+    }
 }
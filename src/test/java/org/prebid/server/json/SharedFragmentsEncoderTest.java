@@ -0,0 +1,111 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Geo;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Publisher;
+import com.iab.openrtb.request.Regs;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.Source;
+import com.iab.openrtb.request.User;
+import org.junit.Before;
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.proto.openrtb.ext.request.ExtDevice;
+import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SharedFragmentsEncoderTest extends VertxTest {
+
+    private SharedFragmentsEncoder target;
+
+    @Before
+    public void setUp() {
+        target = new SharedFragmentsEncoder(
+                mapper, Set.of(Site.class, Device.class, User.class, Regs.class, Source.class));
+    }
+
+    @Test
+    public void encodeToBytesShouldReturnSameJsonAsMapper() throws Exception {
+        // given
+        final BidRequest bidRequest = givenBidRequest(ExtDevice.of(1, null));
+
+        // when
+        final byte[] first = target.encodeToBytes(bidRequest);
+        final byte[] second = target.encodeToBytes(bidRequest.toBuilder().id("otherId").build());
+
+        // then
+        assertThat(first).isEqualTo(mapper.writeValueAsBytes(bidRequest));
+        assertThat(second).isEqualTo(mapper.writeValueAsBytes(bidRequest.toBuilder().id("otherId").build()));
+    }
+
+    @Test
+    public void encodeToBytesShouldReuseJsonOfSamePartInstance() throws Exception {
+        // given
+        final ExtDevice extDevice = ExtDevice.of(1, null);
+        final BidRequest bidRequest = givenBidRequest(extDevice);
+        target.encodeToBytes(bidRequest);
+
+        // when
+        extDevice.addProperty("field", TextNode.valueOf("value"));
+        final BidRequest changedBidRequest = bidRequest.toBuilder().id("otherId").build();
+
+        // then
+        assertThat(mapper.readTree(target.encodeToBytes(changedBidRequest)).at("/device/ext/field").isMissingNode())
+                .isTrue();
+        assertThat(mapper.readTree(target.encodeToBytes(changedBidRequest.toBuilder()
+                        .device(changedBidRequest.getDevice().toBuilder().build())
+                        .build()))
+                .at("/device/ext/field").asText())
+                .isEqualTo("value");
+    }
+
+    @Test
+    public void encodeToBytesShouldNotReuseJsonOfNotSharedParts() throws Exception {
+        // given
+        final BidRequest bidRequest = givenBidRequest(null);
+        target.encodeToBytes(bidRequest);
+
+        // when
+        bidRequest.getImp().getFirst().getExt().put("field", "value");
+
+        // then
+        assertThat(mapper.readTree(target.encodeToBytes(bidRequest)).at("/imp/0/ext/field").asText())
+                .isEqualTo("value");
+    }
+
+    private static BidRequest givenBidRequest(ExtDevice extDevice) {
+        return BidRequest.builder()
+                .id("requestId")
+                .imp(List.of(Imp.builder()
+                        .id("impId")
+                        .banner(Banner.builder().format(List.of(Format.builder().w(300).h(250).build())).build())
+                        .bidfloor(BigDecimal.ONE)
+                        .ext(mapper.createObjectNode())
+                        .build()))
+                .site(Site.builder()
+                        .page("http://example.com")
+                        .publisher(Publisher.builder().id("publisherId").build())
+                        .build())
+                .device(Device.builder()
+                        .ua("userAgent")
+                        .ip("192.168.244.1")
+                        .geo(Geo.builder().country("USA").build())
+                        .ext(extDevice)
+                        .build())
+                .user(User.builder().buyeruid("buyerUid").build())
+                .regs(Regs.builder().gdpr(1).ext(ExtRegs.of(1, "1YNN", null, null)).build())
+                .source(Source.builder().tid("transactionId").build())
+                .tmax(1000L)
+                .build();
+    }
+}
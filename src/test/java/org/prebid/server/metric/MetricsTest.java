@@ -455,6 +455,18 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("analytics.analyticCode.setuid.badinput").getCount()).isOne();
     }
 
+    @Test
+    public void shouldCreateAnalyticsQueueMetrics() {
+        // when
+        metrics.createAnalyticsQueueSizeGauge(ANALYTIC_CODE, () -> 5);
+        metrics.updateAnalyticsQueueTime(ANALYTIC_CODE, 30L);
+
+        // then
+        assertThat(metricRegistry.gauge("analytics.analyticCode.queue-size", () -> null).getValue())
+                .isEqualTo(5L);
+        assertThat(metricRegistry.timer("analytics.analyticCode.queue-time").getCount()).isOne();
+    }
+
     @Test
     public void updateFetchWithFetchResultShouldCreateMetricsAsExpected() {
         // when
@@ -768,6 +780,18 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("privacy.tcf.v1.requests").getCount()).isOne();
     }
 
+    @Test
+    public void updatePrivacyTcfConsentCacheMetricShouldIncrementMetrics() {
+        // when
+        metrics.updatePrivacyTcfConsentCacheMetric(true);
+        metrics.updatePrivacyTcfConsentCacheMetric(false);
+        metrics.updatePrivacyTcfConsentCacheMetric(false);
+
+        // then
+        assertThat(metricRegistry.counter("privacy.tcf.consent-cache.hit").getCount()).isOne();
+        assertThat(metricRegistry.counter("privacy.tcf.consent-cache.miss").getCount()).isEqualTo(2);
+    }
+
     @Test
     public void updatePrivacyTcfGeoMetricShouldIncrementMetrics() {
         // when
@@ -870,6 +894,18 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("connection_accept_errors").getCount()).isOne();
     }
 
+    @Test
+    public void shouldIncrementBidderParamsValidationCacheMetrics() {
+        // when
+        metrics.updateBidderParamsValidationCacheMetric(true);
+        metrics.updateBidderParamsValidationCacheMetric(true);
+        metrics.updateBidderParamsValidationCacheMetric(false);
+
+        // then
+        assertThat(metricRegistry.counter("bidder-params.validation-cache.hit").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("bidder-params.validation-cache.miss").getCount()).isOne();
+    }
+
     @Test
     public void shouldUpdateDatabaseQueryTimeMetric() {
         // when
@@ -898,6 +934,16 @@ public class MetricsTest {
                 .isEqualTo(1L);
     }
 
+    @Test
+    public void shouldCreateHttpClientCircuitBreakerPermittedGaugeMetric() {
+        // when
+        metrics.createHttpClientCircuitBreakerPermittedGauge("id", () -> 40);
+
+        // then
+        assertThat(metricRegistry.gauge("circuit-breaker.http.named.id.permitted-percent.count", () -> null)
+                .getValue()).isEqualTo(40L);
+    }
+
     @Test
     public void shouldCreateHttpClientCircuitBreakerNumberGaugeMetric() {
         // when
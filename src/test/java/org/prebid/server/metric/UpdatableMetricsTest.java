@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
 public class UpdatableMetricsTest {
@@ -72,6 +73,21 @@ public class UpdatableMetricsTest {
         assertThat(metricRegistry.counter("requests").getCount()).isEqualTo(1);
     }
 
+    @Test
+    public void incCounterShouldLookupMetricInRegistryOnlyOnceOnSuccessiveCalls() {
+        // given
+        final MetricRegistry spiedMetricRegistry = spy(metricRegistry);
+        updatableMetrics = new UpdatableMetrics(spiedMetricRegistry, CounterType.counter, MetricName::toString);
+
+        // when
+        updatableMetrics.incCounter(MetricName.requests, 5);
+        updatableMetrics.incCounter(MetricName.requests, 6);
+
+        // then
+        verify(spiedMetricRegistry).counter(eq("requests"));
+        assertThat(metricRegistry.counter("requests").getCount()).isEqualTo(11);
+    }
+
     @Test
     public void updateTimerShouldCreateMetricNameUsingProvidedCreator() {
         // given
@@ -187,6 +203,20 @@ public class UpdatableMetricsTest {
         assertThat(metricRegistry.getGauges()).doesNotContainKey("opened");
     }
 
+    @Test
+    public void removeMetricShouldAllowToRegisterMetricAgainOnNextUpdate() {
+        // given
+        updatableMetrics = new UpdatableMetrics(metricRegistry, CounterType.counter, MetricName::toString);
+        updatableMetrics.incCounter(MetricName.opened, 5);
+
+        // when
+        updatableMetrics.removeMetric(MetricName.opened);
+        updatableMetrics.incCounter(MetricName.opened);
+
+        // then
+        assertThat(metricRegistry.counter("opened").getCount()).isEqualTo(1);
+    }
+
     private UpdatableMetrics givenUpdatableMetricsWith(CounterType counterType) {
         return new UpdatableMetrics(metricRegistry, counterType, MetricName::toString);
     }
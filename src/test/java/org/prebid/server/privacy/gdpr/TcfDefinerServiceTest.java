@@ -47,6 +47,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.prebid.server.assertion.FutureAssertion.assertThat;
@@ -84,6 +85,7 @@ public class TcfDefinerServiceTest {
         target = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                0,
                 tcf2Service,
                 geoLocationServiceWrapper,
                 bidderCatalog,
@@ -98,6 +100,7 @@ public class TcfDefinerServiceTest {
         target = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                0,
                 tcf2Service,
                 geoLocationServiceWrapper,
                 bidderCatalog,
@@ -176,6 +179,7 @@ public class TcfDefinerServiceTest {
         target = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                0,
                 tcf2Service,
                 geoLocationServiceWrapper,
                 bidderCatalog,
@@ -208,6 +212,7 @@ public class TcfDefinerServiceTest {
         target = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                0,
                 tcf2Service,
                 geoLocationServiceWrapper,
                 bidderCatalog,
@@ -240,6 +245,7 @@ public class TcfDefinerServiceTest {
         target = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                0,
                 tcf2Service,
                 geoLocationServiceWrapper,
                 bidderCatalog,
@@ -281,6 +287,7 @@ public class TcfDefinerServiceTest {
         target = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                0,
                 tcf2Service,
                 geoLocationServiceWrapper,
                 bidderCatalog,
@@ -322,6 +329,7 @@ public class TcfDefinerServiceTest {
         target = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                0,
                 tcf2Service,
                 geoLocationServiceWrapper,
                 bidderCatalog,
@@ -441,6 +449,7 @@ public class TcfDefinerServiceTest {
         target = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                0,
                 tcf2Service,
                 geoLocationServiceWrapper,
                 bidderCatalog,
@@ -527,6 +536,67 @@ public class TcfDefinerServiceTest {
         verify(metrics).updatePrivacyTcfInvalidMetric();
     }
 
+    @Test
+    public void resolveTcfContextShouldReuseDecodedConsentStringWhenCacheIsEnabled() {
+        // given
+        target = new TcfDefinerService(
+                GdprConfig.builder().enabled(true).build(),
+                singleton(EEA_COUNTRY),
+                1000,
+                tcf2Service,
+                geoLocationServiceWrapper,
+                bidderCatalog,
+                ipAddressHelper,
+                metrics);
+
+        final Privacy privacy = Privacy.builder()
+                .gdpr("1")
+                .consentString("CPBCa-mPBCa-mAAAAAENA0CAAEAAAAAAACiQAaQAwAAgAgABoAAAAAA")
+                .build();
+
+        // when
+        final Future<TcfContext> firstResult = target.resolveTcfContext(
+                privacy, null, null, MetricName.setuid, null, null);
+        final Future<TcfContext> secondResult = target.resolveTcfContext(
+                privacy, null, null, MetricName.setuid, null, null);
+
+        // then
+        assertThat(secondResult.result().getConsent()).isSameAs(firstResult.result().getConsent());
+        assertThat(secondResult.result().isConsentValid()).isTrue();
+
+        verify(metrics).updatePrivacyTcfConsentCacheMetric(false);
+        verify(metrics).updatePrivacyTcfConsentCacheMetric(true);
+        verify(metrics, times(2)).updatePrivacyTcfRequestsMetric(2);
+    }
+
+    @Test
+    public void resolveTcfContextShouldNotCacheInvalidConsentString() {
+        // given
+        target = new TcfDefinerService(
+                GdprConfig.builder().enabled(true).build(),
+                singleton(EEA_COUNTRY),
+                1000,
+                tcf2Service,
+                geoLocationServiceWrapper,
+                bidderCatalog,
+                ipAddressHelper,
+                metrics);
+
+        final Privacy privacy = Privacy.builder().gdpr("1").consentString("abc").build();
+
+        // when
+        target.resolveTcfContext(privacy, null, null, MetricName.setuid, null, null);
+        final Future<TcfContext> result = target.resolveTcfContext(
+                privacy, null, null, MetricName.setuid, null, null);
+
+        // then
+        assertThat(result.result().isConsentValid()).isFalse();
+        assertThat(result.result().getWarnings()).hasSize(1);
+
+        verify(metrics, times(2)).updatePrivacyTcfConsentCacheMetric(false);
+        verify(metrics, times(2)).updatePrivacyTcfInvalidMetric();
+    }
+
     @Test
     public void resultForVendorIdsShouldNotSetTcfRequestsAndTcfGeoMetricsWhenConsentIsNotValid() {
         // given
@@ -30,6 +30,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 public class Purpose01StrategyTest {
 
@@ -90,6 +91,18 @@ public class Purpose01StrategyTest {
         assertThat(target.getPurpose()).isEqualTo(PURPOSE_CODE);
     }
 
+    @Test
+    public void processTypePurposeStrategyShouldNotCallTypeStrategiesWhenNoVendorPermissions() {
+        // given
+        final Purpose purpose = Purpose.of(EnforcePurpose.full, true, singletonList("b1"), null);
+
+        // when
+        target.processTypePurposeStrategy(tcString, purpose, emptyList(), false);
+
+        // then
+        verifyNoInteractions(fullEnforcePurposeStrategy, basicEnforcePurposeStrategy, noEnforcePurposeStrategy);
+    }
+
     @Test
     public void processTypePurposeStrategyShouldPassListWithEnforcementsAndExcludeBiddersToNoType() {
         // given
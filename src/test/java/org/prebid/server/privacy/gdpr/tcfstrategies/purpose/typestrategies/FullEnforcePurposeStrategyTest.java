@@ -171,6 +171,26 @@ public class FullEnforcePurposeStrategyTest {
                 .containsOnly(vendorPermission1, vendorPermission3, vendorPermission5);
     }
 
+    @Test
+    public void shouldNotResolveVendorIdsOfPublisherRestrictionsForOtherPurposes() {
+        // given
+        given(publisherRestriction.getPurposeId()).willReturn(PurposeCode.TWO.code());
+
+        final VendorPermission vendorPermission = VendorPermission.of(1, null, PrivacyEnforcementAction.restrictAll());
+        final VendorPermissionWithGvl vendorPermissionWithGvl = withGvl(
+                vendorPermission, Vendor.builder().id(1).purposes(EnumSet.of(PURPOSE_CODE)).build());
+
+        given(purposesConsent.contains(anyInt())).willReturn(true);
+
+        // when
+        final Stream<VendorPermission> result = target.allowedByTypeStrategy(
+                PURPOSE_CODE, tcString, singleton(vendorPermissionWithGvl), emptyList(), false);
+
+        // then
+        assertThat(result).usingRecursiveFieldByFieldElementComparator().containsOnly(vendorPermission);
+        verifyNoInteractions(vendorIds);
+    }
+
     // GVL Purpose part
 
     @Test
@@ -1,9 +1,13 @@
 package org.prebid.server.settings;
 
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -15,6 +19,7 @@ import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountAuctionConfig;
+import org.prebid.server.settings.model.AccountStatus;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.StoredResponseDataResult;
 
@@ -22,6 +27,7 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeoutException;
 
 import static java.util.Collections.emptyList;
@@ -32,11 +38,13 @@ import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -49,25 +57,34 @@ public class CachingApplicationSettingsTest {
     @Mock
     private ApplicationSettings delegateSettings;
     @Mock
+    private Vertx vertx;
+    @Mock
     private Metrics metrics;
 
     private CachingApplicationSettings target;
 
+    private TimeoutFactory timeoutFactory;
+
     private Timeout timeout;
 
     @Before
     public void setUp() {
-        timeout = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault())).create(500L);
+        timeoutFactory = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault()));
+        timeout = timeoutFactory.create(500L);
 
         target = new CachingApplicationSettings(
                 delegateSettings,
+                new SettingsCache(360, 100, 0, true),
                 new SettingsCache(360, 100, 0),
                 new SettingsCache(360, 100, 0),
-                new SettingsCache(360, 100, 0),
+                vertx,
+                timeoutFactory,
                 metrics,
                 360,
                 100,
-                0);
+                0,
+                0,
+                1000L);
     }
 
     @Test
@@ -276,6 +293,145 @@ public class CachingApplicationSettingsTest {
         verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.hit));
     }
 
+    @Test
+    public void getAccountByIdShouldMakeSingleDelegateCallForConcurrentCalls() {
+        // given
+        final Promise<Account> accountPromise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(accountPromise.future());
+
+        // when
+        final Future<Account> firstFuture = target.getAccountById("accountId", timeout);
+        final Future<Account> secondFuture = target.getAccountById("accountId", timeout);
+        accountPromise.complete(Account.empty("accountId"));
+
+        // then
+        assertThat(firstFuture.result()).isEqualTo(Account.empty("accountId"));
+        assertThat(secondFuture.result()).isEqualTo(Account.empty("accountId"));
+        verify(delegateSettings).getAccountById(eq("accountId"), same(timeout));
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.account, MetricName.coalesced);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void getAccountByIdShouldFailCoalescedCallWhenItsOwnTimeoutExpired() {
+        // given
+        final Promise<Account> accountPromise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(accountPromise.future());
+
+        // when
+        final Future<Account> firstFuture = target.getAccountById("accountId", timeout);
+        final Future<Account> secondFuture = target.getAccountById("accountId", timeout);
+
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(500L), timerHandlerCaptor.capture());
+        timerHandlerCaptor.getValue().handle(1L);
+
+        // then
+        assertThat(firstFuture.isComplete()).isFalse();
+        assertThat(secondFuture.failed()).isTrue();
+        assertThat(secondFuture.cause()).isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    public void getAccountByIdShouldRetryCoalescedCallWithItsOwnTimeoutWhenSharedCallTimedOut() {
+        // given
+        final Timeout sharedTimeout = timeoutFactory.create(100L);
+        final Promise<Account> accountPromise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), same(sharedTimeout)))
+                .willReturn(accountPromise.future());
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(Future.succeededFuture(Account.empty("accountId")));
+
+        // when
+        final Future<Account> firstFuture = target.getAccountById("accountId", sharedTimeout);
+        final Future<Account> secondFuture = target.getAccountById("accountId", timeout);
+        accountPromise.fail(new TimeoutException("timeout"));
+
+        // then
+        assertThat(firstFuture.failed()).isTrue();
+        assertThat(secondFuture.result()).isEqualTo(Account.empty("accountId"));
+        verify(vertx).cancelTimer(anyLong());
+    }
+
+    @Test
+    public void getAccountByIdShouldNotRetryCoalescedCallWhenSharedCallFailedNotByTimeout() {
+        // given
+        final Timeout sharedTimeout = timeoutFactory.create(100L);
+        final Promise<Account> accountPromise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), same(sharedTimeout)))
+                .willReturn(accountPromise.future());
+
+        // when
+        target.getAccountById("accountId", sharedTimeout);
+        final Future<Account> secondFuture = target.getAccountById("accountId", timeout);
+        accountPromise.fail(new PreBidException("Not found"));
+
+        // then
+        assertThat(secondFuture.failed()).isTrue();
+        assertThat(secondFuture.cause()).isInstanceOf(PreBidException.class);
+        verify(delegateSettings, never()).getAccountById(eq("accountId"), same(timeout));
+    }
+
+    @Test
+    public void getAccountByIdShouldMakeNewDelegateCallWhenPreviousCallFailed() {
+        // given
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(Future.failedFuture(new TimeoutException("timeout")))
+                .willReturn(Future.succeededFuture(Account.empty("accountId")));
+
+        // when
+        target.getAccountById("accountId", timeout);
+        final Future<Account> future = target.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(future.result()).isEqualTo(Account.empty("accountId"));
+        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), same(timeout));
+    }
+
+    @Test
+    public void getAccountByIdShouldReturnStaleAccountAndRefreshItWhenStaleWhileRevalidateEnabled()
+            throws InterruptedException {
+
+        // given
+        target = new CachingApplicationSettings(
+                delegateSettings,
+                new SettingsCache(360, 100, 0, true),
+                new SettingsCache(360, 100, 0),
+                new SettingsCache(360, 100, 0),
+                vertx,
+                timeoutFactory,
+                metrics,
+                1,
+                100,
+                0,
+                360,
+                1000L);
+
+        final Account staleAccount = Account.empty("accountId");
+        final Account refreshedAccount = Account.builder().id("accountId").status(AccountStatus.active).build();
+        final Promise<Account> refreshedAccountPromise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), any()))
+                .willReturn(Future.succeededFuture(staleAccount))
+                .willReturn(refreshedAccountPromise.future());
+
+        target.getAccountById("accountId", timeout);
+        Thread.sleep(1100L);
+
+        // when
+        final Future<Account> staleFuture = target.getAccountById("accountId", timeout);
+        refreshedAccountPromise.complete(refreshedAccount);
+        final Future<Account> refreshedFuture = target.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(staleFuture.result()).isSameAs(staleAccount);
+        assertThat(refreshedFuture.result()).isSameAs(refreshedAccount);
+        verify(delegateSettings).getAccountById(eq("accountId"), same(timeout));
+        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), any());
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.account, MetricName.stale);
+    }
+
     @Test
     public void getCategoriesShouldReturnResultFromCacheOnSuccessiveCalls() {
         // given
@@ -353,6 +509,31 @@ public class CachingApplicationSettingsTest {
                 .hasMessage("timeout");
     }
 
+    @Test
+    public void getStoredDataShouldMakeSingleDelegateCallForConcurrentCalls() {
+        // given
+        final Promise<StoredDataResult> storedDataPromise = Promise.promise();
+        given(delegateSettings.getStoredData(any(), eq(singleton("reqid")), eq(singleton("impid")), same(timeout)))
+                .willReturn(storedDataPromise.future());
+
+        // when
+        final Future<StoredDataResult> firstFuture =
+                target.getStoredData("1001", singleton("reqid"), singleton("impid"), timeout);
+        final Future<StoredDataResult> secondFuture =
+                target.getStoredData("1001", singleton("reqid"), singleton("impid"), timeout);
+        storedDataPromise.complete(StoredDataResult.of(
+                singletonMap("reqid", "json"), singletonMap("impid", "json2"), emptyList()));
+
+        // then
+        final StoredDataResult expectedResult = StoredDataResult.of(
+                singletonMap("reqid", "json"), singletonMap("impid", "json2"), emptyList());
+        assertThat(firstFuture.result()).isEqualTo(expectedResult);
+        assertThat(secondFuture.result()).isEqualTo(expectedResult);
+        verify(delegateSettings)
+                .getStoredData(eq("1001"), eq(singleton("reqid")), eq(singleton("impid")), same(timeout));
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.stored_request, MetricName.coalesced);
+    }
+
     @Test
     public void getStoredDataShouldReturnResultOnSuccessiveCalls() {
         // given
@@ -449,4 +630,45 @@ public class CachingApplicationSettingsTest {
                 .isInstanceOf(InvalidRequestException.class)
                 .hasMessage("error");
     }
+
+    @Test
+    public void getStoredResponsesShouldReturnResultFromCacheOnSuccessiveCalls() {
+        // given
+        given(delegateSettings.getStoredResponses(anySet(), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("respId", "json"), emptyList())));
+
+        // when
+        target.getStoredResponses(singleton("respId"), timeout);
+        final Future<StoredResponseDataResult> future = target.getStoredResponses(singleton("respId"), timeout);
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result())
+                .isEqualTo(StoredResponseDataResult.of(singletonMap("respId", "json"), emptyList()));
+        verify(delegateSettings).getStoredResponses(eq(singleton("respId")), same(timeout));
+        verifyNoMoreInteractions(delegateSettings);
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.stored_response), eq(MetricName.miss));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.stored_response), eq(MetricName.hit));
+    }
+
+    @Test
+    public void getStoredResponsesShouldDelegateOnlyMissedIds() {
+        // given
+        given(delegateSettings.getStoredResponses(anySet(), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("respId1", "json1"), emptyList())))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("respId2", "json2"), singletonList("error"))));
+
+        // when
+        target.getStoredResponses(singleton("respId1"), timeout);
+        final Future<StoredResponseDataResult> future =
+                target.getStoredResponses(Set.of("respId1", "respId2"), timeout);
+
+        // then
+        assertThat(future.result()).isEqualTo(StoredResponseDataResult.of(
+                Map.of("respId1", "json1", "respId2", "json2"), singletonList("error")));
+        verify(delegateSettings).getStoredResponses(eq(singleton("respId2")), same(timeout));
+    }
 }
@@ -4,6 +4,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.prebid.server.settings.model.StoredItem;
 
+import java.util.Map;
+
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -15,7 +17,7 @@ public class SettingsCacheTest {
 
     @Before
     public void setUp() {
-        settingsCache = new SettingsCache(10, 10, 0);
+        settingsCache = new SettingsCache(10, 10, 0, true);
     }
 
     @Test
@@ -75,4 +77,37 @@ public class SettingsCacheTest {
         assertThat(settingsCache.getImpCache()).hasSize(1)
                 .containsEntry("impId2", singleton(StoredItem.of(null, "impValue2")));
     }
+
+    @Test
+    public void saveResponsesShouldAddNewResponsesToCache() {
+        // when
+        settingsCache.saveResponses(singletonMap("respId1", "respValue1"));
+
+        // then
+        assertThat(settingsCache.getResponseCache()).hasSize(1).containsEntry("respId1", "respValue1");
+    }
+
+    @Test
+    public void saveResponsesShouldNotCacheResponsesWhenResponsesCacheIsNotRequested() {
+        // given
+        settingsCache = new SettingsCache(10, 10, 0);
+
+        // when
+        settingsCache.saveResponses(singletonMap("respId1", "respValue1"));
+
+        // then
+        assertThat(settingsCache.getResponseCache()).isEmpty();
+    }
+
+    @Test
+    public void invalidateResponsesShouldRemoveResponsesFromCache() {
+        // given
+        settingsCache.saveResponses(Map.of("respId1", "respValue1", "respId2", "respValue2"));
+
+        // when
+        settingsCache.invalidateResponses(singletonList("respId1"));
+
+        // then
+        assertThat(settingsCache.getResponseCache()).hasSize(1).containsEntry("respId2", "respValue2");
+    }
 }
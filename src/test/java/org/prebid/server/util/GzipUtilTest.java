@@ -0,0 +1,72 @@
+package org.prebid.server.util;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GzipUtilTest {
+
+    @Test
+    public void gzipShouldProduceValidGzipData() throws IOException {
+        // given
+        final byte[] value = "{\"id\":\"requestId\",\"imp\":[{\"id\":\"impId\"}]}".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        final byte[] result = GzipUtil.gzip(value);
+
+        // then
+        assertThat(gunzip(result)).isEqualTo(value);
+    }
+
+    @Test
+    public void gzipShouldCompressEmptyValue() throws IOException {
+        // when
+        final byte[] result = GzipUtil.gzip(new byte[0]);
+
+        // then
+        assertThat(gunzip(result)).isEmpty();
+    }
+
+    @Test
+    public void gzipShouldCompressValuesBiggerThanInitialBufferOnSuccessiveCalls() throws IOException {
+        // given
+        final byte[] first = new byte[100_000];
+        new Random(1).nextBytes(first);
+        final byte[] second = "second".repeat(10_000).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        final byte[] firstResult = GzipUtil.gzip(first);
+        final byte[] secondResult = GzipUtil.gzip(second);
+
+        // then
+        assertThat(gunzip(firstResult)).isEqualTo(first);
+        assertThat(gunzip(secondResult)).isEqualTo(second);
+    }
+
+    @Test
+    public void gzipShouldCompressValuesSeparatedByDelimiter() throws IOException {
+        // given
+        final byte[] first = "first".getBytes(StandardCharsets.UTF_8);
+        final byte[] second = "second".repeat(10_000).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        final byte[] result = GzipUtil.gzip(List.of(first, second), new byte[]{'\n'});
+
+        // then
+        assertThat(new String(gunzip(result), StandardCharsets.UTF_8))
+                .isEqualTo("first\n" + "second".repeat(10_000));
+    }
+
+    private static byte[] gunzip(byte[] value) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(value))) {
+            return gzip.readAllBytes();
+        }
+    }
+}
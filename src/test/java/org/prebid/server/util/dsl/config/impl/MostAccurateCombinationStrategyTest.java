@@ -50,6 +50,49 @@ public class MostAccurateCombinationStrategyTest {
         assertThat(rulesByPriority).containsExactlyElementsOf(rulesByPriority());
     }
 
+    @Test
+    public void matchShouldPickIndexedRulesInExactPriority() {
+        // given
+        final Set<String> rules = new HashSet<>(rules());
+        final PrebidConfigParameters parameters = SimpleParameters.of(asList(
+                SimpleDirectParameter.of(singleton("_")),
+                SimpleDirectParameter.of(singleton("_")),
+                SimpleDirectParameter.of(singleton("_")),
+                SimpleDirectParameter.of(singleton("_")),
+                SimpleDirectParameter.of(singleton("_"))));
+
+        final MostAccurateCombinationStrategy target = new MostAccurateCombinationStrategy();
+
+        // when and then
+        final List<String> rulesByPriority = new ArrayList<>();
+
+        int i = 1 << 5; // just in case of infinite loop
+        while (!rules.isEmpty() && i-- > 0) {
+            final String rule = target.match(IndexedSource.of("*", "|", rules), parameters);
+            assertThat(rule).isNotNull();
+
+            rulesByPriority.add(rule);
+            rules.remove(rule);
+        }
+
+        assertThat(rulesByPriority).containsExactlyElementsOf(rulesByPriority());
+    }
+
+    @Test
+    public void matchShouldFindIndexedRuleWithValuesContainingSeparator() {
+        // given
+        final PrebidConfigSource source = IndexedSource.of("*", ".", asList("example.com.banner", "*.banner"));
+        final PrebidConfigParameters parameters = SimpleParameters.of(asList(
+                SimpleDirectParameter.of(singleton("example.com")),
+                SimpleDirectParameter.of(singleton("banner"))));
+
+        // when
+        final String rule = new MostAccurateCombinationStrategy().match(source, parameters);
+
+        // then
+        assertThat(rule).isEqualTo("example.com.banner");
+    }
+
     @Test
     public void iteratorShouldBeEmptyIfParametersEmpty() {
         // given
@@ -1,6 +1,7 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -10,6 +11,7 @@ import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.adtelligent.ExtImpAdtelligent;
 import org.prebid.server.proto.openrtb.ext.request.appnexus.ExtImpAppnexus;
 import org.prebid.server.proto.openrtb.ext.request.beachfront.ExtImpBeachfront;
@@ -34,6 +36,9 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 public class BidderParamValidatorTest extends VertxTest {
 
@@ -53,6 +58,8 @@ public class BidderParamValidatorTest extends VertxTest {
 
     @Mock
     private BidderCatalog bidderCatalog;
+    @Mock
+    private Metrics metrics;
 
     private BidderParamValidator bidderParamValidator;
 
@@ -72,27 +79,28 @@ public class BidderParamValidatorTest extends VertxTest {
         given(bidderCatalog.bidderInfoByName(anyString())).willReturn(givenBidderInfo());
         given(bidderCatalog.bidderInfoByName(eq(APPNEXUS_ALIAS))).willReturn(givenBidderInfo(APPNEXUS));
 
-        bidderParamValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", jacksonMapper);
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", jacksonMapper, 10000, metrics);
     }
 
     @Test
     public void createShouldFailOnInvalidSchemaPath() {
         assertThatIllegalArgumentException().isThrownBy(
-                () -> BidderParamValidator.create(bidderCatalog, "noschema", jacksonMapper));
+                () -> BidderParamValidator.create(bidderCatalog, "noschema", jacksonMapper, 10000, metrics));
     }
 
     @Test
     public void createShouldFailOnEmptySchemaFile() {
         assertThatIllegalArgumentException().isThrownBy(
                 () -> BidderParamValidator.create(
-                        bidderCatalog, "org/prebid/server/validation/schema/empty", jacksonMapper));
+                        bidderCatalog, "org/prebid/server/validation/schema/empty", jacksonMapper, 10000, metrics));
     }
 
     @Test
     public void createShouldFailOnInvalidSchemaFile() {
         assertThatIllegalArgumentException().isThrownBy(
                 () -> BidderParamValidator.create(
-                        bidderCatalog, "org/prebid/server/validation/schema/invalid", jacksonMapper));
+                        bidderCatalog, "org/prebid/server/validation/schema/invalid", jacksonMapper, 10000, metrics));
     }
 
     @Test
@@ -121,6 +129,69 @@ public class BidderParamValidatorTest extends VertxTest {
         assertThat(messages.size()).isEqualTo(1);
     }
 
+    @Test
+    public void validateShouldReturnCachedValidationMessagesForSameParams() {
+        // given
+        final JsonNode node = mapper.convertValue(ExtImpRubicon.builder().siteId(2).zoneId(3).build(), JsonNode.class);
+        final JsonNode sameNode = node.deepCopy();
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate(RUBICON, node);
+        final Set<String> cachedMessages = bidderParamValidator.validate("Rubicon", sameNode);
+
+        // then
+        assertThat(cachedMessages).isSameAs(messages).hasSize(1);
+        verify(metrics).updateBidderParamsValidationCacheMetric(false);
+        verify(metrics).updateBidderParamsValidationCacheMetric(true);
+    }
+
+    @Test
+    public void validateShouldNotReturnCachedValidationMessagesWhenParamsChangedAfterValidation() {
+        // given
+        final JsonNode node = mapper.convertValue(ExtImpRubicon.builder().siteId(2).zoneId(3).build(), JsonNode.class);
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate(RUBICON, node);
+        ((ObjectNode) node).put("accountId", 1);
+        final Set<String> changedParamsMessages = bidderParamValidator.validate(RUBICON, node);
+
+        // then
+        assertThat(messages).hasSize(1);
+        assertThat(changedParamsMessages).isEmpty();
+        verify(metrics, times(2)).updateBidderParamsValidationCacheMetric(false);
+    }
+
+    @Test
+    public void validateShouldNotCacheValidationMessagesOfLargeParams() {
+        // given
+        final ObjectNode node = mapper.valueToTree(ExtImpRubicon.builder().siteId(2).zoneId(3).build());
+        node.put("large", "a".repeat(1024));
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate(RUBICON, node);
+        final Set<String> secondMessages = bidderParamValidator.validate(RUBICON, node.deepCopy());
+
+        // then
+        assertThat(secondMessages).isNotSameAs(messages).isEqualTo(messages);
+        verify(metrics, times(2)).updateBidderParamsValidationCacheMetric(false);
+    }
+
+    @Test
+    public void validateShouldNotCacheValidationMessagesWhenCacheSizeIsZero() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", jacksonMapper, 0, metrics);
+        final JsonNode node = mapper.convertValue(ExtImpRubicon.builder().siteId(2).zoneId(3).build(), JsonNode.class);
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate(RUBICON, node);
+        final Set<String> secondMessages = bidderParamValidator.validate(RUBICON, node);
+
+        // then
+        assertThat(secondMessages).isNotSameAs(messages).isEqualTo(messages);
+        verifyNoInteractions(metrics);
+    }
+
     @Test
     public void validateShouldReturnValidationMessagesWhenAppnexusImpExtNotValid() {
         // given
@@ -347,7 +418,7 @@ public class BidderParamValidatorTest extends VertxTest {
         given(bidderCatalog.names()).willReturn(new HashSet<>(asList("test-rubicon", "test-appnexus")));
 
         bidderParamValidator = BidderParamValidator.create(
-                bidderCatalog, "org/prebid/server/validation/schema/valid", jacksonMapper);
+                bidderCatalog, "org/prebid/server/validation/schema/valid", jacksonMapper, 10000, metrics);
 
         // when
         final String result = bidderParamValidator.schemas();
@@ -0,0 +1,196 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Future;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+public class AdaptiveCircuitBreakerTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Clock clock;
+
+    private AdaptiveCircuitBreaker target;
+
+    @Before
+    public void setUp() {
+        given(clock.millis()).willReturn(1000L);
+
+        target = new AdaptiveCircuitBreaker(1000L, 4, 50, 100L, 50, 200L, 1000L, clock);
+    }
+
+    @Test
+    public void executeShouldNotOpenCircuitWhenMinimumCallsIsNotReached() {
+        // when
+        executeWithFail();
+        executeWithFail();
+        executeWithFail();
+
+        // then
+        assertThat(target.isOpen()).isFalse();
+        assertThat(target.permittedPercent()).isEqualTo(100);
+    }
+
+    @Test
+    public void executeShouldOpenCircuitWhenErrorRateIsReached() {
+        // given
+        final AtomicInteger executions = new AtomicInteger();
+
+        // when
+        executeWithSuccess();
+        executeWithSuccess();
+        executeWithFail();
+        executeWithFail();
+        final Future<String> result = target.execute(promise -> {
+            executions.incrementAndGet();
+            promise.complete("value");
+        });
+
+        // then
+        assertThat(target.isOpen()).isTrue();
+        assertThat(target.permittedPercent()).isZero();
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).hasMessage("open circuit");
+        assertThat(executions.get()).isZero();
+    }
+
+    @Test
+    public void executeShouldOpenCircuitWhenSlowCallsRateIsReached() {
+        // when
+        executeWithSuccess();
+        executeWithSuccess();
+        executeSlow();
+        executeSlow();
+
+        // then
+        assertThat(target.isOpen()).isTrue();
+    }
+
+    @Test
+    public void executeShouldNotCountCallsOutOfWindow() {
+        // given
+        executeWithFail();
+        executeWithFail();
+        executeWithFail();
+
+        given(clock.millis()).willReturn(2500L);
+
+        // when
+        executeWithFail();
+
+        // then
+        assertThat(target.isOpen()).isFalse();
+    }
+
+    @Test
+    public void executeShouldPermitPartOfCallsDuringRampUp() {
+        // given
+        openCircuit();
+
+        given(clock.millis()).willReturn(1700L);
+
+        // when
+        int succeeded = 0;
+        for (int i = 0; i < 10; i++) {
+            succeeded += executeWithSuccess().succeeded() ? 1 : 0;
+        }
+
+        // then
+        assertThat(succeeded).isEqualTo(5);
+        assertThat(target.isOpen()).isTrue();
+        assertThat(target.permittedPercent()).isEqualTo(50);
+    }
+
+    @Test
+    public void executeShouldCloseCircuitWhenRampUpIsOver() {
+        // given
+        openCircuit();
+
+        given(clock.millis()).willReturn(1300L);
+        executeWithSuccess();
+
+        given(clock.millis()).willReturn(2300L);
+
+        // when
+        final Future<String> result = executeWithSuccess();
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(target.isOpen()).isFalse();
+        assertThat(target.permittedPercent()).isEqualTo(100);
+    }
+
+    @Test
+    public void executeShouldOpenCircuitAgainWhenCallsFailDuringRampUp() {
+        // given
+        openCircuit();
+
+        given(clock.millis()).willReturn(1900L);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            executeWithFail();
+        }
+
+        // then
+        assertThat(target.isOpen()).isTrue();
+        assertThat(target.permittedPercent()).isZero();
+    }
+
+    @Test
+    public void executeShouldCallHandlersOnStateChanges() {
+        // given
+        final StringBuilder states = new StringBuilder();
+        target.openHandler(ignored -> states.append("open;"))
+                .halfOpenHandler(ignored -> states.append("half-open;"))
+                .closeHandler(ignored -> states.append("closed;"));
+
+        openCircuit();
+
+        given(clock.millis()).willReturn(1300L);
+        executeWithSuccess();
+
+        given(clock.millis()).willReturn(2300L);
+
+        // when
+        executeWithSuccess();
+
+        // then
+        assertThat(states.toString()).isEqualTo("open;half-open;closed;");
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            executeWithFail();
+        }
+        assertThat(target.isOpen()).isTrue();
+    }
+
+    private Future<String> executeWithSuccess() {
+        return target.execute(promise -> promise.complete("value"));
+    }
+
+    private Future<String> executeWithFail() {
+        return target.execute(promise -> promise.fail(new RuntimeException("exception")));
+    }
+
+    private void executeSlow() {
+        final long startTime = clock.millis();
+        target.execute(promise -> {
+            given(clock.millis()).willReturn(startTime + 100L);
+            promise.complete("value");
+        });
+    }
+}
@@ -0,0 +1,105 @@
+package org.prebid.server.vertx.httpclient;
+
+import io.vertx.core.Future;
+import io.vertx.core.http.HttpMethod;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class AdaptiveCircuitBreakerSecuredHttpClientTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private HttpClient wrappedHttpClient;
+    @Mock
+    private Metrics metrics;
+
+    private AdaptiveCircuitBreakerSecuredHttpClient target;
+
+    @Before
+    public void setUp() {
+        final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        target = new AdaptiveCircuitBreakerSecuredHttpClient(
+                wrappedHttpClient, metrics, 1000L, 2, 50, 0L, 100, 200L, 1000L, 24, clock);
+    }
+
+    @Test
+    public void requestShouldFailOnInvalidUrl() {
+        // when and then
+        assertThatThrownBy(() -> target.request(HttpMethod.GET, "invalid_url", null, (String) null, 0L))
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("Invalid url: invalid_url");
+    }
+
+    @Test
+    public void requestShouldSucceedIfWrappedHttpClientSucceeds() {
+        // given
+        given(wrappedHttpClient.request(any(), anyString(), any(), (String) any(), anyLong(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)));
+
+        // when
+        final Future<HttpClientResponse> result = target.request(HttpMethod.GET, "http://host/path", null, "", 0L);
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        verify(metrics).createHttpClientCircuitBreakerGauge(eq("http_host"), any());
+        verify(metrics).createHttpClientCircuitBreakerPermittedGauge(eq("http_host"), any());
+    }
+
+    @Test
+    public void requestShouldNotCallWrappedHttpClientWhenCircuitIsOpened() {
+        // given
+        given(wrappedHttpClient.request(any(), anyString(), any(), (String) any(), anyLong(), anyLong()))
+                .willReturn(Future.failedFuture(new RuntimeException("exception")));
+
+        // when
+        target.request(HttpMethod.GET, "http://host/path", null, "", 0L);
+        target.request(HttpMethod.GET, "http://host/path", null, "", 0L);
+        final Future<HttpClientResponse> result = target.request(HttpMethod.GET, "http://host/path", null, "", 0L);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).hasMessage("open circuit");
+        verify(wrappedHttpClient, times(2)).request(any(), anyString(), any(), (String) any(), anyLong(), anyLong());
+    }
+
+    @Test
+    public void requestShouldUseSeparateCircuitBreakerPerHost() {
+        // given
+        given(wrappedHttpClient.request(any(), eq("http://host/path"), any(), (String) any(), anyLong(), anyLong()))
+                .willReturn(Future.failedFuture(new RuntimeException("exception")));
+        given(wrappedHttpClient.request(any(), eq("http://other/path"), any(), (String) any(), anyLong(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)));
+
+        target.request(HttpMethod.GET, "http://host/path", null, "", 0L);
+        target.request(HttpMethod.GET, "http://host/path", null, "", 0L);
+
+        // when
+        final Future<HttpClientResponse> result = target.request(HttpMethod.GET, "http://other/path", null, "", 0L);
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+    }
+}
@@ -0,0 +1,176 @@
+package org.prebid.server.vertx.httpclient;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpMethod;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class AdaptivePoolHttpClientTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private io.vertx.core.http.HttpClient vertxHttpClient;
+
+    @Test
+    public void creationShouldFailIfMinPoolSizeIsGreaterThanMax() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new AdaptivePoolHttpClient("bidder", vertx, vertxHttpClient, 10, 5))
+                .withMessage("Min pool size 10 is greater than max pool size 5");
+    }
+
+    @Test
+    public void creationShouldStartWithMaxPoolSize() {
+        // when
+        final AdaptivePoolHttpClient target = new AdaptivePoolHttpClient("bidder", vertx, vertxHttpClient, 1, 10);
+
+        // then
+        assertThat(target.poolSize()).isEqualTo(10);
+    }
+
+    @Test
+    public void evaluationShouldShrinkPoolToMinSizeWhenIdleKeepingUnderlyingClient() {
+        // given
+        final AdaptivePoolHttpClient target = new AdaptivePoolHttpClient("bidder", vertx, vertxHttpClient, 2, 10);
+
+        // when
+        capturePeriodicHandler().handle(1L);
+
+        // then
+        assertThat(target.poolSize()).isEqualTo(2);
+        verify(vertxHttpClient, never()).close();
+    }
+
+    @Test
+    public void evaluationShouldNotResizePoolWhenChangeIsBelowThreshold() {
+        // given
+        final AdaptivePoolHttpClient target = new AdaptivePoolHttpClient("bidder", vertx, vertxHttpClient, 9, 10);
+
+        // when
+        capturePeriodicHandler().handle(1L);
+
+        // then
+        assertThat(target.poolSize()).isEqualTo(10);
+    }
+
+    @Test
+    public void evaluationShouldGrowPoolToPeakConcurrencyAndSendWaitingRequests() {
+        // given
+        final AdaptivePoolHttpClient target = new AdaptivePoolHttpClient("bidder", vertx, vertxHttpClient, 1, 10);
+        final Handler<Long> periodicHandler = capturePeriodicHandler();
+        periodicHandler.handle(1L);
+
+        given(vertxHttpClient.request(any())).willReturn(Promise.<HttpClientRequest>promise().future());
+
+        // when
+        for (int i = 0; i < 6; i++) {
+            request(target);
+        }
+        verify(vertxHttpClient).request(any());
+        periodicHandler.handle(2L);
+
+        // then
+        assertThat(target.poolSize()).isEqualTo(6);
+        verify(vertxHttpClient, times(6)).request(any());
+    }
+
+    @Test
+    public void requestShouldWaitForFreeConnectionWhenPoolSizeIsReached() {
+        // given
+        final AdaptivePoolHttpClient target = new AdaptivePoolHttpClient("bidder", vertx, vertxHttpClient, 1, 1);
+
+        final Promise<HttpClientRequest> firstRequest = Promise.promise();
+        given(vertxHttpClient.request(any()))
+                .willReturn(firstRequest.future())
+                .willReturn(Future.failedFuture("second failed"));
+
+        // when
+        final Future<HttpClientResponse> firstResult = request(target);
+        final Future<HttpClientResponse> secondResult = request(target);
+
+        // then
+        verify(vertxHttpClient).request(any());
+        assertThat(secondResult.isComplete()).isFalse();
+
+        firstRequest.fail("first failed");
+
+        assertThat(firstResult.cause()).hasMessage("first failed");
+        assertThat(secondResult.cause()).hasMessage("second failed");
+        verify(vertxHttpClient, times(2)).request(any());
+    }
+
+    @Test
+    public void requestShouldFailWhenTimeoutExpiredWhileWaitingForFreeConnection() {
+        // given
+        final AdaptivePoolHttpClient target = new AdaptivePoolHttpClient("bidder", vertx, vertxHttpClient, 1, 1);
+
+        given(vertxHttpClient.request(any())).willReturn(Promise.<HttpClientRequest>promise().future());
+        request(target);
+
+        // when
+        final Future<HttpClientResponse> result = request(target);
+        captureLastTimerHandler().handle(1L);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).isInstanceOf(TimeoutException.class);
+        verify(vertxHttpClient).request(any());
+    }
+
+    @Test
+    public void closeShouldCancelEvaluationAndCloseUnderlyingClient() {
+        // given
+        given(vertx.setPeriodic(eq(AdaptivePoolHttpClient.EVALUATION_PERIOD_MS), any())).willReturn(42L);
+        final AdaptivePoolHttpClient target = new AdaptivePoolHttpClient("bidder", vertx, vertxHttpClient, 1, 10);
+
+        // when
+        target.close();
+
+        // then
+        verify(vertx).cancelTimer(42L);
+        verify(vertxHttpClient).close();
+    }
+
+    private static Future<HttpClientResponse> request(AdaptivePoolHttpClient target) {
+        return target.request(HttpMethod.POST, "http://example.com", MultiMap.caseInsensitiveMultiMap(), "body", 500L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Handler<Long> capturePeriodicHandler() {
+        final ArgumentCaptor<Handler<Long>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setPeriodic(eq(AdaptivePoolHttpClient.EVALUATION_PERIOD_MS), handlerCaptor.capture());
+        return handlerCaptor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Handler<Long> captureLastTimerHandler() {
+        final ArgumentCaptor<Handler<Long>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx, atLeastOnce()).setTimer(eq(500L), handlerCaptor.capture());
+        return handlerCaptor.getValue();
+    }
+}
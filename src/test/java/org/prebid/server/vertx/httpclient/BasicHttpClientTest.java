@@ -96,6 +96,22 @@ public class BasicHttpClientTest {
         assertThat(future.succeeded()).isTrue();
     }
 
+    @Test
+    public void requestShouldReturnResponseWithReceivedBodyBuffer() {
+        // given
+        final Buffer body = Buffer.buffer("response");
+        given(httpClientResponse.statusCode()).willReturn(200);
+        given(httpClientResponse.body()).willReturn(Future.succeededFuture(body));
+
+        // when
+        final Future<org.prebid.server.vertx.httpclient.model.HttpClientResponse> future =
+                httpClient.request(HttpMethod.GET, "http://www.example.com", null, (String) null, 1L);
+
+        // then
+        assertThat(future.result().getBodyBuffer()).isSameAs(body);
+        assertThat(future.result().getBody()).isEqualTo("response");
+    }
+
     @Test
     public void requestShouldAllowFollowingRedirections() {
         // given and when